@@ -1,6 +1,11 @@
 package com.agentframework.multi_agent_reliability.adapter;
 
 import com.agentframework.multi_agent_reliability.model.AgentFrameworkType;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
+
+import java.util.List;
 import java.util.Map;
 import java.util.concurrent.CompletableFuture;
 
@@ -21,7 +26,8 @@ public interface AgentAdapter {
     String executeTask(String taskInput, String taskDescription, Map<String, String> metadata) throws Exception;
     
     /**
-     * Execute a task asynchronously
+     * Execute a task asynchronously on non-blocking I/O: no thread is held while the call is outstanding.
+     * Cancelling the returned future aborts the underlying request.
      * @param taskInput The input for the task
      * @param taskDescription Description of the task to be performed
      * @param metadata Additional configuration and parameters
@@ -29,6 +35,81 @@ public interface AgentAdapter {
      */
     CompletableFuture<String> executeTaskAsync(String taskInput, String taskDescription, Map<String, String> metadata);
     
+    /**
+     * Execute a task asynchronously with a prompt already rendered by {@link #renderPrompt}, so it
+     * isn't rendered again on every attempt. The default ignores the prompt and renders its own.
+     * @param prompt The prompt rendered for these arguments
+     * @return CompletableFuture containing the task execution result
+     */
+    default CompletableFuture<String> executeTaskAsync(String taskInput, String taskDescription, RenderedPrompt prompt,
+                                                       Map<String, String> metadata) {
+        return executeTaskAsync(taskInput, taskDescription, metadata);
+    }
+    
+    /**
+     * Execute many independent tasks. Adapters whose provider supports batching pack them into
+     * one submission; the default runs them as a bounded parallel fan-out of {@link #executeTaskAsync}.
+     * A failed task yields a failed result rather than failing the whole batch.
+     * Cancelling the returned future abandons the tasks still outstanding.
+     * @param tasks Tasks with unique request IDs
+     * @return CompletableFuture of the results keyed by request ID
+     */
+    default CompletableFuture<Map<String, BatchResult>> executeBatch(List<BatchTask> tasks) {
+        return Flux.fromIterable(tasks)
+                .flatMap(task -> Mono.fromFuture(() -> task.getPrompt() != null
+                                ? executeTaskAsync(task.getTaskInput(), task.getTaskDescription(), task.getPrompt(), task.getMetadata())
+                                : executeTaskAsync(task.getTaskInput(), task.getTaskDescription(), task.getMetadata()))
+                        .map(result -> BatchResult.success(task.getRequestId(), result))
+                        .onErrorResume(error -> Mono.just(BatchResult.failure(task.getRequestId(), error.getMessage()))),
+                        getBatchConcurrency())
+                .collectMap(BatchResult::getRequestId)
+                .toFuture();
+    }
+    
+    /**
+     * Get how long a batch of the given size may take before its executions time out.
+     * The default fan-out runs at most {@link #getBatchConcurrency()} calls at a time, so the
+     * batch gets the default timeout once per round of calls.
+     * @return timeout in milliseconds
+     */
+    default long getBatchTimeoutMs(int batchSize) {
+        int rounds = Math.max(1, (batchSize + getBatchConcurrency() - 1) / getBatchConcurrency());
+        return getDefaultTimeoutMs() * rounds;
+    }
+    
+    /**
+     * Get the maximum number of calls in flight when a batch is fanned out
+     * @return Maximum concurrent calls per batch
+     */
+    default int getBatchConcurrency() {
+        return 8;
+    }
+    
+    /**
+     * Execute a task, streaming the completion as it is generated.
+     * The default implementation emits the whole result as a single chunk.
+     * @param taskInput The input for the task
+     * @param taskDescription Description of the task to be performed
+     * @param metadata Additional configuration and parameters
+     * @return Flux of completion chunks, in order; concatenated they form the raw result
+     */
+    default Flux<String> executeTaskStream(String taskInput, String taskDescription, Map<String, String> metadata) {
+        return Mono.fromCallable(() -> executeTask(taskInput, taskDescription, metadata))
+                .subscribeOn(Schedulers.boundedElastic())
+                .flux();
+    }
+    
+    /**
+     * Execute a task, streaming the completion, with a prompt already rendered by {@link #renderPrompt}.
+     * The default ignores the prompt and renders its own.
+     * @param prompt The prompt rendered for these arguments
+     * @return Flux of completion chunks, in order; concatenated they form the raw result
+     */
+    default Flux<String> executeTaskStream(String taskInput, String taskDescription, RenderedPrompt prompt,
+                                           Map<String, String> metadata) {
+        return executeTaskStream(taskInput, taskDescription, metadata);
+    }
+    
     /**
      * Get the framework type this adapter supports
      * @return The AgentFrameworkType
@@ -36,11 +117,21 @@ public interface AgentAdapter {
     AgentFrameworkType getFrameworkType();
     
     /**
-     * Check if the adapter is available and properly configured
+     * Check if the adapter is properly configured. Must be cheap: it must not call the backing service.
+     * Live reachability is tracked by AdapterAvailabilityMonitor through {@link #probeAvailability()}.
      * @return true if the adapter is ready to use
      */
     boolean isAvailable();
     
+    /**
+     * Check availability with a live call to the backing service.
+     * May be slow and billable; called periodically by AdapterAvailabilityMonitor only.
+     * @return true if the backing service answered
+     */
+    default boolean probeAvailability() {
+        return isAvailable();
+    }
+    
     /**
      * Get adapter-specific configuration information
      * @return Map of configuration details
@@ -58,6 +149,17 @@ public interface AgentAdapter {
                taskDescription != null && !taskDescription.trim().isEmpty();
     }
     
+    /**
+     * Render the final prompt this adapter sends for a task
+     * @param taskInput The input for the task
+     * @param taskDescription Description of the task to be performed
+     * @param metadata The prepared execution metadata
+     * @return The prompt text and its hash
+     */
+    default RenderedPrompt renderPrompt(String taskInput, String taskDescription, Map<String, String> metadata) {
+        return PromptTemplateRegistry.STANDARD.render(taskInput, taskDescription, metadata);
+    }
+    
     /**
      * Get default timeout in milliseconds for this adapter
      * @return timeout in milliseconds
@@ -0,0 +1,41 @@
+package com.agentframework.multi_agent_reliability.adapter;
+
+/**
+ * Outcome of one task of a batch: its result, or why it failed
+ */
+public class BatchResult {
+
+    private final String requestId;
+    private final String result;
+    private final String errorMessage;
+
+    private BatchResult(String requestId, String result, String errorMessage) {
+        this.requestId = requestId;
+        this.result = result;
+        this.errorMessage = errorMessage;
+    }
+
+    public static BatchResult success(String requestId, String result) {
+        return new BatchResult(requestId, result, null);
+    }
+
+    public static BatchResult failure(String requestId, String errorMessage) {
+        return new BatchResult(requestId, null, errorMessage);
+    }
+
+    public String getRequestId() {
+        return requestId;
+    }
+
+    public String getResult() {
+        return result;
+    }
+
+    public String getErrorMessage() {
+        return errorMessage;
+    }
+
+    public boolean isSuccess() {
+        return errorMessage == null;
+    }
+}
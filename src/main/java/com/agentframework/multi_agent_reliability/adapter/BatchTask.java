@@ -0,0 +1,57 @@
+package com.agentframework.multi_agent_reliability.adapter;
+
+import java.util.Map;
+
+/**
+ * One task of a batch submitted through {@link AgentAdapter#executeBatch}
+ */
+public class BatchTask {
+
+    public static final String BATCHED_KEY = "batched";
+
+    private final String requestId;
+    private final String taskInput;
+    private final String taskDescription;
+    private final RenderedPrompt prompt;
+    private final Map<String, String> metadata;
+
+    /**
+     * @param requestId Unique within the batch; results are keyed by it
+     * @param metadata Prepared metadata; the adapter may add to it (e.g. token usage)
+     */
+    public BatchTask(String requestId, String taskInput, String taskDescription, Map<String, String> metadata) {
+        this(requestId, taskInput, taskDescription, null, metadata);
+    }
+
+    /**
+     * @param prompt The prompt already rendered for the task, or null to have the adapter render it
+     */
+    public BatchTask(String requestId, String taskInput, String taskDescription, RenderedPrompt prompt,
+                     Map<String, String> metadata) {
+        this.requestId = requestId;
+        this.taskInput = taskInput;
+        this.taskDescription = taskDescription;
+        this.prompt = prompt;
+        this.metadata = metadata;
+    }
+
+    public String getRequestId() {
+        return requestId;
+    }
+
+    public String getTaskInput() {
+        return taskInput;
+    }
+
+    public String getTaskDescription() {
+        return taskDescription;
+    }
+
+    public RenderedPrompt getPrompt() {
+        return prompt;
+    }
+
+    public Map<String, String> getMetadata() {
+        return metadata;
+    }
+}
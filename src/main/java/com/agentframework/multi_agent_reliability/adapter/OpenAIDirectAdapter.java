@@ -1,29 +1,76 @@
 package com.agentframework.multi_agent_reliability.adapter;
 
 import com.agentframework.multi_agent_reliability.model.AgentFrameworkType;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.ParameterizedTypeReference;
+import org.springframework.core.io.ByteArrayResource;
+import org.springframework.core.io.buffer.DataBuffer;
 import org.springframework.http.*;
+import org.springframework.http.client.MultipartBodyBuilder;
+import org.springframework.http.codec.ServerSentEvent;
 import org.springframework.stereotype.Component;
-import org.springframework.web.client.RestTemplate;
+import org.springframework.web.reactive.function.BodyInserters;
+import org.springframework.web.reactive.function.client.WebClient;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
 import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
 
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.Collection;
 import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
 import java.util.Map;
+import java.util.Set;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
 
 @Component
 public class OpenAIDirectAdapter implements AgentAdapter {
     
+    private static final Logger logger = LoggerFactory.getLogger(OpenAIDirectAdapter.class);
+    
     @Value("${spring.ai.openai.api-key}")
     private String apiKey;
     
-    private final RestTemplate restTemplate;
+    private final WebClient webClient;
     private final ObjectMapper objectMapper;
-    private static final String OPENAI_API_URL = "https://api.openai.com/v1/chat/completions";
+    private final String baseUrl;
+    private final PromptTemplateRegistry promptTemplates;
+    private final boolean batchEnabled;
+    private final Duration batchPollInterval;
+    private final Duration batchMaxWait;
+    private static final String CHAT_COMPLETIONS_PATH = "/chat/completions";
+    private static final String MODELS_PATH = "/models";
+    private static final String FILES_PATH = "/files";
+    private static final String BATCHES_PATH = "/batches";
+    // The only completion window the Batch API offers
+    private static final Duration BATCH_COMPLETION_WINDOW = Duration.ofHours(24);
+    private static final Set<String> BATCH_TERMINAL_STATUSES = Set.of("completed", "failed", "expired", "cancelled");
+    private static final Duration PROBE_TIMEOUT = Duration.ofSeconds(10);
     
-    public OpenAIDirectAdapter() {
-        this.restTemplate = new RestTemplate();
+    @Autowired
+    public OpenAIDirectAdapter(@Qualifier("openAIWebClient") WebClient webClient,
+                               @Value("${app.agent.openai.base-url:https://api.openai.com/v1}") String baseUrl,
+                               @Value("${app.agent.openai.batch.enabled:true}") boolean batchEnabled,
+                               @Value("${app.agent.openai.batch.poll-interval-ms:10000}") long batchPollIntervalMs,
+                               @Value("${app.agent.openai.batch.max-wait-ms:86400000}") long batchMaxWaitMs,
+                               PromptTemplateRegistry promptTemplates) {
+        this.webClient = webClient;
+        this.baseUrl = baseUrl;
+        this.batchEnabled = batchEnabled;
+        this.batchPollInterval = Duration.ofMillis(batchPollIntervalMs);
+        // Waiting longer than the completion window is pointless; the batch expires by then
+        Duration maxWait = Duration.ofMillis(batchMaxWaitMs);
+        this.batchMaxWait = maxWait.compareTo(BATCH_COMPLETION_WINDOW) < 0 ? maxWait : BATCH_COMPLETION_WINDOW;
+        this.promptTemplates = promptTemplates;
         this.objectMapper = new ObjectMapper();
     }
     
@@ -38,7 +85,7 @@ public class OpenAIDirectAdapter implements AgentAdapter {
         }
         
         try {
-            String prompt = buildPrompt(taskInput, taskDescription, metadata);
+            String prompt = renderPrompt(taskInput, taskDescription, metadata).getText();
             String response = callOpenAIAPI(prompt, metadata);
             return postProcessResult(response, metadata);
         } catch (Exception e) {
@@ -46,15 +93,119 @@ public class OpenAIDirectAdapter implements AgentAdapter {
         }
     }
     
+    @Override
+    public Flux<String> executeTaskStream(String taskInput, String taskDescription, Map<String, String> metadata) {
+        if (!validateInput(taskInput, taskDescription)) {
+            return Flux.error(new IllegalArgumentException("Invalid task input or description"));
+        }
+        
+        return executeTaskStream(taskInput, taskDescription, renderPrompt(taskInput, taskDescription, metadata), metadata);
+    }
+    
+    @Override
+    public Flux<String> executeTaskStream(String taskInput, String taskDescription, RenderedPrompt prompt,
+                                          Map<String, String> metadata) {
+        if (!validateInput(taskInput, taskDescription)) {
+            return Flux.error(new IllegalArgumentException("Invalid task input or description"));
+        }
+        
+        if (apiKey == null || apiKey.trim().isEmpty() || apiKey.equals("your-api-key-here")) {
+            return Flux.error(new IllegalArgumentException("OpenAI API key is not configured"));
+        }
+        
+        Map<String, Object> requestBody = buildRequestBody(prompt.getText(), metadata);
+        requestBody.put("stream", true);
+        // Ask for a final chunk carrying token usage
+        requestBody.put("stream_options", Map.of("include_usage", true));
+        
+        return webClient.post()
+                .uri(CHAT_COMPLETIONS_PATH)
+                .headers(headers -> headers.setBearerAuth(apiKey))
+                .contentType(MediaType.APPLICATION_JSON)
+                .accept(MediaType.TEXT_EVENT_STREAM)
+                .bodyValue(requestBody)
+                .retrieve()
+                .bodyToFlux(new ParameterizedTypeReference<ServerSentEvent<String>>() {})
+                .mapNotNull(ServerSentEvent::data)
+                .takeWhile(data -> !"[DONE]".equals(data.trim()))
+                .mapNotNull(data -> parseStreamChunk(data, metadata))
+                .onErrorMap(e -> new RuntimeException(handleExecutionError(
+                        e instanceof Exception ex ? ex : new RuntimeException(e), taskInput, metadata), e));
+    }
+    
     @Override
     public CompletableFuture<String> executeTaskAsync(String taskInput, String taskDescription, Map<String, String> metadata) {
-        return CompletableFuture.supplyAsync(() -> {
-            try {
-                return executeTask(taskInput, taskDescription, metadata);
-            } catch (Exception e) {
-                throw new RuntimeException(e);
+        if (!validateInput(taskInput, taskDescription)) {
+            return CompletableFuture.failedFuture(new IllegalArgumentException("Invalid task input or description"));
+        }
+        
+        return executeTaskAsync(taskInput, taskDescription, renderPrompt(taskInput, taskDescription, metadata), metadata);
+    }
+    
+    @Override
+    public CompletableFuture<String> executeTaskAsync(String taskInput, String taskDescription, RenderedPrompt prompt,
+                                                      Map<String, String> metadata) {
+        if (!validateInput(taskInput, taskDescription)) {
+            return CompletableFuture.failedFuture(new IllegalArgumentException("Invalid task input or description"));
+        }
+        
+        if (apiKey == null || apiKey.trim().isEmpty() || apiKey.equals("your-api-key-here")) {
+            return CompletableFuture.failedFuture(new IllegalArgumentException("OpenAI API key is not configured"));
+        }
+        
+        return requestCompletion(prompt.getText(), metadata)
+                .map(response -> postProcessResult(response, metadata))
+                .onErrorMap(e -> new Exception(handleExecutionError(
+                        e instanceof Exception ex ? ex : new RuntimeException(e), taskInput, metadata), e))
+                .toFuture();
+    }
+    
+    /**
+     * Pack the tasks into one OpenAI Batch API submission: upload them as a JSONL file, create the
+     * batch, poll it until it ends and read the output and error files. Single tasks, or all tasks
+     * when batching is disabled, fall back to the default fan-out.
+     */
+    @Override
+    public CompletableFuture<Map<String, BatchResult>> executeBatch(List<BatchTask> tasks) {
+        if (!batchEnabled || tasks.size() < 2) {
+            return AgentAdapter.super.executeBatch(tasks);
+        }
+        
+        if (apiKey == null || apiKey.trim().isEmpty() || apiKey.equals("your-api-key-here")) {
+            return CompletableFuture.failedFuture(new IllegalArgumentException("OpenAI API key is not configured"));
+        }
+        
+        Map<String, BatchResult> results = new ConcurrentHashMap<>();
+        Map<String, BatchTask> submitted = new LinkedHashMap<>();
+        for (BatchTask task : tasks) {
+            if (validateInput(task.getTaskInput(), task.getTaskDescription())) {
+                submitted.put(task.getRequestId(), task);
+            } else {
+                results.put(task.getRequestId(), BatchResult.failure(task.getRequestId(), "Invalid task input or description"));
             }
-        });
+        }
+        if (submitted.isEmpty()) {
+            return CompletableFuture.completedFuture(results);
+        }
+        
+        return Mono.fromCallable(() -> buildBatchFile(submitted.values()))
+                .flatMap(this::uploadBatchFile)
+                .flatMap(this::createBatch)
+                .flatMap(this::awaitBatch)
+                .flatMap(batch -> Mono.zip(
+                                downloadFile(batch.path("output_file_id")),
+                                downloadFile(batch.path("error_file_id")))
+                        .map(files -> {
+                            parseBatchResults(files.getT1(), submitted, results);
+                            parseBatchResults(files.getT2(), submitted, results);
+                            String status = batch.path("status").asText();
+                            for (String requestId : submitted.keySet()) {
+                                results.putIfAbsent(requestId, BatchResult.failure(requestId,
+                                        "No result for request in batch " + batch.path("id").asText() + " (status: " + status + ")"));
+                            }
+                            return (Map<String, BatchResult>) results;
+                        }))
+                .toFuture();
     }
     
     @Override
@@ -64,13 +215,23 @@ public class OpenAIDirectAdapter implements AgentAdapter {
     
     @Override
     public boolean isAvailable() {
-        if (apiKey == null || apiKey.trim().isEmpty() || apiKey.equals("your-api-key-here")) {
+        return apiKey != null && !apiKey.trim().isEmpty() && !apiKey.equals("your-api-key-here");
+    }
+    
+    @Override
+    public boolean probeAvailability() {
+        if (!isAvailable()) {
             return false;
         }
         
         try {
-            // Test with a simple call
-            callOpenAIAPI("Hello", new HashMap<>());
+            // Listing models checks reachability and the API key without a billable completion
+            webClient.get()
+                    .uri(MODELS_PATH)
+                    .headers(headers -> headers.setBearerAuth(apiKey))
+                    .retrieve()
+                    .toBodilessEntity()
+                    .block(PROBE_TIMEOUT);
             return true;
         } catch (Exception e) {
             return false;
@@ -87,7 +248,7 @@ public class OpenAIDirectAdapter implements AgentAdapter {
         config.put("available", isAvailable());
         config.put("defaultTimeout", getDefaultTimeoutMs());
         config.put("maxRetries", getMaxRetries());
-        config.put("apiEndpoint", OPENAI_API_URL);
+        config.put("apiEndpoint", baseUrl + CHAT_COMPLETIONS_PATH);
         config.put("defaultModel", "gpt-3.5-turbo");
         return config;
     }
@@ -97,6 +258,22 @@ public class OpenAIDirectAdapter implements AgentAdapter {
         return 180000L; // 3 minutes for direct API calls
     }
     
+    /**
+     * Batch API submissions may take up to the batch wait, plus a couple of polls to collect the results
+     */
+    @Override
+    public long getBatchTimeoutMs(int batchSize) {
+        if (!batchEnabled || batchSize < 2) {
+            return AgentAdapter.super.getBatchTimeoutMs(batchSize);
+        }
+        return batchMaxWait.plus(batchPollInterval.multipliedBy(2)).toMillis();
+    }
+    
+    @Override
+    public RenderedPrompt renderPrompt(String taskInput, String taskDescription, Map<String, String> metadata) {
+        return promptTemplates.render(taskInput, taskDescription, metadata);
+    }
+    
     @Override
     public Map<String, String> prepareMetadata(Map<String, String> originalMetadata) {
         Map<String, String> metadata = new HashMap<>();
@@ -161,43 +338,52 @@ public class OpenAIDirectAdapter implements AgentAdapter {
     }
     
     private String callOpenAIAPI(String prompt, Map<String, String> metadata) throws Exception {
-        HttpHeaders headers = new HttpHeaders();
-        headers.setContentType(MediaType.APPLICATION_JSON);
-        headers.setBearerAuth(apiKey);
-        
-        // Build request body
-        Map<String, Object> requestBody = new HashMap<>();
-        requestBody.put("model", metadata.getOrDefault("model", "gpt-3.5-turbo"));
-        
-        Map<String, String> message = new HashMap<>();
-        message.put("role", "user");
-        message.put("content", prompt);
-        requestBody.put("messages", new Map[]{message});
-        
-        // Add optional parameters
-        try {
-            if (metadata.containsKey("temperature")) {
-                requestBody.put("temperature", Double.parseDouble(metadata.get("temperature")));
-            }
-            if (metadata.containsKey("maxTokens")) {
-                requestBody.put("max_tokens", Integer.parseInt(metadata.get("maxTokens")));
-            }
-        } catch (NumberFormatException e) {
-            // Ignore invalid numeric parameters
+        // Interrupting the calling thread cancels the exchange
+        String content = requestCompletion(prompt, metadata).block();
+        if (content == null) {
+            throw new Exception("Empty response received from OpenAI API");
+        }
+        return content;
+    }
+    
+    /**
+     * Request a chat completion on the pooled client; non-2xx responses raise WebClientResponseException.
+     * The body is parsed straight from the received buffers without decoding it to a string first.
+     */
+    private Mono<String> requestCompletion(String prompt, Map<String, String> metadata) {
+        return Mono.fromCallable(() -> objectMapper.writeValueAsString(buildRequestBody(prompt, metadata)))
+                .flatMap(requestJson -> webClient.post()
+                        .uri(CHAT_COMPLETIONS_PATH)
+                        .headers(headers -> headers.setBearerAuth(apiKey))
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .bodyValue(requestJson)
+                        .retrieve()
+                        .bodyToMono(DataBuffer.class))
+                .switchIfEmpty(Mono.error(() -> new Exception("Empty response received from OpenAI API")))
+                .handle((responseBody, sink) -> {
+                    // Closing the stream releases the pooled buffers
+                    try (InputStream in = responseBody.asInputStream(true)) {
+                        sink.next(parseCompletion(OpenAIResponseParser.parse(in), metadata));
+                    } catch (Exception e) {
+                        sink.error(e);
+                    }
+                });
+    }
+    
+    private String parseCompletion(OpenAIResponseParser.ParsedResponse response, Map<String, String> metadata) throws Exception {
+        if (!response.hasChoice()) {
+            throw new Exception("No response choices received from OpenAI API");
         }
         
-        String requestJson = objectMapper.writeValueAsString(requestBody);
-        HttpEntity<String> request = new HttpEntity<>(requestJson, headers);
-        
-        // Make API call
-        ResponseEntity<String> response = restTemplate.postForEntity(OPENAI_API_URL, request, String.class);
-        
-        if (response.getStatusCode() != HttpStatus.OK) {
-            throw new Exception("OpenAI API call failed with status: " + response.getStatusCode());
+        if (!response.hasMessage()) {
+            throw new Exception("No message content in OpenAI API response");
         }
         
-        // Parse response
-        JsonNode responseJson = objectMapper.readTree(response.getBody());
+        response.copyUsageTo(metadata);
+        return response.getContent() != null ? response.getContent() : "";
+    }
+    
+    private String parseCompletion(JsonNode responseJson, Map<String, String> metadata) throws Exception {
         JsonNode choices = responseJson.get("choices");
         
         if (choices == null || choices.size() == 0) {
@@ -215,41 +401,167 @@ public class OpenAIDirectAdapter implements AgentAdapter {
         
         // Add usage information to metadata if available
         JsonNode usage = responseJson.get("usage");
-        if (usage != null && metadata != null) {
-            metadata.put("promptTokens", String.valueOf(usage.get("prompt_tokens").asInt()));
-            metadata.put("completionTokens", String.valueOf(usage.get("completion_tokens").asInt()));
-            metadata.put("totalTokens", String.valueOf(usage.get("total_tokens").asInt()));
+        if (usage != null) {
+            TokenUsage.record(metadata, usage.path("prompt_tokens").asInt(),
+                    usage.path("completion_tokens").asInt(), usage.path("total_tokens").asInt());
         }
         
         return content;
     }
     
-    private String buildPrompt(String taskInput, String taskDescription, Map<String, String> metadata) {
-        StringBuilder promptBuilder = new StringBuilder();
-        
-        // Add system instructions if provided
-        if (metadata != null && metadata.containsKey("systemPrompt")) {
-            promptBuilder.append("System Instructions: ").append(metadata.get("systemPrompt")).append("\n\n");
-        }
+    private Map<String, Object> buildRequestBody(String prompt, Map<String, String> metadata) {
+        Map<String, Object> requestBody = new HashMap<>();
+        requestBody.put("model", metadata.getOrDefault("model", "gpt-3.5-turbo"));
         
-        // Add task description
-        promptBuilder.append("Task: ").append(taskDescription).append("\n\n");
+        Map<String, String> message = new HashMap<>();
+        message.put("role", "user");
+        message.put("content", prompt);
+        requestBody.put("messages", new Map[]{message});
         
-        // Add specific instructions
-        if (metadata != null && metadata.containsKey("instructions")) {
-            promptBuilder.append("Instructions: ").append(metadata.get("instructions")).append("\n\n");
+        // Add optional parameters
+        try {
+            if (metadata.containsKey("temperature")) {
+                requestBody.put("temperature", Double.parseDouble(metadata.get("temperature")));
+            }
+            if (metadata.containsKey("maxTokens")) {
+                requestBody.put("max_tokens", Integer.parseInt(metadata.get("maxTokens")));
+            }
+        } catch (NumberFormatException e) {
+            // Ignore invalid numeric parameters
         }
         
-        // Add the main input
-        promptBuilder.append("Input: ").append(taskInput).append("\n\n");
-        
-        // Add output format guidance
-        if (metadata != null && metadata.containsKey("outputFormat")) {
-            promptBuilder.append("Please format your response as: ").append(metadata.get("outputFormat"));
-        } else {
-            promptBuilder.append("Please provide a clear and helpful response.");
+        return requestBody;
+    }
+    
+    private byte[] buildBatchFile(Collection<BatchTask> tasks) throws Exception {
+        StringBuilder jsonl = new StringBuilder();
+        for (BatchTask task : tasks) {
+            RenderedPrompt prompt = task.getPrompt() != null
+                    ? task.getPrompt()
+                    : renderPrompt(task.getTaskInput(), task.getTaskDescription(), task.getMetadata());
+            Map<String, Object> line = new LinkedHashMap<>();
+            line.put("custom_id", task.getRequestId());
+            line.put("method", "POST");
+            line.put("url", "/v1" + CHAT_COMPLETIONS_PATH);
+            line.put("body", buildRequestBody(prompt.getText(), task.getMetadata()));
+            jsonl.append(objectMapper.writeValueAsString(line)).append('\n');
         }
+        return jsonl.toString().getBytes(StandardCharsets.UTF_8);
+    }
+    
+    private Mono<String> uploadBatchFile(byte[] content) {
+        MultipartBodyBuilder body = new MultipartBodyBuilder();
+        body.part("purpose", "batch");
+        body.part("file", new ByteArrayResource(content))
+                .filename("batch.jsonl")
+                .contentType(MediaType.APPLICATION_OCTET_STREAM);
         
-        return promptBuilder.toString();
+        return webClient.post()
+                .uri(FILES_PATH)
+                .headers(headers -> headers.setBearerAuth(apiKey))
+                .contentType(MediaType.MULTIPART_FORM_DATA)
+                .body(BodyInserters.fromMultipartData(body.build()))
+                .retrieve()
+                .bodyToMono(JsonNode.class)
+                .map(file -> file.path("id").asText());
+    }
+    
+    private Mono<String> createBatch(String inputFileId) {
+        return webClient.post()
+                .uri(BATCHES_PATH)
+                .headers(headers -> headers.setBearerAuth(apiKey))
+                .contentType(MediaType.APPLICATION_JSON)
+                .bodyValue(Map.of(
+                        "input_file_id", inputFileId,
+                        "endpoint", "/v1" + CHAT_COMPLETIONS_PATH,
+                        "completion_window", BATCH_COMPLETION_WINDOW.toHours() + "h"))
+                .retrieve()
+                .bodyToMono(JsonNode.class)
+                .map(batch -> batch.path("id").asText());
+    }
+    
+    /**
+     * Poll a batch until it reaches a terminal status; abandoning the wait cancels the batch
+     */
+    private Mono<JsonNode> awaitBatch(String batchId) {
+        return Flux.interval(Duration.ZERO, batchPollInterval)
+                .concatMap(tick -> webClient.get()
+                        .uri(BATCHES_PATH + "/{id}", batchId)
+                        .headers(headers -> headers.setBearerAuth(apiKey))
+                        .retrieve()
+                        .bodyToMono(JsonNode.class))
+                .filter(batch -> BATCH_TERMINAL_STATUSES.contains(batch.path("status").asText()))
+                .next()
+                .timeout(batchMaxWait)
+                .doOnCancel(() -> cancelBatch(batchId))
+                .doOnError(error -> cancelBatch(batchId));
+    }
+    
+    private void cancelBatch(String batchId) {
+        webClient.post()
+                .uri(BATCHES_PATH + "/{id}/cancel", batchId)
+                .headers(headers -> headers.setBearerAuth(apiKey))
+                .retrieve()
+                .toBodilessEntity()
+                .subscribe(response -> {}, error -> {});
+    }
+    
+    private Mono<String> downloadFile(JsonNode fileId) {
+        if (fileId == null || !fileId.isTextual() || fileId.asText().isEmpty()) {
+            return Mono.just("");
+        }
+        return webClient.get()
+                .uri(FILES_PATH + "/{id}/content", fileId.asText())
+                .headers(headers -> headers.setBearerAuth(apiKey))
+                .retrieve()
+                .bodyToMono(String.class)
+                .defaultIfEmpty("");
+    }
+    
+    /**
+     * Read the result lines of a batch output or error file
+     */
+    private void parseBatchResults(String jsonl, Map<String, BatchTask> submitted, Map<String, BatchResult> results) {
+        for (String line : jsonl.split("\n")) {
+            if (line.isBlank()) {
+                continue;
+            }
+            try {
+                JsonNode entry = objectMapper.readTree(line);
+                String requestId = entry.path("custom_id").asText();
+                BatchTask task = submitted.get(requestId);
+                if (task == null) {
+                    continue;
+                }
+                
+                JsonNode response = entry.path("response");
+                if (response.path("status_code").asInt() == 200) {
+                    String content = parseCompletion(response.path("body"), task.getMetadata());
+                    results.put(requestId, BatchResult.success(requestId, postProcessResult(content, task.getMetadata())));
+                } else {
+                    String message = entry.path("error").path("message").asText(
+                            response.path("body").path("error").path("message").asText(
+                                    "Request failed with status " + response.path("status_code").asInt()));
+                    results.put(requestId, BatchResult.failure(requestId, message));
+                }
+            } catch (Exception e) {
+                logger.warn("Skipping malformed batch result line: {}", e.getMessage());
+            }
+        }
+    }
+    
+    /**
+     * Extract the content delta of one streamed chunk, recording usage from the final chunk
+     */
+    private String parseStreamChunk(String data, Map<String, String> metadata) {
+        try {
+            OpenAIResponseParser.ParsedResponse chunk = OpenAIResponseParser.parse(data);
+            chunk.copyUsageTo(metadata);
+            
+            String content = chunk.getContent();
+            return content != null && !content.isEmpty() ? content : null;
+        } catch (Exception e) {
+            throw new IllegalStateException("Malformed OpenAI stream chunk", e);
+        }
     }
 }
\ No newline at end of file
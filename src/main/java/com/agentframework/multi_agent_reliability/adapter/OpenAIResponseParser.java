@@ -0,0 +1,159 @@
+package com.agentframework.multi_agent_reliability.adapter;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonParseException;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.Map;
+
+/**
+ * Streaming reader of OpenAI chat completion responses and stream chunks.
+ * Only {@code choices[0].message.content} (or {@code choices[0].delta.content} for a chunk) and
+ * {@code usage} are materialized; every other field is skipped token by token, so no response
+ * string or JSON tree is built.
+ */
+final class OpenAIResponseParser {
+
+    private static final JsonFactory JSON_FACTORY = new JsonFactory();
+
+    private OpenAIResponseParser() {
+    }
+
+    /**
+     * Parse a response read from a byte stream; the stream is not closed
+     */
+    static ParsedResponse parse(InputStream body) throws IOException {
+        try (JsonParser parser = JSON_FACTORY.createParser(body)) {
+            return parse(parser);
+        }
+    }
+
+    static ParsedResponse parse(String body) throws IOException {
+        try (JsonParser parser = JSON_FACTORY.createParser(body)) {
+            return parse(parser);
+        }
+    }
+
+    private static ParsedResponse parse(JsonParser parser) throws IOException {
+        ParsedResponse response = new ParsedResponse();
+        if (parser.nextToken() != JsonToken.START_OBJECT) {
+            throw new JsonParseException(parser, "Expected an OpenAI response object");
+        }
+
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String field = parser.currentName();
+            JsonToken value = parser.nextToken();
+            if ("choices".equals(field) && value == JsonToken.START_ARRAY) {
+                readChoices(parser, response);
+            } else if ("usage".equals(field) && value == JsonToken.START_OBJECT) {
+                readUsage(parser, response);
+            } else {
+                parser.skipChildren();
+            }
+        }
+        return response;
+    }
+
+    private static void readChoices(JsonParser parser, ParsedResponse response) throws IOException {
+        boolean first = true;
+        while (parser.nextToken() != JsonToken.END_ARRAY) {
+            if (first && parser.currentToken() == JsonToken.START_OBJECT) {
+                response.hasChoice = true;
+                readChoice(parser, response);
+            } else {
+                parser.skipChildren();
+            }
+            first = false;
+        }
+    }
+
+    private static void readChoice(JsonParser parser, ParsedResponse response) throws IOException {
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String field = parser.currentName();
+            JsonToken value = parser.nextToken();
+            // "message" in a full response, "delta" in a stream chunk
+            if (("message".equals(field) || "delta".equals(field)) && value == JsonToken.START_OBJECT) {
+                response.hasMessage = true;
+                readMessage(parser, response);
+            } else {
+                parser.skipChildren();
+            }
+        }
+    }
+
+    private static void readMessage(JsonParser parser, ParsedResponse response) throws IOException {
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String field = parser.currentName();
+            JsonToken value = parser.nextToken();
+            if ("content".equals(field) && value == JsonToken.VALUE_STRING) {
+                response.content = parser.getText();
+            } else {
+                parser.skipChildren();
+            }
+        }
+    }
+
+    private static void readUsage(JsonParser parser, ParsedResponse response) throws IOException {
+        response.hasUsage = true;
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String field = parser.currentName();
+            JsonToken value = parser.nextToken();
+            if (value != JsonToken.VALUE_NUMBER_INT) {
+                parser.skipChildren();
+                continue;
+            }
+            switch (field) {
+                case "prompt_tokens" -> response.promptTokens = parser.getIntValue();
+                case "completion_tokens" -> response.completionTokens = parser.getIntValue();
+                case "total_tokens" -> response.totalTokens = parser.getIntValue();
+                default -> {
+                    // Token details are not tracked
+                }
+            }
+        }
+    }
+
+    /**
+     * The fields of one response or stream chunk that the adapter uses
+     */
+    static final class ParsedResponse {
+        private boolean hasChoice;
+        private boolean hasMessage;
+        private String content;
+        private boolean hasUsage;
+        private int promptTokens;
+        private int completionTokens;
+        private int totalTokens;
+
+        boolean hasChoice() {
+            return hasChoice;
+        }
+
+        boolean hasMessage() {
+            return hasMessage;
+        }
+
+        /**
+         * The message or delta content; null if absent or JSON null
+         */
+        String getContent() {
+            return content;
+        }
+
+        boolean hasUsage() {
+            return hasUsage;
+        }
+
+        /**
+         * Record token usage, if the response carried it, in the execution metadata
+         */
+        void copyUsageTo(Map<String, String> metadata) {
+            if (hasUsage) {
+                TokenUsage.record(metadata, promptTokens, completionTokens, totalTokens);
+            }
+        }
+    }
+}
@@ -0,0 +1,176 @@
+package com.agentframework.multi_agent_reliability.adapter;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * A prompt template compiled once into literal, variable and section segments.
+ * Syntax: {@code {{name}}} inserts a variable, {@code {{#name}}...{{/name}}} renders its body only
+ * when the variable is set and not blank, {@code {{^name}}...{{/name}}} only when it isn't.
+ * {@code taskInput} and {@code taskDescription} are always defined; every other name is looked
+ * up in the execution metadata. Rendering sizes the buffer exactly before appending.
+ */
+public final class PromptTemplate {
+
+    private static final String OPEN = "{{";
+    private static final String CLOSE = "}}";
+
+    private final String name;
+    private final List<Segment> segments;
+
+    private PromptTemplate(String name, List<Segment> segments) {
+        this.name = name;
+        this.segments = segments;
+    }
+
+    /**
+     * Parse a template
+     * @throws IllegalArgumentException if a tag is unterminated or sections are unbalanced
+     */
+    public static PromptTemplate compile(String name, String source) {
+        Deque<Section> open = new ArrayDeque<>();
+        List<Segment> root = new ArrayList<>();
+        List<Segment> current = root;
+
+        int position = 0;
+        while (position < source.length()) {
+            int tagStart = source.indexOf(OPEN, position);
+            if (tagStart < 0) {
+                current.add(new Literal(source.substring(position)));
+                break;
+            }
+            if (tagStart > position) {
+                current.add(new Literal(source.substring(position, tagStart)));
+            }
+            int tagEnd = source.indexOf(CLOSE, tagStart + OPEN.length());
+            if (tagEnd < 0) {
+                throw new IllegalArgumentException("Unterminated tag at " + tagStart + " in prompt template " + name);
+            }
+            String tag = source.substring(tagStart + OPEN.length(), tagEnd).trim();
+            position = tagEnd + CLOSE.length();
+
+            if (tag.startsWith("#") || tag.startsWith("^")) {
+                Section section = new Section(tag.substring(1).trim(), tag.charAt(0) == '^');
+                current.add(section);
+                open.push(section);
+                current = section.body;
+            } else if (tag.startsWith("/")) {
+                String closing = tag.substring(1).trim();
+                if (open.isEmpty() || !open.peek().variable.equals(closing)) {
+                    throw new IllegalArgumentException("Unexpected {{/" + closing + "}} in prompt template " + name);
+                }
+                open.pop();
+                current = open.isEmpty() ? root : open.peek().body;
+            } else if (!tag.isEmpty()) {
+                current.add(new Variable(tag));
+            }
+        }
+
+        if (!open.isEmpty()) {
+            throw new IllegalArgumentException("Unclosed section {{#" + open.peek().variable + "}} in prompt template " + name);
+        }
+        return new PromptTemplate(name, List.copyOf(root));
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public RenderedPrompt render(String taskInput, String taskDescription, Map<String, String> metadata) {
+        Variables variables = new Variables(taskInput, taskDescription, metadata);
+        int length = 0;
+        for (Segment segment : segments) {
+            length += segment.length(variables);
+        }
+        StringBuilder prompt = new StringBuilder(length);
+        for (Segment segment : segments) {
+            segment.appendTo(prompt, variables);
+        }
+        return new RenderedPrompt(name, prompt.toString());
+    }
+
+    private record Variables(String taskInput, String taskDescription, Map<String, String> metadata) {
+        String get(String variable) {
+            return switch (variable) {
+                case "taskInput" -> taskInput;
+                case "taskDescription" -> taskDescription;
+                default -> metadata != null ? metadata.get(variable) : null;
+            };
+        }
+    }
+
+    private interface Segment {
+        int length(Variables variables);
+
+        void appendTo(StringBuilder prompt, Variables variables);
+    }
+
+    private record Literal(String text) implements Segment {
+        @Override
+        public int length(Variables variables) {
+            return text.length();
+        }
+
+        @Override
+        public void appendTo(StringBuilder prompt, Variables variables) {
+            prompt.append(text);
+        }
+    }
+
+    private record Variable(String variable) implements Segment {
+        @Override
+        public int length(Variables variables) {
+            String value = variables.get(variable);
+            return value != null ? value.length() : 0;
+        }
+
+        @Override
+        public void appendTo(StringBuilder prompt, Variables variables) {
+            String value = variables.get(variable);
+            if (value != null) {
+                prompt.append(value);
+            }
+        }
+    }
+
+    private static final class Section implements Segment {
+        private final String variable;
+        private final boolean inverted;
+        private final List<Segment> body = new ArrayList<>();
+
+        private Section(String variable, boolean inverted) {
+            this.variable = variable;
+            this.inverted = inverted;
+        }
+
+        private boolean renders(Variables variables) {
+            String value = variables.get(variable);
+            boolean present = value != null && !value.isBlank();
+            return present != inverted;
+        }
+
+        @Override
+        public int length(Variables variables) {
+            if (!renders(variables)) {
+                return 0;
+            }
+            int length = 0;
+            for (Segment segment : body) {
+                length += segment.length(variables);
+            }
+            return length;
+        }
+
+        @Override
+        public void appendTo(StringBuilder prompt, Variables variables) {
+            if (renders(variables)) {
+                for (Segment segment : body) {
+                    segment.appendTo(prompt, variables);
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,78 @@
+package com.agentframework.multi_agent_reliability.adapter;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.env.Environment;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Named prompt templates shared by all adapters, so every framework is sent the same prompt.
+ * A task selects its template with the {@value #TEMPLATE_KEY} metadata entry, falling back to
+ * {@code app.agent.prompt.default-template}. Besides the built-in templates, a template can be
+ * defined as {@code app.agent.prompt.template.<name>}; each is compiled once, on first use.
+ */
+@Component
+public class PromptTemplateRegistry {
+
+    public static final String TEMPLATE_KEY = "promptTemplate";
+    public static final String PROMPT_HASH_KEY = "promptHash";
+
+    /**
+     * System prompt, task, instructions, input and output format guidance
+     */
+    public static final PromptTemplate STANDARD = PromptTemplate.compile("standard",
+            "{{#systemPrompt}}System Instructions: {{systemPrompt}}\n\n{{/systemPrompt}}"
+                    + "Task: {{taskDescription}}\n\n"
+                    + "{{#instructions}}Instructions: {{instructions}}\n\n{{/instructions}}"
+                    + "{{#examples}}Examples: {{examples}}\n\n{{/examples}}"
+                    + "Input: {{taskInput}}\n\n"
+                    + "{{#outputFormat}}Please format your response as: {{outputFormat}}{{/outputFormat}}"
+                    + "{{^outputFormat}}Please provide a clear and helpful response.{{/outputFormat}}");
+
+    /**
+     * Task and input only
+     */
+    public static final PromptTemplate MINIMAL = PromptTemplate.compile("minimal",
+            "Task: {{taskDescription}}\n\nInput: {{taskInput}}");
+
+    private static final String TEMPLATE_PROPERTY_PREFIX = "app.agent.prompt.template.";
+
+    private final Environment environment;
+    private final String defaultTemplate;
+    private final Map<String, PromptTemplate> templates = new ConcurrentHashMap<>();
+
+    @Autowired
+    public PromptTemplateRegistry(Environment environment,
+                                  @Value("${app.agent.prompt.default-template:standard}") String defaultTemplate) {
+        this.environment = environment;
+        this.defaultTemplate = defaultTemplate;
+        templates.put(STANDARD.getName(), STANDARD);
+        templates.put(MINIMAL.getName(), MINIMAL);
+    }
+
+    /**
+     * Render a task with the template its metadata selects
+     * @throws IllegalArgumentException if the selected template is not defined
+     */
+    public RenderedPrompt render(String taskInput, String taskDescription, Map<String, String> metadata) {
+        return getTemplate(templateNameFor(metadata)).render(taskInput, taskDescription, metadata);
+    }
+
+    public PromptTemplate getTemplate(String name) {
+        return templates.computeIfAbsent(name, templateName -> {
+            String source = environment.getProperty(TEMPLATE_PROPERTY_PREFIX + templateName);
+            if (source == null) {
+                throw new IllegalArgumentException("Unknown prompt template: " + templateName);
+            }
+            return PromptTemplate.compile(templateName, source);
+        });
+    }
+
+    private String templateNameFor(Map<String, String> metadata) {
+        String name = metadata != null ? metadata.get(TEMPLATE_KEY) : null;
+        return name != null && !name.isBlank() ? name.trim() : defaultTemplate;
+    }
+}
@@ -0,0 +1,49 @@
+package com.agentframework.multi_agent_reliability.adapter;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+
+/**
+ * The final prompt text of a task and the template it was rendered from.
+ * The SHA-256 hash is computed on first use and reused as the prompt's cache and dedupe key.
+ */
+public final class RenderedPrompt {
+
+    private final String templateName;
+    private final String text;
+    private String hash;
+
+    public RenderedPrompt(String templateName, String text) {
+        this.templateName = templateName;
+        this.text = text;
+    }
+
+    public String getTemplateName() {
+        return templateName;
+    }
+
+    public String getText() {
+        return text;
+    }
+
+    public String getHash() {
+        String result = hash;
+        if (result == null) {
+            try {
+                MessageDigest digest = MessageDigest.getInstance("SHA-256");
+                result = HexFormat.of().formatHex(digest.digest(text.getBytes(StandardCharsets.UTF_8)));
+            } catch (NoSuchAlgorithmException e) {
+                throw new IllegalStateException("SHA-256 is not available", e);
+            }
+            hash = result;
+        }
+        return result;
+    }
+
+    @Override
+    public String toString() {
+        return text;
+    }
+}
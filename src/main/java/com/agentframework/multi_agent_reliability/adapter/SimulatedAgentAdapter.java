@@ -0,0 +1,359 @@
+package com.agentframework.multi_agent_reliability.adapter;
+
+import com.agentframework.multi_agent_reliability.model.AgentFrameworkType;
+import org.apache.commons.math3.distribution.LogNormalDistribution;
+import org.apache.commons.math3.distribution.NormalDistribution;
+import org.apache.commons.math3.distribution.ParetoDistribution;
+import org.apache.commons.math3.distribution.RealDistribution;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Component;
+import org.springframework.web.reactive.function.client.WebClientResponseException;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.SplittableRandom;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Simulated LLM for offline load and capacity testing: no network, no API key, no cost.
+ * Outputs are deterministic for a given seed and prompt. Latency follows a configurable
+ * distribution (fixed, normal, log-normal or heavy-tailed Pareto) and is waited out on timers,
+ * so simulated calls hold no threads. Calls fail at a configurable error rate, and 429 bursts
+ * reject every call for a while, as a provider's rate limiter would.
+ * Enabled by {@code app.agent.simulated.enabled}, which the "simulated" profile sets.
+ */
+@Component
+@ConditionalOnProperty(name = "app.agent.simulated.enabled", havingValue = "true")
+public class SimulatedAgentAdapter implements AgentAdapter {
+
+    public enum LatencyDistribution {
+        FIXED, NORMAL, LOGNORMAL, PARETO
+    }
+
+    private static final String[] VOCABULARY = {
+            "agent", "system", "result", "analysis", "the", "of", "and", "to", "a", "in", "data", "model",
+            "response", "task", "reliable", "framework", "output", "input", "process", "value", "is", "for",
+            "with", "this", "that", "benchmark", "latency", "error", "request", "summary", "step", "plan"
+    };
+
+    private final long seed;
+    private final LatencyDistribution latencyDistribution;
+    private final long meanLatencyMs;
+    private final RealDistribution latency;
+    private final double timeToFirstTokenRatio;
+    private final double errorRate;
+    private final double rateLimitBurstProbability;
+    private final long rateLimitBurstMs;
+    private final int meanOutputTokens;
+    private final int outputTokensStddev;
+    private final int chunkTokens;
+    private final PromptTemplateRegistry promptTemplates;
+
+    // Calls draw their randomness from the seed and a call sequence number, so a run replays identically
+    private final AtomicLong callSequence = new AtomicLong();
+    private final AtomicLong rateLimitedUntil = new AtomicLong();
+
+    @Autowired
+    public SimulatedAgentAdapter(
+            @Value("${app.agent.simulated.seed:42}") long seed,
+            @Value("${app.agent.simulated.latency.distribution:LOGNORMAL}") LatencyDistribution latencyDistribution,
+            @Value("${app.agent.simulated.latency.mean-ms:800}") long meanLatencyMs,
+            @Value("${app.agent.simulated.latency.stddev-ms:300}") long latencyStddevMs,
+            @Value("${app.agent.simulated.latency.pareto-shape:2.0}") double paretoShape,
+            @Value("${app.agent.simulated.latency.ttft-ratio:0.3}") double timeToFirstTokenRatio,
+            @Value("${app.agent.simulated.error-rate:0.01}") double errorRate,
+            @Value("${app.agent.simulated.rate-limit.burst-probability:0.001}") double rateLimitBurstProbability,
+            @Value("${app.agent.simulated.rate-limit.burst-ms:2000}") long rateLimitBurstMs,
+            @Value("${app.agent.simulated.output.mean-tokens:200}") int meanOutputTokens,
+            @Value("${app.agent.simulated.output.stddev-tokens:60}") int outputTokensStddev,
+            @Value("${app.agent.simulated.output.chunk-tokens:4}") int chunkTokens,
+            PromptTemplateRegistry promptTemplates) {
+        this.seed = seed;
+        this.latencyDistribution = latencyDistribution;
+        this.meanLatencyMs = meanLatencyMs;
+        this.latency = createLatencyDistribution(latencyDistribution, meanLatencyMs, latencyStddevMs, paretoShape);
+        this.timeToFirstTokenRatio = Math.min(1.0, Math.max(0.0, timeToFirstTokenRatio));
+        this.errorRate = errorRate;
+        this.rateLimitBurstProbability = rateLimitBurstProbability;
+        this.rateLimitBurstMs = rateLimitBurstMs;
+        this.meanOutputTokens = meanOutputTokens;
+        this.outputTokensStddev = outputTokensStddev;
+        this.chunkTokens = Math.max(1, chunkTokens);
+        this.promptTemplates = promptTemplates;
+    }
+
+    /**
+     * Distributions are only sampled through their inverse CDF with our own uniform draws,
+     * which keeps them deterministic and safe to share between threads
+     */
+    private static RealDistribution createLatencyDistribution(LatencyDistribution type, long meanMs, long stddevMs,
+                                                              double paretoShape) {
+        double mean = Math.max(1, meanMs);
+        double stddev = Math.max(1, stddevMs);
+        return switch (type) {
+            case FIXED -> null;
+            case NORMAL -> new NormalDistribution(null, mean, stddev);
+            case LOGNORMAL -> {
+                // Log-normal with the configured mean and standard deviation
+                double sigmaSquared = Math.log(1 + (stddev * stddev) / (mean * mean));
+                yield new LogNormalDistribution(null, Math.log(mean) - sigmaSquared / 2, Math.sqrt(sigmaSquared));
+            }
+            case PARETO -> {
+                // Pareto with the configured mean; shapes near 1 give very heavy tails
+                double shape = Math.max(1.01, paretoShape);
+                yield new ParetoDistribution(null, mean * (shape - 1) / shape, shape);
+            }
+        };
+    }
+
+    @Override
+    public String executeTask(String taskInput, String taskDescription, Map<String, String> metadata) throws Exception {
+        CompletableFuture<String> call = executeTaskAsync(taskInput, taskDescription, metadata);
+        try {
+            return call.get();
+        } catch (InterruptedException e) {
+            call.cancel(true);
+            throw e;
+        } catch (ExecutionException e) {
+            throw e.getCause() instanceof Exception cause ? cause : e;
+        }
+    }
+
+    @Override
+    public CompletableFuture<String> executeTaskAsync(String taskInput, String taskDescription, Map<String, String> metadata) {
+        if (!validateInput(taskInput, taskDescription)) {
+            return CompletableFuture.failedFuture(new IllegalArgumentException("Invalid task input or description"));
+        }
+
+        return executeTaskAsync(taskInput, taskDescription, renderPrompt(taskInput, taskDescription, metadata), metadata);
+    }
+
+    @Override
+    public CompletableFuture<String> executeTaskAsync(String taskInput, String taskDescription, RenderedPrompt prompt,
+                                                      Map<String, String> metadata) {
+        if (!validateInput(taskInput, taskDescription)) {
+            return CompletableFuture.failedFuture(new IllegalArgumentException("Invalid task input or description"));
+        }
+
+        SimulatedCall call = simulate(prompt);
+        return Mono.delay(Duration.ofMillis(call.latencyMs))
+                .then(Mono.fromCallable(() -> call.complete(metadata)))
+                .toFuture();
+    }
+
+    @Override
+    public Flux<String> executeTaskStream(String taskInput, String taskDescription, Map<String, String> metadata) {
+        if (!validateInput(taskInput, taskDescription)) {
+            return Flux.error(new IllegalArgumentException("Invalid task input or description"));
+        }
+
+        return executeTaskStream(taskInput, taskDescription, renderPrompt(taskInput, taskDescription, metadata), metadata);
+    }
+
+    @Override
+    public Flux<String> executeTaskStream(String taskInput, String taskDescription, RenderedPrompt prompt,
+                                          Map<String, String> metadata) {
+        if (!validateInput(taskInput, taskDescription)) {
+            return Flux.error(new IllegalArgumentException("Invalid task input or description"));
+        }
+
+        SimulatedCall call = simulate(prompt);
+        if (call.failure != null) {
+            return Mono.delay(Duration.ofMillis(call.timeToFirstTokenMs))
+                    .then(Mono.<String>error(call.failure))
+                    .flux();
+        }
+
+        List<String> chunks = call.chunks(chunkTokens);
+        long gapMs = chunks.size() > 1 ? (call.latencyMs - call.timeToFirstTokenMs) / (chunks.size() - 1) : 0;
+        return Flux.concat(
+                        Mono.delay(Duration.ofMillis(call.timeToFirstTokenMs)).map(tick -> chunks.get(0)),
+                        Flux.fromIterable(chunks.subList(1, chunks.size())).delayElements(Duration.ofMillis(gapMs)))
+                .doOnComplete(() -> call.recordUsage(metadata));
+    }
+
+    /**
+     * Draw the outcome of one call: its latency, its failure (if any) and its output
+     */
+    private SimulatedCall simulate(RenderedPrompt prompt) {
+        SplittableRandom random = new SplittableRandom(mix(seed, callSequence.incrementAndGet()));
+
+        long latencyMs = sampleLatencyMs(random);
+        long timeToFirstTokenMs = Math.round(latencyMs * timeToFirstTokenRatio);
+
+        Exception failure = null;
+        long now = System.currentTimeMillis();
+        if (random.nextDouble() < rateLimitBurstProbability) {
+            rateLimitedUntil.accumulateAndGet(now + rateLimitBurstMs, Math::max);
+        }
+        long limitedUntil = rateLimitedUntil.get();
+        if (now < limitedUntil) {
+            // Rate-limited calls are rejected quickly, as a provider would
+            latencyMs = timeToFirstTokenMs = Math.min(latencyMs, 50);
+            failure = rateLimited(limitedUntil - now);
+        } else if (random.nextDouble() < errorRate) {
+            failure = serverError();
+        }
+
+        return new SimulatedCall(prompt.getText(), latencyMs, timeToFirstTokenMs, failure);
+    }
+
+    private long sampleLatencyMs(SplittableRandom random) {
+        if (latency == null) {
+            return meanLatencyMs;
+        }
+        // Keep u away from 0 and 1, where some inverse CDFs are infinite
+        double u = Math.min(1 - 1e-9, Math.max(1e-9, random.nextDouble()));
+        return Math.max(0, Math.round(latency.inverseCumulativeProbability(u)));
+    }
+
+    private static Exception rateLimited(long retryAfterMs) {
+        HttpHeaders headers = new HttpHeaders();
+        headers.set(HttpHeaders.RETRY_AFTER, String.valueOf(Math.max(1, (retryAfterMs + 999) / 1000)));
+        return WebClientResponseException.create(HttpStatus.TOO_MANY_REQUESTS.value(), "Too Many Requests", headers,
+                "{\"error\":{\"message\":\"Simulated rate limit\",\"type\":\"rate_limit_exceeded\"}}".getBytes(StandardCharsets.UTF_8),
+                StandardCharsets.UTF_8);
+    }
+
+    private static Exception serverError() {
+        return WebClientResponseException.create(HttpStatus.INTERNAL_SERVER_ERROR.value(), "Internal Server Error",
+                new HttpHeaders(), "{\"error\":{\"message\":\"Simulated server error\"}}".getBytes(StandardCharsets.UTF_8),
+                StandardCharsets.UTF_8);
+    }
+
+    /**
+     * SplitMix64 finalizer, so neighbouring seeds give unrelated streams
+     */
+    private static long mix(long a, long b) {
+        long z = a * 0x9E3779B97F4A7C15L + b;
+        z = (z ^ (z >>> 30)) * 0xBF58476D1CE4E5B9L;
+        z = (z ^ (z >>> 27)) * 0x94D049BB133111EBL;
+        return z ^ (z >>> 31);
+    }
+
+    @Override
+    public AgentFrameworkType getFrameworkType() {
+        return AgentFrameworkType.SIMULATED;
+    }
+
+    @Override
+    public boolean isAvailable() {
+        return true;
+    }
+
+    @Override
+    public Map<String, Object> getConfiguration() {
+        Map<String, Object> config = new HashMap<>();
+        config.put("framework", "Simulated LLM");
+        config.put("type", getFrameworkType().name());
+        config.put("description", getFrameworkType().getDescription());
+        config.put("available", isAvailable());
+        config.put("defaultTimeout", getDefaultTimeoutMs());
+        config.put("maxRetries", getMaxRetries());
+        config.put("seed", seed);
+        config.put("latencyDistribution", latencyDistribution.name());
+        config.put("meanLatencyMs", meanLatencyMs);
+        config.put("errorRate", errorRate);
+        config.put("rateLimitBurstProbability", rateLimitBurstProbability);
+        config.put("meanOutputTokens", meanOutputTokens);
+        return config;
+    }
+
+    @Override
+    public RenderedPrompt renderPrompt(String taskInput, String taskDescription, Map<String, String> metadata) {
+        return promptTemplates.render(taskInput, taskDescription, metadata);
+    }
+
+    @Override
+    public Map<String, String> prepareMetadata(Map<String, String> originalMetadata) {
+        Map<String, String> metadata = new HashMap<>();
+        if (originalMetadata != null) {
+            metadata.putAll(originalMetadata);
+        }
+        metadata.put("adapter", "Simulated");
+        metadata.put("model", "simulated");
+        return metadata;
+    }
+
+    @Override
+    public String postProcessResult(String rawResult, Map<String, String> metadata) {
+        String cleaned = rawResult != null ? rawResult.trim() : "";
+        if (metadata != null) {
+            metadata.put("resultLength", String.valueOf(cleaned.length()));
+            metadata.put("processed", "true");
+        }
+        return cleaned;
+    }
+
+    /**
+     * Outcome of one simulated call
+     */
+    private final class SimulatedCall {
+        private final String prompt;
+        private final long latencyMs;
+        private final long timeToFirstTokenMs;
+        private final Exception failure;
+        private List<String> tokens;
+
+        private SimulatedCall(String prompt, long latencyMs, long timeToFirstTokenMs, Exception failure) {
+            this.prompt = prompt;
+            this.latencyMs = latencyMs;
+            this.timeToFirstTokenMs = timeToFirstTokenMs;
+            this.failure = failure;
+        }
+
+        private String complete(Map<String, String> metadata) throws Exception {
+            if (failure != null) {
+                throw failure;
+            }
+            recordUsage(metadata);
+            return postProcessResult(String.join(" ", tokens()), metadata);
+        }
+
+        /**
+         * The output depends only on the seed and the prompt, so identical prompts get identical answers
+         */
+        private List<String> tokens() {
+            if (tokens == null) {
+                SplittableRandom random = new SplittableRandom(mix(seed, prompt.hashCode()));
+                double gaussian = random.nextDouble() + random.nextDouble() + random.nextDouble()
+                        + random.nextDouble() - 2.0; // approximately normal, variance 1/3
+                int count = (int) Math.max(1, Math.round(meanOutputTokens + gaussian * Math.sqrt(3) * outputTokensStddev));
+                List<String> words = new ArrayList<>(count);
+                for (int i = 0; i < count; i++) {
+                    words.add(VOCABULARY[random.nextInt(VOCABULARY.length)]);
+                }
+                tokens = words;
+            }
+            return tokens;
+        }
+
+        private List<String> chunks(int tokensPerChunk) {
+            List<String> words = tokens();
+            List<String> chunks = new ArrayList<>();
+            for (int i = 0; i < words.size(); i += tokensPerChunk) {
+                String chunk = String.join(" ", words.subList(i, Math.min(words.size(), i + tokensPerChunk)));
+                chunks.add(i == 0 ? chunk : " " + chunk);
+            }
+            return chunks;
+        }
+
+        private void recordUsage(Map<String, String> metadata) {
+            int promptTokens = Math.max(1, prompt.length() / 4);
+            int completionTokens = tokens().size();
+            TokenUsage.record(metadata, promptTokens, completionTokens, promptTokens + completionTokens);
+        }
+    }
+}
@@ -2,22 +2,50 @@ package com.agentframework.multi_agent_reliability.adapter;
 
 import com.agentframework.multi_agent_reliability.model.AgentFrameworkType;
 import org.springframework.ai.chat.ChatClient;
+import org.springframework.ai.chat.ChatResponse;
+import org.springframework.ai.chat.StreamingChatClient;
+import org.springframework.ai.chat.metadata.Usage;
 import org.springframework.ai.chat.prompt.Prompt;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
+import org.springframework.web.reactive.function.client.WebClient;
+import reactor.core.publisher.Flux;
 
+import java.time.Duration;
 import java.util.HashMap;
 import java.util.Map;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
 
 @Component
 public class SpringAIAdapter implements AgentAdapter {
     
+    private static final String MODELS_PATH = "/v1/models";
+    private static final Duration PROBE_TIMEOUT = Duration.ofSeconds(10);
+    
     private final ChatClient chatClient;
+    private final StreamingChatClient streamingChatClient;
+    private final PromptTemplateRegistry promptTemplates;
+    private final WebClient webClient;
+    private final String modelsUrl;
+    private final String apiKey;
     
     @Autowired
-    public SpringAIAdapter(ChatClient chatClient) {
+    public SpringAIAdapter(ChatClient chatClient, StreamingChatClient streamingChatClient,
+                           PromptTemplateRegistry promptTemplates,
+                           @Qualifier("openAIWebClient") WebClient webClient,
+                           @Value("${spring.ai.openai.base-url:https://api.openai.com}") String baseUrl,
+                           @Value("${spring.ai.openai.api-key:}") String apiKey) {
         this.chatClient = chatClient;
+        this.streamingChatClient = streamingChatClient;
+        this.promptTemplates = promptTemplates;
+        this.webClient = webClient;
+        // Absolute, so it goes to Spring AI's endpoint rather than the shared client's base URL
+        this.modelsUrl = baseUrl.replaceAll("/+$", "") + MODELS_PATH;
+        this.apiKey = apiKey;
     }
     
     @Override
@@ -27,23 +55,81 @@ public class SpringAIAdapter implements AgentAdapter {
         }
         
         try {
-            String prompt = buildPrompt(taskInput, taskDescription, metadata);
-            String result = chatClient.call(prompt);
+            String prompt = renderPrompt(taskInput, taskDescription, metadata).getText();
+            ChatResponse response = chatClient.call(new Prompt(prompt));
+            String result = response.getResult() != null && response.getResult().getOutput() != null
+                    ? response.getResult().getOutput().getContent()
+                    : null;
+            recordUsage(response, metadata);
+            TokenUsage.estimate(metadata, prompt.length(), result != null ? result.length() : 0);
             return postProcessResult(result, metadata);
         } catch (Exception e) {
             throw new Exception(handleExecutionError(e, taskInput, metadata), e);
         }
     }
     
+    @Override
+    public Flux<String> executeTaskStream(String taskInput, String taskDescription, Map<String, String> metadata) {
+        if (!validateInput(taskInput, taskDescription)) {
+            return Flux.error(new IllegalArgumentException("Invalid task input or description"));
+        }
+        
+        return executeTaskStream(taskInput, taskDescription, renderPrompt(taskInput, taskDescription, metadata), metadata);
+    }
+    
+    @Override
+    public Flux<String> executeTaskStream(String taskInput, String taskDescription, RenderedPrompt rendered,
+                                          Map<String, String> metadata) {
+        if (!validateInput(taskInput, taskDescription)) {
+            return Flux.error(new IllegalArgumentException("Invalid task input or description"));
+        }
+        
+        String prompt = rendered.getText();
+        AtomicInteger outputLength = new AtomicInteger();
+        return streamingChatClient.stream(new Prompt(prompt))
+                .doOnNext(response -> recordUsage(response, metadata))
+                .mapNotNull(response -> response.getResult() != null && response.getResult().getOutput() != null
+                        ? response.getResult().getOutput().getContent()
+                        : null)
+                .filter(chunk -> !chunk.isEmpty())
+                .doOnNext(chunk -> outputLength.addAndGet(chunk.length()))
+                // Runs before the stream's completion is passed on, so callers see the usage
+                .doOnComplete(() -> TokenUsage.estimate(metadata, prompt.length(), outputLength.get()))
+                .onErrorMap(e -> new RuntimeException(handleExecutionError(
+                        e instanceof Exception ex ? ex : new RuntimeException(e), taskInput, metadata), e));
+    }
+    
     @Override
     public CompletableFuture<String> executeTaskAsync(String taskInput, String taskDescription, Map<String, String> metadata) {
-        return CompletableFuture.supplyAsync(() -> {
-            try {
-                return executeTask(taskInput, taskDescription, metadata);
-            } catch (Exception e) {
-                throw new RuntimeException(e);
-            }
-        });
+        // Spring AI 0.8 has no async call API; the streaming client is non-blocking, so join its chunks
+        return joinChunks(executeTaskStream(taskInput, taskDescription, metadata), metadata);
+    }
+    
+    @Override
+    public CompletableFuture<String> executeTaskAsync(String taskInput, String taskDescription, RenderedPrompt prompt,
+                                                      Map<String, String> metadata) {
+        return joinChunks(executeTaskStream(taskInput, taskDescription, prompt, metadata), metadata);
+    }
+    
+    private CompletableFuture<String> joinChunks(Flux<String> stream, Map<String, String> metadata) {
+        return stream.collect(Collectors.joining())
+                .map(result -> postProcessResult(result, metadata))
+                .toFuture();
+    }
+    
+    /**
+     * Record the usage a response reports. Spring AI 0.8 reports none while streaming, and an
+     * empty usage of zeros when the provider sent none; those leave the metadata to the estimate.
+     */
+    private static void recordUsage(ChatResponse response, Map<String, String> metadata) {
+        Usage usage = response != null && response.getMetadata() != null ? response.getMetadata().getUsage() : null;
+        if (usage == null || usage.getTotalTokens() == null || usage.getTotalTokens() <= 0) {
+            return;
+        }
+        TokenUsage.record(metadata,
+                usage.getPromptTokens() != null ? usage.getPromptTokens() : 0,
+                usage.getGenerationTokens() != null ? usage.getGenerationTokens() : 0,
+                usage.getTotalTokens());
     }
     
     @Override
@@ -53,9 +139,23 @@ public class SpringAIAdapter implements AgentAdapter {
     
     @Override
     public boolean isAvailable() {
+        return chatClient != null;
+    }
+    
+    @Override
+    public boolean probeAvailability() {
+        if (!isAvailable() || apiKey == null || apiKey.isBlank()) {
+            return false;
+        }
+        
         try {
-            // Test with a simple prompt to check availability
-            chatClient.call("Hello");
+            // Listing models checks reachability and the API key without a billable completion
+            webClient.get()
+                    .uri(modelsUrl)
+                    .headers(headers -> headers.setBearerAuth(apiKey))
+                    .retrieve()
+                    .toBodilessEntity()
+                    .block(PROBE_TIMEOUT);
             return true;
         } catch (Exception e) {
             return false;
@@ -75,6 +175,11 @@ public class SpringAIAdapter implements AgentAdapter {
         return config;
     }
     
+    @Override
+    public RenderedPrompt renderPrompt(String taskInput, String taskDescription, Map<String, String> metadata) {
+        return promptTemplates.render(taskInput, taskDescription, metadata);
+    }
+    
     @Override
     public Map<String, String> prepareMetadata(Map<String, String> originalMetadata) {
         Map<String, String> metadata = new HashMap<>();
@@ -122,26 +227,4 @@ public class SpringAIAdapter implements AgentAdapter {
         
         return baseError;
     }
-    
-    private String buildPrompt(String taskInput, String taskDescription, Map<String, String> metadata) {
-        StringBuilder promptBuilder = new StringBuilder();
-        
-        // Add task description as context
-        promptBuilder.append("Task: ").append(taskDescription).append("\n\n");
-        
-        // Add any specific instructions from metadata
-        if (metadata != null && metadata.containsKey("instructions")) {
-            promptBuilder.append("Instructions: ").append(metadata.get("instructions")).append("\n\n");
-        }
-        
-        // Add the main input
-        promptBuilder.append("Input: ").append(taskInput).append("\n\n");
-        
-        // Add output format guidance if specified
-        if (metadata != null && metadata.containsKey("outputFormat")) {
-            promptBuilder.append("Please format your response as: ").append(metadata.get("outputFormat")).append("\n\n");
-        }
-        
-        return promptBuilder.toString();
-    }
 }
\ No newline at end of file
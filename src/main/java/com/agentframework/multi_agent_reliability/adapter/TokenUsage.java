@@ -0,0 +1,100 @@
+package com.agentframework.multi_agent_reliability.adapter;
+
+import com.agentframework.multi_agent_reliability.model.AgentExecution;
+
+import java.util.Map;
+
+/**
+ * Token usage of a call, as adapters record it in the execution metadata.
+ * Usage reported by the provider is preferred; when a provider doesn't report it (Spring AI
+ * streaming), the adapter records an estimate instead, marked with {@link #SOURCE_KEY}.
+ * On completion the counts are copied to the typed token columns of the execution.
+ */
+public final class TokenUsage {
+
+    public static final String PROMPT_TOKENS_KEY = "promptTokens";
+    public static final String COMPLETION_TOKENS_KEY = "completionTokens";
+    public static final String TOTAL_TOKENS_KEY = "totalTokens";
+    public static final String SOURCE_KEY = "tokenUsageSource";
+
+    public static final String REPORTED = "reported";
+    public static final String ESTIMATED = "estimated";
+
+    // Rough average for English text with the GPT tokenizers
+    private static final int CHARS_PER_TOKEN = 4;
+
+    private TokenUsage() {
+    }
+
+    /**
+     * Record usage reported by the provider
+     */
+    public static void record(Map<String, String> metadata, long promptTokens, long completionTokens, long totalTokens) {
+        if (metadata == null) {
+            return;
+        }
+        metadata.put(PROMPT_TOKENS_KEY, String.valueOf(promptTokens));
+        metadata.put(COMPLETION_TOKENS_KEY, String.valueOf(completionTokens));
+        metadata.put(TOTAL_TOKENS_KEY, String.valueOf(totalTokens));
+        metadata.put(SOURCE_KEY, REPORTED);
+    }
+
+    /**
+     * Record usage estimated from the prompt and output lengths, unless the call already
+     * recorded reported usage
+     */
+    public static void estimate(Map<String, String> metadata, int promptLength, int outputLength) {
+        if (metadata == null || REPORTED.equals(metadata.get(SOURCE_KEY))) {
+            return;
+        }
+        long promptTokens = Math.max(1, (promptLength + CHARS_PER_TOKEN - 1) / CHARS_PER_TOKEN);
+        long completionTokens = (outputLength + CHARS_PER_TOKEN - 1) / CHARS_PER_TOKEN;
+        metadata.put(PROMPT_TOKENS_KEY, String.valueOf(promptTokens));
+        metadata.put(COMPLETION_TOKENS_KEY, String.valueOf(completionTokens));
+        metadata.put(TOTAL_TOKENS_KEY, String.valueOf(promptTokens + completionTokens));
+        metadata.put(SOURCE_KEY, ESTIMATED);
+    }
+
+    /**
+     * Remove any recorded usage, e.g. from metadata copied off another execution's call
+     */
+    public static void clear(Map<String, String> metadata) {
+        if (metadata == null) {
+            return;
+        }
+        metadata.remove(PROMPT_TOKENS_KEY);
+        metadata.remove(COMPLETION_TOKENS_KEY);
+        metadata.remove(TOTAL_TOKENS_KEY);
+        metadata.remove(SOURCE_KEY);
+    }
+
+    /**
+     * Copy the usage recorded in an execution's metadata to its token columns
+     */
+    public static void applyTo(AgentExecution execution) {
+        Map<String, String> metadata = execution.getMetadata();
+        if (metadata == null) {
+            return;
+        }
+        Integer promptTokens = parse(metadata.get(PROMPT_TOKENS_KEY));
+        Integer completionTokens = parse(metadata.get(COMPLETION_TOKENS_KEY));
+        Integer totalTokens = parse(metadata.get(TOTAL_TOKENS_KEY));
+        if (totalTokens == null && promptTokens != null && completionTokens != null) {
+            totalTokens = promptTokens + completionTokens;
+        }
+        execution.setPromptTokens(promptTokens);
+        execution.setCompletionTokens(completionTokens);
+        execution.setTotalTokens(totalTokens);
+    }
+
+    private static Integer parse(String value) {
+        if (value == null) {
+            return null;
+        }
+        try {
+            return Integer.valueOf(value.trim());
+        } catch (NumberFormatException e) {
+            return null;
+        }
+    }
+}
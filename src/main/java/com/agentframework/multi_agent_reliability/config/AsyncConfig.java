@@ -19,6 +19,21 @@ public class AsyncConfig {
         executor.setQueueCapacity(100);
         executor.setThreadNamePrefix("AgentExec-");
         executor.setKeepAliveSeconds(60);
+        // Never run LLM calls on the submitting (HTTP) thread; per-framework bulkheads bound the load
+        executor.setRejectedExecutionHandler(new java.util.concurrent.ThreadPoolExecutor.AbortPolicy());
+        executor.initialize();
+        return executor;
+    }
+
+    @Bean(name = "deadlineTaskExecutor")
+    public Executor deadlineTaskExecutor() {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(2);
+        executor.setMaxPoolSize(8);
+        // Expiry actions are short (interrupt + one journal write), but may arrive in bursts
+        executor.setQueueCapacity(10000);
+        executor.setThreadNamePrefix("Deadline-");
+        executor.setKeepAliveSeconds(60);
         executor.setRejectedExecutionHandler(new java.util.concurrent.ThreadPoolExecutor.CallerRunsPolicy());
         executor.initialize();
         return executor;
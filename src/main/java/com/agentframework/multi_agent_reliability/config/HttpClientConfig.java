@@ -0,0 +1,69 @@
+package com.agentframework.multi_agent_reliability.config;
+
+import io.netty.channel.ChannelOption;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.client.reactive.ReactorClientHttpConnector;
+import org.springframework.web.reactive.function.client.WebClient;
+import reactor.netty.http.HttpProtocol;
+import reactor.netty.http.client.HttpClient;
+import reactor.netty.resources.ConnectionProvider;
+
+import java.time.Duration;
+
+/**
+ * Shared, pooled HTTP client for direct LLM API calls.
+ * Connections are kept alive and reused across executions; idle ones are evicted in the
+ * background before the server closes them. Over TLS, HTTP/2 is negotiated so concurrent
+ * requests are multiplexed over a few connections.
+ */
+@Configuration
+public class HttpClientConfig {
+
+    @Bean(name = "llmConnectionProvider", destroyMethod = "dispose")
+    public ConnectionProvider llmConnectionProvider(
+            @Value("${app.agent.http.max-connections:200}") int maxConnections,
+            @Value("${app.agent.http.pending-acquire-max-count:1000}") int pendingAcquireMaxCount,
+            @Value("${app.agent.http.pending-acquire-timeout-ms:10000}") long pendingAcquireTimeoutMs,
+            @Value("${app.agent.http.max-idle-time-ms:30000}") long maxIdleTimeMs,
+            @Value("${app.agent.http.max-life-time-ms:300000}") long maxLifeTimeMs,
+            @Value("${app.agent.http.evict-interval-ms:10000}") long evictIntervalMs) {
+        return ConnectionProvider.builder("llm-http")
+                .maxConnections(maxConnections)
+                .pendingAcquireMaxCount(pendingAcquireMaxCount)
+                .pendingAcquireTimeout(Duration.ofMillis(pendingAcquireTimeoutMs))
+                .maxIdleTime(Duration.ofMillis(maxIdleTimeMs))
+                .maxLifeTime(Duration.ofMillis(maxLifeTimeMs))
+                .evictInBackground(Duration.ofMillis(evictIntervalMs))
+                .metrics(true)
+                .build();
+    }
+
+    @Bean(name = "openAIWebClient")
+    public WebClient openAIWebClient(
+            @Qualifier("llmConnectionProvider") ConnectionProvider connectionProvider,
+            @Value("${app.agent.openai.base-url:https://api.openai.com/v1}") String baseUrl,
+            @Value("${app.agent.http.connect-timeout-ms:5000}") int connectTimeoutMs,
+            @Value("${app.agent.http.response-timeout-ms:180000}") long responseTimeoutMs,
+            @Value("${app.agent.http.http2-enabled:true}") boolean http2Enabled,
+            @Value("${app.agent.http.max-in-memory-size-bytes:16777216}") int maxInMemorySize) {
+        HttpClient httpClient = HttpClient.create(connectionProvider)
+                .option(ChannelOption.CONNECT_TIMEOUT_MILLIS, connectTimeoutMs)
+                .option(ChannelOption.SO_KEEPALIVE, true)
+                .responseTimeout(Duration.ofMillis(responseTimeoutMs))
+                .compress(true);
+
+        // HTTP/2 is negotiated through TLS ALPN; plain-text endpoints (local stand-ins) stay on HTTP/1.1
+        if (http2Enabled && baseUrl.startsWith("https")) {
+            httpClient = httpClient.protocol(HttpProtocol.H2, HttpProtocol.HTTP11);
+        }
+
+        return WebClient.builder()
+                .baseUrl(baseUrl)
+                .clientConnector(new ReactorClientHttpConnector(httpClient))
+                .codecs(codecs -> codecs.defaultCodecs().maxInMemorySize(maxInMemorySize))
+                .build();
+    }
+}
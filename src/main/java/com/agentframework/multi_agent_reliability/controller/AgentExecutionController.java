@@ -1,5 +1,6 @@
 package com.agentframework.multi_agent_reliability.controller;
 
+import com.agentframework.multi_agent_reliability.dto.AgentExecutionChunk;
 import com.agentframework.multi_agent_reliability.dto.AgentExecutionRequest;
 import com.agentframework.multi_agent_reliability.dto.AgentExecutionResponse;
 import com.agentframework.multi_agent_reliability.model.AgentFrameworkType;
@@ -8,12 +9,16 @@ import jakarta.validation.Valid;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
+import org.springframework.http.codec.ServerSentEvent;
 import org.springframework.web.bind.annotation.*;
+import reactor.core.publisher.Flux;
 
 import java.util.List;
 import java.util.Map;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.RejectedExecutionException;
 
 @RestController
 @RequestMapping("/executions")
@@ -41,6 +46,12 @@ public class AgentExecutionController {
                 response = orchestrationService.executeTask(request);
             }
             return ResponseEntity.ok(response);
+        } catch (RejectedExecutionException ex) {
+            logger.warn("Execution rejected: {}", ex.getMessage());
+            AgentExecutionResponse overloaded = new AgentExecutionResponse();
+            overloaded.setFrameworkType(request.getFrameworkType());
+            overloaded.setErrorMessage(ex.getMessage());
+            return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE).body(overloaded);
         } catch (IllegalArgumentException ex) {
             logger.error("Invalid exec request: {}", ex.getMessage());
             return ResponseEntity.badRequest().build();
@@ -50,6 +61,21 @@ public class AgentExecutionController {
         }
     }
 
+    @PostMapping(value = "/execute/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public ResponseEntity<Flux<ServerSentEvent<AgentExecutionChunk>>> streamTask(@Valid @RequestBody AgentExecutionRequest request) {
+        try {
+            logger.info("Streamed execution request for framework {}", request.getFrameworkType());
+            Flux<ServerSentEvent<AgentExecutionChunk>> events = orchestrationService.streamTask(request)
+                    .map(chunk -> ServerSentEvent.builder(chunk)
+                            .event(chunk.isDone() ? "done" : "delta")
+                            .build());
+            return ResponseEntity.ok(events);
+        } catch (RejectedExecutionException ex) {
+            logger.warn("Streamed execution rejected: {}", ex.getMessage());
+            return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE).build();
+        }
+    }
+
     @PostMapping("/execute/compare")
     public ResponseEntity<Map<String,Object>> executeTaskComparison(
             @Valid @RequestBody AgentExecutionRequest baseRequest,
@@ -112,6 +138,11 @@ public class AgentExecutionController {
         return ResponseEntity.ok(orchestrationService.getExecutionStatistics());
     }
 
+    @GetMapping("/engine")
+    public ResponseEntity<Map<String,Object>> getEngineStatistics() {
+        return ResponseEntity.ok(orchestrationService.getEngineStatistics());
+    }
+
     @GetMapping("/health")
     public ResponseEntity<Map<String,Object>> healthCheck() {
         return ResponseEntity.ok(Map.of(
@@ -117,6 +117,11 @@ public class BenchmarkController {
                 : ResponseEntity.notFound().build();
     }
 
+    @GetMapping("/runs")
+    public ResponseEntity<List<BenchmarkRun>> getBenchmarkRunHistory() {
+        return ResponseEntity.ok(benchmarkService.getBenchmarkRunHistory());
+    }
+
     @GetMapping("/runs/active")
     public ResponseEntity<Map<String,BenchmarkRun>> getActiveBenchmarkRuns() {
         return ResponseEntity.ok(benchmarkService.getActiveBenchmarkRuns());
@@ -129,6 +134,13 @@ public class BenchmarkController {
                   .orElseGet(() -> ResponseEntity.notFound().build());
     }
 
+    @GetMapping("/runs/{runId}/progress")
+    public ResponseEntity<Map<String,Object>> getBenchmarkRunProgress(@PathVariable String runId) {
+        return benchmarkService.getBenchmarkRunProgress(runId)
+                .map(ResponseEntity::ok)
+                .orElseGet(() -> ResponseEntity.notFound().build());
+    }
+
     @PostMapping("/runs/{runId}/cancel")
     public ResponseEntity<Map<String,Object>> cancelBenchmark(@PathVariable String runId) {
         boolean cancelled = benchmarkService.cancelBenchmark(runId);
@@ -2,6 +2,7 @@ package com.agentframework.multi_agent_reliability.controller;
 
 import com.agentframework.multi_agent_reliability.dto.MetricsResponse;
 import com.agentframework.multi_agent_reliability.model.AgentFrameworkType;
+import com.agentframework.multi_agent_reliability.model.BenchmarkExecutionMode;
 import com.agentframework.multi_agent_reliability.service.MetricsCollectionService;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -25,8 +26,11 @@ public class MetricsController {
     }
 
     @GetMapping("/comparison")
-    public ResponseEntity<List<MetricsResponse>> getFrameworkComparison() {
-        return ResponseEntity.ok(metricsService.getFrameworkComparison());
+    public ResponseEntity<List<MetricsResponse>> getFrameworkComparison(
+            @RequestParam(required = false) BenchmarkExecutionMode executionMode) {
+        return ResponseEntity.ok(executionMode != null
+                ? metricsService.getFrameworkComparison(executionMode)
+                : metricsService.getFrameworkComparison());
     }
 
     @GetMapping("/system/summary")
@@ -78,6 +82,22 @@ public class MetricsController {
         ));
     }
 
+    @GetMapping("/tokens/{benchmarkRunId}")
+    public ResponseEntity<Map<String,Object>> getTokenUsage(
+            @PathVariable String benchmarkRunId) {
+        return ResponseEntity.ok(metricsService.getBenchmarkRunTokenUsage(benchmarkRunId));
+    }
+
+    @GetMapping("/bulkheads")
+    public ResponseEntity<Map<AgentFrameworkType,Map<String,Object>>> getBulkheadMetrics() {
+        return ResponseEntity.ok(metricsService.getBulkheadMetrics());
+    }
+
+    @GetMapping("/hedging")
+    public ResponseEntity<Map<AgentFrameworkType,Map<String,Object>>> getHedgingMetrics() {
+        return ResponseEntity.ok(metricsService.getHedgingMetrics());
+    }
+
     @GetMapping("/frameworks")
     public ResponseEntity<List<AgentFrameworkType>> getFrameworks() {
         return ResponseEntity.ok(List.of(AgentFrameworkType.values()));
@@ -89,7 +109,8 @@ public class MetricsController {
                 "systemSummary", metricsService.getSystemPerformanceSummary(),
                 "frameworkComparison", metricsService.getFrameworkComparison(),
                 "topPerformers", metricsService.getTopPerformingFrameworks(),
-                "reliabilityDistribution", metricsService.getReliabilityDistribution()
+                "reliabilityDistribution", metricsService.getReliabilityDistribution(),
+                "bulkheads", metricsService.getBulkheadMetrics()
         ));
     }
 
@@ -0,0 +1,120 @@
+package com.agentframework.multi_agent_reliability.dto;
+
+import com.agentframework.multi_agent_reliability.model.AgentFrameworkType;
+import com.agentframework.multi_agent_reliability.model.ExecutionStatus;
+
+/**
+ * One event of a streamed execution: a completion chunk, or the final event carrying the terminal status
+ */
+public class AgentExecutionChunk {
+
+    private Long executionId;
+    private AgentFrameworkType frameworkType;
+    private int index;
+    private String content;
+    private long elapsedMs;
+    private boolean done;
+    private ExecutionStatus status;
+    private String errorMessage;
+    private Long timeToFirstTokenMs;
+
+    // Constructors
+    public AgentExecutionChunk() {}
+
+    public static AgentExecutionChunk delta(Long executionId, AgentFrameworkType frameworkType,
+                                            int index, String content, long elapsedMs) {
+        AgentExecutionChunk chunk = new AgentExecutionChunk();
+        chunk.executionId = executionId;
+        chunk.frameworkType = frameworkType;
+        chunk.index = index;
+        chunk.content = content;
+        chunk.elapsedMs = elapsedMs;
+        return chunk;
+    }
+
+    public static AgentExecutionChunk done(AgentExecutionResponse execution, int chunkCount) {
+        AgentExecutionChunk chunk = new AgentExecutionChunk();
+        chunk.executionId = execution.getId();
+        chunk.frameworkType = execution.getFrameworkType();
+        chunk.index = chunkCount;
+        chunk.done = true;
+        chunk.status = execution.getStatus();
+        chunk.errorMessage = execution.getErrorMessage();
+        chunk.timeToFirstTokenMs = execution.getTimeToFirstTokenMs();
+        chunk.elapsedMs = execution.getExecutionDurationMs() != null ? execution.getExecutionDurationMs() : 0;
+        return chunk;
+    }
+
+    // Getters and Setters
+    public Long getExecutionId() {
+        return executionId;
+    }
+
+    public void setExecutionId(Long executionId) {
+        this.executionId = executionId;
+    }
+
+    public AgentFrameworkType getFrameworkType() {
+        return frameworkType;
+    }
+
+    public void setFrameworkType(AgentFrameworkType frameworkType) {
+        this.frameworkType = frameworkType;
+    }
+
+    public int getIndex() {
+        return index;
+    }
+
+    public void setIndex(int index) {
+        this.index = index;
+    }
+
+    public String getContent() {
+        return content;
+    }
+
+    public void setContent(String content) {
+        this.content = content;
+    }
+
+    public long getElapsedMs() {
+        return elapsedMs;
+    }
+
+    public void setElapsedMs(long elapsedMs) {
+        this.elapsedMs = elapsedMs;
+    }
+
+    public boolean isDone() {
+        return done;
+    }
+
+    public void setDone(boolean done) {
+        this.done = done;
+    }
+
+    public ExecutionStatus getStatus() {
+        return status;
+    }
+
+    public void setStatus(ExecutionStatus status) {
+        this.status = status;
+    }
+
+    public String getErrorMessage() {
+        return errorMessage;
+    }
+
+    public void setErrorMessage(String errorMessage) {
+        this.errorMessage = errorMessage;
+    }
+
+    public Long getTimeToFirstTokenMs() {
+        return timeToFirstTokenMs;
+    }
+
+    public void setTimeToFirstTokenMs(Long timeToFirstTokenMs) {
+        this.timeToFirstTokenMs = timeToFirstTokenMs;
+    }
+}
@@ -31,6 +31,8 @@ public class AgentExecutionRequest {
     
     private Boolean async = true;
     
+    private Boolean bypassCache = false;
+    
     // Constructors
     public AgentExecutionRequest() {}
     
@@ -113,6 +115,14 @@ public class AgentExecutionRequest {
         this.async = async;
     }
     
+    public Boolean getBypassCache() {
+        return bypassCache;
+    }
+    
+    public void setBypassCache(Boolean bypassCache) {
+        this.bypassCache = bypassCache;
+    }
+    
     @Override
     public String toString() {
         return "AgentExecutionRequest{" +
@@ -18,6 +18,12 @@ public class AgentExecutionResponse {
     private ExecutionStatus status;
     private String errorMessage;
     private Long executionDurationMs;
+    private Long timeToFirstTokenMs;
+    private Double interTokenLatencyMs;
+    private Integer promptTokens;
+    private Integer completionTokens;
+    private Integer totalTokens;
+    private boolean warmup;
     private String benchmarkRunId;
     private Map<String, String> metadata;
     
@@ -104,6 +110,54 @@ public class AgentExecutionResponse {
         this.executionDurationMs = executionDurationMs;
     }
     
+    public Long getTimeToFirstTokenMs() {
+        return timeToFirstTokenMs;
+    }
+    
+    public void setTimeToFirstTokenMs(Long timeToFirstTokenMs) {
+        this.timeToFirstTokenMs = timeToFirstTokenMs;
+    }
+    
+    public Double getInterTokenLatencyMs() {
+        return interTokenLatencyMs;
+    }
+    
+    public void setInterTokenLatencyMs(Double interTokenLatencyMs) {
+        this.interTokenLatencyMs = interTokenLatencyMs;
+    }
+    
+    public Integer getPromptTokens() {
+        return promptTokens;
+    }
+    
+    public void setPromptTokens(Integer promptTokens) {
+        this.promptTokens = promptTokens;
+    }
+    
+    public Integer getCompletionTokens() {
+        return completionTokens;
+    }
+    
+    public void setCompletionTokens(Integer completionTokens) {
+        this.completionTokens = completionTokens;
+    }
+    
+    public boolean isWarmup() {
+        return warmup;
+    }
+    
+    public void setWarmup(boolean warmup) {
+        this.warmup = warmup;
+    }
+    
+    public Integer getTotalTokens() {
+        return totalTokens;
+    }
+    
+    public void setTotalTokens(Integer totalTokens) {
+        this.totalTokens = totalTokens;
+    }
+    
     public String getBenchmarkRunId() {
         return benchmarkRunId;
     }
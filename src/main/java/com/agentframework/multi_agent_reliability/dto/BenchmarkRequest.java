@@ -1,6 +1,7 @@
 package com.agentframework.multi_agent_reliability.dto;
 
 import com.agentframework.multi_agent_reliability.model.AgentFrameworkType;
+import com.agentframework.multi_agent_reliability.model.BenchmarkExecutionMode;
 import jakarta.validation.constraints.NotBlank;
 import jakarta.validation.constraints.NotNull;
 import jakarta.validation.constraints.Min;
@@ -26,12 +27,40 @@ public class BenchmarkRequest {
     @Max(value = 100, message = "Iterations cannot exceed 100")
     private Integer iterations = 5;
     
+    // Unmeasured iterations run per framework before measurement starts
+    @Min(value = 0, message = "Warmup iterations cannot be negative")
+    @Max(value = 50, message = "Warmup iterations cannot exceed 50")
+    private Integer warmupIterations = 0;
+    
+    // When set, warmup continues until latency's coefficient of variation is within this many percent
+    @Min(value = 0, message = "Steady state threshold cannot be negative")
+    private Double steadyStateCvPercent;
+    
+    // Upper bound on warmup iterations per framework while waiting for steady state
+    @Min(value = 1, message = "Max warmup iterations must be at least 1")
+    @Max(value = 100, message = "Max warmup iterations cannot exceed 100")
+    private Integer maxWarmupIterations;
+    
     private Long timeoutMs = 300000L; // Default 5 minutes
     
     private Integer maxRetries = 3;
     
+    // Shorthand for executionMode: true for PARALLEL, false for SEQUENTIAL
     private Boolean parallel = false;
     
+    // Load shape of the run; overrides parallel when set
+    private BenchmarkExecutionMode executionMode;
+    
+    // Calls in flight: per framework for WINDOWED, across frameworks for INTERLEAVED
+    @Min(value = 1, message = "Concurrency must be at least 1")
+    private Integer concurrency;
+    
+    // Submit each framework's iterations through the adapter's batch path
+    private Boolean batch = false;
+    
+    // Stream each execution's output, to measure time-to-first-token and inter-token latency
+    private Boolean stream = false;
+    
     private Map<String, String> metadata;
     
     private String createdBy;
@@ -86,6 +115,30 @@ public class BenchmarkRequest {
         this.iterations = iterations;
     }
     
+    public Integer getWarmupIterations() {
+        return warmupIterations;
+    }
+    
+    public void setWarmupIterations(Integer warmupIterations) {
+        this.warmupIterations = warmupIterations;
+    }
+    
+    public Double getSteadyStateCvPercent() {
+        return steadyStateCvPercent;
+    }
+    
+    public void setSteadyStateCvPercent(Double steadyStateCvPercent) {
+        this.steadyStateCvPercent = steadyStateCvPercent;
+    }
+    
+    public Integer getMaxWarmupIterations() {
+        return maxWarmupIterations;
+    }
+    
+    public void setMaxWarmupIterations(Integer maxWarmupIterations) {
+        this.maxWarmupIterations = maxWarmupIterations;
+    }
+    
     public Long getTimeoutMs() {
         return timeoutMs;
     }
@@ -110,6 +163,38 @@ public class BenchmarkRequest {
         this.parallel = parallel;
     }
     
+    public BenchmarkExecutionMode getExecutionMode() {
+        return executionMode;
+    }
+    
+    public void setExecutionMode(BenchmarkExecutionMode executionMode) {
+        this.executionMode = executionMode;
+    }
+    
+    public Integer getConcurrency() {
+        return concurrency;
+    }
+    
+    public void setConcurrency(Integer concurrency) {
+        this.concurrency = concurrency;
+    }
+    
+    public Boolean getBatch() {
+        return batch;
+    }
+    
+    public void setBatch(Boolean batch) {
+        this.batch = batch;
+    }
+    
+    public Boolean getStream() {
+        return stream;
+    }
+    
+    public void setStream(Boolean stream) {
+        this.stream = stream;
+    }
+    
     public Map<String, String> getMetadata() {
         return metadata;
     }
@@ -131,6 +216,58 @@ public class BenchmarkRequest {
         return frameworkTypes != null ? frameworkTypes.size() * iterations : 0;
     }
     
+    public boolean hasWarmup() {
+        return (warmupIterations != null && warmupIterations > 0) || steadyStateCvPercent != null;
+    }
+    
+    /**
+     * Most warmup iterations to run per framework: the fixed count, or the cap while waiting
+     * for steady state (20 unless set)
+     */
+    public int resolveMaxWarmupIterations() {
+        int fixed = warmupIterations != null ? warmupIterations : 0;
+        if (steadyStateCvPercent == null) {
+            return fixed;
+        }
+        return Math.max(fixed, maxWarmupIterations != null ? maxWarmupIterations : 20);
+    }
+    
+    /**
+     * Whether iterations go through the adapters' batch path, requested by batch or the BATCH mode
+     */
+    public boolean isBatched() {
+        return Boolean.TRUE.equals(batch) || executionMode == BenchmarkExecutionMode.BATCH;
+    }
+    
+    public boolean isStreamed() {
+        return Boolean.TRUE.equals(stream);
+    }
+    
+    /**
+     * The execution mode, from executionMode or else the parallel flag; batched runs are BATCH
+     */
+    public BenchmarkExecutionMode resolveExecutionMode() {
+        if (isBatched()) {
+            return BenchmarkExecutionMode.BATCH;
+        }
+        if (executionMode != null) {
+            return executionMode;
+        }
+        return Boolean.TRUE.equals(parallel) ? BenchmarkExecutionMode.PARALLEL : BenchmarkExecutionMode.SEQUENTIAL;
+    }
+    
+    /**
+     * Calls the mode allows in flight at once; per framework except for INTERLEAVED
+     */
+    public int resolveConcurrency() {
+        return switch (resolveExecutionMode()) {
+            case SEQUENTIAL -> 1;
+            case WINDOWED -> concurrency != null ? concurrency : 4;
+            case INTERLEAVED -> concurrency != null ? concurrency : 1;
+            case PARALLEL, BATCH -> Integer.MAX_VALUE;
+        };
+    }
+    
     public boolean hasMultipleFrameworks() {
         return frameworkTypes != null && frameworkTypes.size() > 1;
     }
@@ -142,7 +279,12 @@ public class BenchmarkRequest {
                 ", taskId=" + taskId +
                 ", frameworkTypes=" + frameworkTypes +
                 ", iterations=" + iterations +
+                ", warmupIterations=" + warmupIterations +
                 ", parallel=" + parallel +
+                ", executionMode=" + executionMode +
+                ", concurrency=" + concurrency +
+                ", batch=" + batch +
+                ", stream=" + stream +
                 '}';
     }
 }
\ No newline at end of file
@@ -1,6 +1,7 @@
 package com.agentframework.multi_agent_reliability.dto;
 
 import com.agentframework.multi_agent_reliability.model.AgentFrameworkType;
+import com.agentframework.multi_agent_reliability.model.BenchmarkExecutionMode;
 import com.fasterxml.jackson.annotation.JsonFormat;
 
 import java.time.LocalDateTime;
@@ -11,6 +12,7 @@ public class MetricsResponse {
     private Long id;
     private String benchmarkRunId;
     private AgentFrameworkType frameworkType;
+    private BenchmarkExecutionMode executionMode;
     
     // Core Reliability Metrics
     private Double successRate;
@@ -81,6 +83,14 @@ public class MetricsResponse {
         this.frameworkType = frameworkType;
     }
     
+    public BenchmarkExecutionMode getExecutionMode() {
+        return executionMode;
+    }
+    
+    public void setExecutionMode(BenchmarkExecutionMode executionMode) {
+        this.executionMode = executionMode;
+    }
+    
     public Double getSuccessRate() {
         return successRate;
     }
@@ -0,0 +1,160 @@
+package com.agentframework.multi_agent_reliability.execution;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.task.SimpleAsyncTaskExecutor;
+import org.springframework.stereotype.Component;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Execution engine for blocking work around agent adapter calls: preparing executions,
+ * journal writes after non-blocking calls complete, and availability probes.
+ * Each submitted call runs directly on an engine thread (a single hop), either on its own
+ * virtual thread or on the shared agentExecutionTaskExecutor pool, selected by
+ * {@code app.agent.execution.engine}.
+ */
+@Component
+public class AgentExecutionEngine {
+
+    private static final Logger logger = LoggerFactory.getLogger(AgentExecutionEngine.class);
+
+    public enum EngineMode {
+        PLATFORM,
+        VIRTUAL
+    }
+
+    private final Executor executor;
+    private final EngineMode mode;
+
+    private final AtomicInteger inFlight = new AtomicInteger();
+    private final AtomicInteger peakInFlight = new AtomicInteger();
+    private final AtomicLong submitted = new AtomicLong();
+    private final AtomicLong succeeded = new AtomicLong();
+    private final AtomicLong failed = new AtomicLong();
+    private final AtomicLong cancelled = new AtomicLong();
+    private final AtomicLong rejected = new AtomicLong();
+
+    @Autowired
+    public AgentExecutionEngine(
+            @Value("${app.agent.execution.engine:platform}") String engine,
+            @Qualifier("agentExecutionTaskExecutor") Executor platformExecutor) {
+
+        EngineMode requested = "virtual".equalsIgnoreCase(engine.trim()) ? EngineMode.VIRTUAL : EngineMode.PLATFORM;
+        Executor selected = platformExecutor;
+        EngineMode selectedMode = EngineMode.PLATFORM;
+
+        if (requested == EngineMode.VIRTUAL) {
+            try {
+                SimpleAsyncTaskExecutor virtualExecutor = new SimpleAsyncTaskExecutor("AgentVT-");
+                virtualExecutor.setVirtualThreads(true);
+                selected = virtualExecutor;
+                selectedMode = EngineMode.VIRTUAL;
+            } catch (UnsupportedOperationException e) {
+                logger.warn("Virtual threads are not supported on this JVM ({}), falling back to platform executor",
+                        System.getProperty("java.version"));
+            }
+        }
+
+        this.executor = selected;
+        this.mode = selectedMode;
+        logger.info("Initialized AgentExecutionEngine in {} mode", mode);
+    }
+
+    /**
+     * Run a blocking call on an engine thread.
+     * Cancelling the returned future interrupts the thread running the call.
+     */
+    public <T> CompletableFuture<T> submit(Callable<T> task) {
+        EngineFuture<T> future = new EngineFuture<>();
+        submitted.incrementAndGet();
+        peakInFlight.accumulateAndGet(inFlight.incrementAndGet(), Math::max);
+
+        try {
+            executor.execute(() -> run(task, future));
+        } catch (RejectedExecutionException e) {
+            inFlight.decrementAndGet();
+            rejected.incrementAndGet();
+            throw e;
+        }
+
+        return future;
+    }
+
+    private <T> void run(Callable<T> task, EngineFuture<T> future) {
+        future.runner = Thread.currentThread();
+        try {
+            // Cancelled while queued: never started
+            if (future.isDone()) {
+                cancelled.incrementAndGet();
+                return;
+            }
+            future.complete(task.call());
+            (future.isCancelled() ? cancelled : succeeded).incrementAndGet();
+        } catch (Throwable t) {
+            future.completeExceptionally(t);
+            (future.isCancelled() ? cancelled : failed).incrementAndGet();
+        } finally {
+            future.runner = null;
+            inFlight.decrementAndGet();
+            // Don't leak an interrupt from a cancelled call into the next pooled task
+            Thread.interrupted();
+        }
+    }
+
+    public EngineMode getMode() {
+        return mode;
+    }
+
+    public int getInFlightCount() {
+        return inFlight.get();
+    }
+
+    public int getPeakInFlightCount() {
+        return peakInFlight.get();
+    }
+
+    /**
+     * Get engine statistics for monitoring
+     */
+    public Map<String, Object> getStatistics() {
+        Map<String, Object> stats = new HashMap<>();
+        stats.put("mode", mode);
+        stats.put("inFlight", inFlight.get());
+        stats.put("peakInFlight", peakInFlight.get());
+        stats.put("submitted", submitted.get());
+        stats.put("succeeded", succeeded.get());
+        stats.put("failed", failed.get());
+        stats.put("cancelled", cancelled.get());
+        stats.put("rejected", rejected.get());
+        return stats;
+    }
+
+    /**
+     * Future that interrupts the engine thread running its call when cancelled.
+     */
+    private static final class EngineFuture<T> extends CompletableFuture<T> {
+
+        private volatile Thread runner;
+
+        @Override
+        public boolean cancel(boolean mayInterruptIfRunning) {
+            boolean cancelled = super.cancel(mayInterruptIfRunning);
+            Thread thread = runner;
+            if (cancelled && thread != null) {
+                thread.interrupt();
+            }
+            return cancelled;
+        }
+    }
+}
@@ -0,0 +1,22 @@
+package com.agentframework.multi_agent_reliability.execution;
+
+import com.agentframework.multi_agent_reliability.model.AgentFrameworkType;
+
+/**
+ * A call refused without being attempted because its framework's circuit breaker is open.
+ * Deliberately not a {@link java.util.concurrent.RejectedExecutionException}: the provider is
+ * failing, this application isn't overloaded, so callers mustn't report it as overload.
+ */
+public class CircuitBreakerOpenException extends RuntimeException {
+
+    private final AgentFrameworkType frameworkType;
+
+    public CircuitBreakerOpenException(AgentFrameworkType frameworkType, FrameworkCircuitBreaker.State state) {
+        super("Circuit breaker for " + frameworkType + " is " + state + "; call not attempted");
+        this.frameworkType = frameworkType;
+    }
+
+    public AgentFrameworkType getFrameworkType() {
+        return frameworkType;
+    }
+}
@@ -0,0 +1,112 @@
+package com.agentframework.multi_agent_reliability.execution;
+
+import io.netty.util.HashedWheelTimer;
+import io.netty.util.Timeout;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.Executor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Deadline scheduler shared by all executions.
+ * Backed by a single hashed-wheel timer, so scheduling and cancelling a deadline are O(1)
+ * and tens of thousands of pending deadlines cost one thread and a few objects each.
+ * Expiry actions run on the deadlineTaskExecutor so a slow action never delays the wheel.
+ */
+@Component
+public class DeadlineScheduler {
+
+    private static final Logger logger = LoggerFactory.getLogger(DeadlineScheduler.class);
+
+    private final HashedWheelTimer timer;
+    private final long tickMs;
+
+    private final AtomicLong scheduled = new AtomicLong();
+    private final AtomicLong expired = new AtomicLong();
+    private final AtomicLong cancelled = new AtomicLong();
+
+    @Autowired
+    public DeadlineScheduler(
+            @Value("${app.agent.deadline.tick-ms:100}") long tickMs,
+            @Value("${app.agent.deadline.wheel-size:512}") int wheelSize,
+            @Qualifier("deadlineTaskExecutor") Executor expiryExecutor) {
+        this.tickMs = tickMs;
+        this.timer = new HashedWheelTimer(
+                runnable -> {
+                    Thread thread = new Thread(runnable, "DeadlineWheel-");
+                    thread.setDaemon(true);
+                    return thread;
+                },
+                tickMs, TimeUnit.MILLISECONDS, wheelSize, false, -1, expiryExecutor);
+        logger.info("Initialized DeadlineScheduler (tick={}ms, wheel size={})", tickMs, wheelSize);
+    }
+
+    @PreDestroy
+    public void stop() {
+        int unexpired = timer.stop().size();
+        if (unexpired > 0) {
+            logger.info("Deadline scheduler stopped with {} pending deadlines", unexpired);
+        }
+    }
+
+    /**
+     * Run an action once a deadline passes, unless the returned deadline is cancelled first.
+     * Deadlines fire within one tick of the requested delay.
+     */
+    public Deadline schedule(long delayMs, Runnable onExpiry) {
+        scheduled.incrementAndGet();
+        Timeout timeout = timer.newTimeout(t -> {
+            expired.incrementAndGet();
+            onExpiry.run();
+        }, Math.max(0, delayMs), TimeUnit.MILLISECONDS);
+        return new Deadline(timeout);
+    }
+
+    public long getPendingCount() {
+        return timer.pendingTimeouts();
+    }
+
+    /**
+     * Get deadline statistics for monitoring
+     */
+    public Map<String, Object> getStatistics() {
+        Map<String, Object> stats = new HashMap<>();
+        stats.put("pending", timer.pendingTimeouts());
+        stats.put("scheduled", scheduled.get());
+        stats.put("expired", expired.get());
+        stats.put("cancelled", cancelled.get());
+        stats.put("tickMs", tickMs);
+        return stats;
+    }
+
+    /**
+     * A scheduled deadline. Cancel it once the guarded work finishes in time.
+     */
+    public final class Deadline {
+
+        private final Timeout timeout;
+
+        private Deadline(Timeout timeout) {
+            this.timeout = timeout;
+        }
+
+        public void cancel() {
+            if (timeout.cancel()) {
+                cancelled.incrementAndGet();
+            }
+        }
+
+        public boolean isExpired() {
+            return timeout.isExpired();
+        }
+    }
+}
@@ -0,0 +1,55 @@
+package com.agentframework.multi_agent_reliability.execution;
+
+import com.agentframework.multi_agent_reliability.model.AgentFrameworkType;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.core.env.Environment;
+import org.springframework.stereotype.Component;
+
+import java.util.EnumMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Per-framework bulkheads, so a slow provider can only exhaust its own execution slots.
+ * Limits default to {@code app.agent.execution.max-concurrent} and
+ * {@code app.agent.execution.queue-capacity}, and can be overridden per framework with
+ * {@code app.agent.bulkhead.<FRAMEWORK_TYPE>.max-concurrent} / {@code .queue-capacity}.
+ */
+@Component
+public class ExecutionBulkheads {
+
+    private static final Logger logger = LoggerFactory.getLogger(ExecutionBulkheads.class);
+
+    private final Map<AgentFrameworkType, FrameworkBulkhead> bulkheads = new EnumMap<>(AgentFrameworkType.class);
+
+    @Autowired
+    public ExecutionBulkheads(Environment environment) {
+        int defaultMaxConcurrent = environment.getProperty("app.agent.execution.max-concurrent", Integer.class, 10);
+        int defaultQueueCapacity = environment.getProperty("app.agent.execution.queue-capacity", Integer.class, 50);
+
+        for (AgentFrameworkType frameworkType : AgentFrameworkType.values()) {
+            String prefix = "app.agent.bulkhead." + frameworkType.name();
+            int maxConcurrent = environment.getProperty(prefix + ".max-concurrent", Integer.class, defaultMaxConcurrent);
+            int queueCapacity = environment.getProperty(prefix + ".queue-capacity", Integer.class, defaultQueueCapacity);
+            bulkheads.put(frameworkType, new FrameworkBulkhead(frameworkType, maxConcurrent, queueCapacity));
+        }
+
+        logger.info("Initialized framework bulkheads (default max-concurrent={}, queue-capacity={})",
+                defaultMaxConcurrent, defaultQueueCapacity);
+    }
+
+    public FrameworkBulkhead forFramework(AgentFrameworkType frameworkType) {
+        return bulkheads.get(frameworkType);
+    }
+
+    /**
+     * Get queue depth, concurrency and rejection counters for every framework
+     */
+    public Map<AgentFrameworkType, Map<String, Object>> getStatistics() {
+        Map<AgentFrameworkType, Map<String, Object>> stats = new LinkedHashMap<>();
+        bulkheads.forEach((frameworkType, bulkhead) -> stats.put(frameworkType, bulkhead.getStatistics()));
+        return stats;
+    }
+}
@@ -0,0 +1,166 @@
+package com.agentframework.multi_agent_reliability.execution;
+
+import com.agentframework.multi_agent_reliability.model.AgentExecution;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Future;
+import java.util.function.Consumer;
+
+/**
+ * Live handle on a single execution while it is queued or running.
+ * Aborting the handle cancels whatever currently represents the execution: its place in the
+ * bulkhead queue, the engine task preparing its call, or the adapter call itself. All state transitions go through the handle, so exactly one terminal transition wins
+ * (completion, failure, timeout or cancellation) and it is never overwritten afterwards.
+ */
+public class ExecutionHandle {
+
+    private final AgentExecution execution;
+    private final CompletableFuture<AgentExecution> completion = new CompletableFuture<>();
+
+    private boolean finished;
+    private volatile Future<?> currentCall;
+    private boolean callStarted;
+    private volatile boolean abortRequested;
+    private volatile DeadlineScheduler.Deadline deadline;
+
+    public ExecutionHandle(AgentExecution execution) {
+        this.execution = execution;
+    }
+
+    /**
+     * Apply a non-terminal transition, unless the execution has already finished
+     * @return false if the execution was already finished
+     */
+    public synchronized boolean update(Consumer<AgentExecution> transition) {
+        if (finished) {
+            return false;
+        }
+        transition.accept(execution);
+        return true;
+    }
+
+    /**
+     * Apply the terminal transition, if no other terminal transition has been applied yet.
+     * The winning transition cancels the deadline and completes {@link #getCompletion()}, even
+     * if the transition itself throws, and rethrows afterwards.
+     * @return false if the execution was already finished
+     */
+    public boolean finish(Consumer<AgentExecution> transition) {
+        return finish(transition, execution -> { });
+    }
+
+    /**
+     * Apply the terminal transition as {@link #finish(Consumer)} does, then run onFinished (e.g. to
+     * persist the outcome) outside the handle's lock but before the completion is signalled.
+     * No other transition can be applied by then.
+     * @return false if the execution was already finished
+     */
+    public boolean finish(Consumer<AgentExecution> transition, Consumer<AgentExecution> onFinished) {
+        synchronized (this) {
+            if (finished) {
+                return false;
+            }
+            finished = true;
+        }
+
+        try {
+            synchronized (this) {
+                transition.accept(execution);
+            }
+            onFinished.accept(execution);
+        } finally {
+            DeadlineScheduler.Deadline scheduled = deadline;
+            if (scheduled != null) {
+                scheduled.cancel();
+            }
+            completion.complete(execution);
+        }
+        return true;
+    }
+
+    /**
+     * Finish the execution with a timeout or cancellation, then abort its current call.
+     * The terminal state is applied first, so the aborted call can't replace it when it
+     * reports its own failure.
+     * @return false if the execution was already finished; its call is then left alone
+     */
+    public boolean abort(Consumer<AgentExecution> transition, Consumer<AgentExecution> onFinished) {
+        if (!finish(transition, onFinished)) {
+            return false;
+        }
+        abortCurrentCall();
+        return true;
+    }
+
+    public synchronized boolean isFinished() {
+        return finished;
+    }
+
+    /**
+     * Abort the call currently running for this execution, interrupting its thread
+     */
+    public void abortCurrentCall() {
+        abortRequested = true;
+        Future<?> call = currentCall;
+        if (call != null) {
+            call.cancel(true);
+        }
+    }
+
+    /**
+     * Track the adapter call running for this execution; it replaces the queue entry or engine task
+     */
+    public synchronized void setCurrentCall(Future<?> currentCall) {
+        callStarted = true;
+        track(currentCall);
+    }
+
+    /**
+     * Track the engine task preparing the call, unless that task has already started the call.
+     * The task may run before the future submitting it is returned, and must not replace the call.
+     */
+    public synchronized void setEngineCall(Future<?> engineCall) {
+        if (!callStarted) {
+            track(engineCall);
+        }
+    }
+
+    /**
+     * Track the execution's place in its bulkhead queue, unless its call has already started
+     */
+    public synchronized void setQueuedCall(Future<?> queuedCall) {
+        if (currentCall == null) {
+            track(queuedCall);
+        }
+    }
+
+    private void track(Future<?> call) {
+        this.currentCall = call;
+        // The execution may have been aborted while the call was being started
+        if (abortRequested) {
+            call.cancel(true);
+        }
+    }
+
+    public void setDeadline(DeadlineScheduler.Deadline deadline) {
+        this.deadline = deadline;
+        if (isFinished()) {
+            deadline.cancel();
+        }
+    }
+
+    public AgentExecution getExecution() {
+        return execution;
+    }
+
+    public Long getExecutionId() {
+        return execution.getId();
+    }
+
+    /**
+     * Future completed with the execution once it reaches a terminal state
+     */
+    public CompletableFuture<AgentExecution> getCompletion() {
+        return completion;
+    }
+}
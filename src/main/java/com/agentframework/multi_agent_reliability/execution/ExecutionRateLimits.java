@@ -0,0 +1,79 @@
+package com.agentframework.multi_agent_reliability.execution;
+
+import com.agentframework.multi_agent_reliability.model.AgentFrameworkType;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.core.env.Environment;
+import org.springframework.stereotype.Component;
+
+import java.util.EnumMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Per-framework client-side rate limiters matching the provider's quotas.
+ * Quotas are set per framework with {@code app.agent.rate-limit.<FRAMEWORK_TYPE>.requests-per-minute}
+ * and {@code .tokens-per-minute}; a quota of 0 (the default) is not enforced. Token use is
+ * estimated from the prompt length and the completion limit, then corrected from the reported usage.
+ */
+@Component
+public class ExecutionRateLimits {
+
+    private static final Logger logger = LoggerFactory.getLogger(ExecutionRateLimits.class);
+
+    // Rough size of a token in English text
+    private static final int CHARS_PER_TOKEN = 4;
+
+    private final Map<AgentFrameworkType, FrameworkRateLimiter> limiters = new EnumMap<>(AgentFrameworkType.class);
+    private final int defaultCompletionTokens;
+
+    @Autowired
+    public ExecutionRateLimits(Environment environment, DeadlineScheduler deadlineScheduler) {
+        this.defaultCompletionTokens = environment.getProperty("app.agent.rate-limit.default-completion-tokens", Integer.class, 256);
+        long defaultPauseMs = environment.getProperty("app.agent.rate-limit.default-pause-ms", Long.class, 1000L);
+
+        for (AgentFrameworkType frameworkType : AgentFrameworkType.values()) {
+            String prefix = "app.agent.rate-limit." + frameworkType.name();
+            long requestsPerMinute = environment.getProperty(prefix + ".requests-per-minute", Long.class, 0L);
+            long tokensPerMinute = environment.getProperty(prefix + ".tokens-per-minute", Long.class, 0L);
+            limiters.put(frameworkType, new FrameworkRateLimiter(
+                    frameworkType, requestsPerMinute, tokensPerMinute, defaultPauseMs, deadlineScheduler));
+            if (requestsPerMinute > 0 || tokensPerMinute > 0) {
+                logger.info("Rate limiting {} to {} requests/min and {} tokens/min",
+                        frameworkType, requestsPerMinute, tokensPerMinute);
+            }
+        }
+    }
+
+    public FrameworkRateLimiter forFramework(AgentFrameworkType frameworkType) {
+        return limiters.get(frameworkType);
+    }
+
+    /**
+     * Estimate the tokens of a call: its prompt, plus its completion limit or the default completion size
+     * @param promptLength Length of the rendered prompt in characters
+     * @param metadata The prepared execution metadata
+     */
+    public long estimateTokens(int promptLength, Map<String, String> metadata) {
+        long completionTokens = defaultCompletionTokens;
+        String maxTokens = metadata.get("maxTokens");
+        if (maxTokens != null) {
+            try {
+                completionTokens = Long.parseLong(maxTokens.trim());
+            } catch (NumberFormatException e) {
+                // Adapters ignore invalid limits too
+            }
+        }
+        return (promptLength + CHARS_PER_TOKEN - 1) / CHARS_PER_TOKEN + completionTokens;
+    }
+
+    /**
+     * Get quota, bucket and wait statistics for every framework
+     */
+    public Map<AgentFrameworkType, Map<String, Object>> getStatistics() {
+        Map<AgentFrameworkType, Map<String, Object>> stats = new LinkedHashMap<>();
+        limiters.forEach((frameworkType, limiter) -> stats.put(frameworkType, limiter.getStatistics()));
+        return stats;
+    }
+}
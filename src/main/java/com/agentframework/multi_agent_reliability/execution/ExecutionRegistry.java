@@ -0,0 +1,61 @@
+package com.agentframework.multi_agent_reliability.execution;
+
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Registry of live executions (queued or running) by execution ID.
+ * Handles are removed automatically once their execution reaches a terminal state.
+ * Also tracks cancelled benchmark runs, so executions dispatched while a cancellation
+ * is in progress are cancelled as soon as they register.
+ */
+@Component
+public class ExecutionRegistry {
+
+    private final Map<Long, ExecutionHandle> live = new ConcurrentHashMap<>();
+    private final Set<String> cancelledBenchmarkRuns = ConcurrentHashMap.newKeySet();
+
+    public void register(ExecutionHandle handle) {
+        Long executionId = handle.getExecutionId();
+        live.put(executionId, handle);
+        handle.getCompletion().whenComplete((execution, error) -> live.remove(executionId, handle));
+    }
+
+    public Optional<ExecutionHandle> find(Long executionId) {
+        return Optional.ofNullable(live.get(executionId));
+    }
+
+    public List<ExecutionHandle> findByBenchmarkRun(String benchmarkRunId) {
+        return live.values().stream()
+                .filter(handle -> Objects.equals(benchmarkRunId, handle.getExecution().getBenchmarkRunId()))
+                .toList();
+    }
+
+    /**
+     * Mark a benchmark run as cancelled. Must be called before cancelling its live executions.
+     */
+    public void markBenchmarkRunCancelled(String benchmarkRunId) {
+        cancelledBenchmarkRuns.add(benchmarkRunId);
+    }
+
+    public boolean isBenchmarkRunCancelled(String benchmarkRunId) {
+        return benchmarkRunId != null && cancelledBenchmarkRuns.contains(benchmarkRunId);
+    }
+
+    /**
+     * Forget a benchmark run once it has stopped dispatching executions
+     */
+    public void clearBenchmarkRun(String benchmarkRunId) {
+        cancelledBenchmarkRuns.remove(benchmarkRunId);
+    }
+
+    public int getLiveCount() {
+        return live.size();
+    }
+}
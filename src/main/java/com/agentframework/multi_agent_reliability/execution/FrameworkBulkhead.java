@@ -0,0 +1,217 @@
+package com.agentframework.multi_agent_reliability.execution;
+
+import com.agentframework.multi_agent_reliability.model.AgentFrameworkType;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.function.Supplier;
+
+/**
+ * Bulkhead isolating the executions of a single framework.
+ * At most maxConcurrent calls run at once; further calls wait in a bounded queue and are
+ * started as running calls complete. When the queue is full, new calls are rejected
+ * instead of being run on the caller's thread. Cancelling the future of a queued call
+ * removes it from the queue.
+ */
+public class FrameworkBulkhead {
+
+    /**
+     * Metadata key marking an execution shed for lack of capacity, before any call was made
+     */
+    public static final String REJECTED_KEY = "bulkheadRejected";
+
+    private final AgentFrameworkType frameworkType;
+    private final int maxConcurrent;
+    private final int queueCapacity;
+
+    private final Deque<QueuedCall<?>> queue = new ArrayDeque<>();
+    private int running;
+    private int peakQueueDepth;
+    private long accepted;
+    private long rejected;
+    private long cancelledWhileQueued;
+
+    public FrameworkBulkhead(AgentFrameworkType frameworkType, int maxConcurrent, int queueCapacity) {
+        if (maxConcurrent < 1) {
+            throw new IllegalArgumentException("maxConcurrent must be at least 1 for " + frameworkType);
+        }
+        this.frameworkType = frameworkType;
+        this.maxConcurrent = maxConcurrent;
+        this.queueCapacity = Math.max(0, queueCapacity);
+    }
+
+    /**
+     * Submit a call, rejecting it if the framework is at capacity and its queue is full
+     * @param call Starts the call and returns its completion
+     * @return Future completed with the call's result
+     * @throws RejectedExecutionException if the framework is overloaded
+     */
+    public <T> CompletableFuture<T> submit(Supplier<CompletableFuture<T>> call) {
+        QueuedCall<T> queued = new QueuedCall<>(call);
+        boolean startNow;
+
+        synchronized (this) {
+            if (running < maxConcurrent) {
+                running++;
+                startNow = true;
+            } else if (queue.size() < queueCapacity) {
+                enqueue(queued);
+                startNow = false;
+            } else {
+                rejected++;
+                throw new RejectedExecutionException(String.format(
+                        "%s is overloaded: %d executions running and %d queued",
+                        frameworkType.getDisplayName(), running, queue.size()));
+            }
+            accepted++;
+        }
+
+        if (startNow) {
+            start(queued);
+        }
+        return queued.result;
+    }
+
+    /**
+     * Submit a call, waiting for queue capacity instead of rejecting it.
+     * Intended for dispatchers that run on their own thread, such as benchmark runs.
+     */
+    public <T> CompletableFuture<T> submitAwaitingCapacity(Supplier<CompletableFuture<T>> call) throws InterruptedException {
+        QueuedCall<T> queued = new QueuedCall<>(call);
+        boolean startNow;
+
+        synchronized (this) {
+            while (running >= maxConcurrent && queue.size() >= queueCapacity) {
+                wait();
+            }
+            if (running < maxConcurrent) {
+                running++;
+                startNow = true;
+            } else {
+                enqueue(queued);
+                startNow = false;
+            }
+            accepted++;
+        }
+
+        if (startNow) {
+            start(queued);
+        }
+        return queued.result;
+    }
+
+    private void enqueue(QueuedCall<?> queued) {
+        queue.addLast(queued);
+        peakQueueDepth = Math.max(peakQueueDepth, queue.size());
+        queued.result.whenComplete((value, error) -> {
+            if (queued.result.isCancelled()) {
+                removeQueued(queued);
+            }
+        });
+    }
+
+    private synchronized void removeQueued(QueuedCall<?> queued) {
+        if (queue.remove(queued)) {
+            cancelledWhileQueued++;
+            notifyAll();
+        }
+    }
+
+    /**
+     * Start a call and, for as long as calls complete synchronously, the queued calls after it.
+     * Draining in a loop rather than from each completion keeps a long queue of calls that finish
+     * at once (e.g. already timed out) from growing the stack.
+     */
+    private void start(QueuedCall<?> queued) {
+        QueuedCall<?> next = queued;
+        while (next != null) {
+            next = startOne(next);
+        }
+    }
+
+    /**
+     * @return The next queued call to start, if this call completed synchronously
+     */
+    private <T> QueuedCall<?> startOne(QueuedCall<T> queued) {
+        CompletableFuture<T> future;
+        try {
+            future = queued.call.get();
+        } catch (Throwable t) {
+            future = CompletableFuture.failedFuture(t);
+        }
+
+        if (future.isDone()) {
+            future.whenComplete((value, error) -> settle(queued, value, error));
+            return release();
+        }
+        future.whenComplete((value, error) -> {
+            settle(queued, value, error);
+            start(release());
+        });
+        return null;
+    }
+
+    private static <T> void settle(QueuedCall<T> queued, T value, Throwable error) {
+        if (error != null) {
+            queued.result.completeExceptionally(error);
+        } else {
+            queued.result.complete(value);
+        }
+    }
+
+    /**
+     * Free a slot, or hand it to the next queued call
+     * @return The queued call now holding the slot, if any
+     */
+    private QueuedCall<?> release() {
+        synchronized (this) {
+            QueuedCall<?> next = queue.pollFirst();
+            if (next == null) {
+                running--;
+            }
+            notifyAll();
+            return next;
+        }
+    }
+
+    public AgentFrameworkType getFrameworkType() {
+        return frameworkType;
+    }
+
+    public synchronized int getQueueDepth() {
+        return queue.size();
+    }
+
+    public synchronized int getRunning() {
+        return running;
+    }
+
+    /**
+     * Get a consistent snapshot of this bulkhead's state and counters
+     */
+    public synchronized Map<String, Object> getStatistics() {
+        Map<String, Object> stats = new HashMap<>();
+        stats.put("maxConcurrent", maxConcurrent);
+        stats.put("queueCapacity", queueCapacity);
+        stats.put("running", running);
+        stats.put("queueDepth", queue.size());
+        stats.put("peakQueueDepth", peakQueueDepth);
+        stats.put("accepted", accepted);
+        stats.put("rejected", rejected);
+        stats.put("cancelledWhileQueued", cancelledWhileQueued);
+        return stats;
+    }
+
+    private static final class QueuedCall<T> {
+        private final Supplier<CompletableFuture<T>> call;
+        private final CompletableFuture<T> result = new CompletableFuture<>();
+
+        private QueuedCall(Supplier<CompletableFuture<T>> call) {
+            this.call = call;
+        }
+    }
+}
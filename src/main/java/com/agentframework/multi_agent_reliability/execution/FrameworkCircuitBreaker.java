@@ -0,0 +1,310 @@
+package com.agentframework.multi_agent_reliability.execution;
+
+import com.agentframework.multi_agent_reliability.model.AgentFrameworkType;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.function.Predicate;
+import java.util.function.Supplier;
+
+/**
+ * Circuit breaker for the calls of a single framework.
+ * While CLOSED, the outcomes of the last windowSize calls are kept; once at least minimumCalls
+ * are known and the failure rate or the slow-call rate reaches its threshold, the breaker OPENs
+ * and refuses calls at once with {@link CircuitBreakerOpenException}. After the open duration it
+ * goes HALF_OPEN and lets a limited number of probe calls through: if their rates stay below the
+ * thresholds it CLOSEs again, otherwise it re-OPENs.
+ * Only failures matching the failure predicate count as failures; other errors are ignored.
+ * A call cancelled after running longer than the slow-call duration (typically cut off by its
+ * execution deadline) counts as slow, so a hanging provider trips the breaker too.
+ * Each call's outcome only counts in the state it was admitted under: a call admitted while CLOSED
+ * that completes after the breaker opened is neither a probe nor part of a later window.
+ */
+public class FrameworkCircuitBreaker {
+
+    public static final String REJECTED_KEY = "circuitBreakerRejected";
+
+    public enum State {
+        CLOSED, OPEN, HALF_OPEN
+    }
+
+    /**
+     * Notified of every state change, outside the breaker's lock
+     */
+    @FunctionalInterface
+    public interface StateListener {
+        void onStateChange(FrameworkCircuitBreaker breaker, State from, State to, String reason);
+    }
+
+    private final AgentFrameworkType frameworkType;
+    private final int windowSize;
+    private final int minimumCalls;
+    private final double failureRateThreshold;
+    private final double slowCallRateThreshold;
+    private final long slowCallDurationMs;
+    private final long openDurationMs;
+    private final int halfOpenCalls;
+    private final Predicate<Throwable> countsAsFailure;
+    private final StateListener listener;
+
+    private State state = State.CLOSED;
+    private long openedAt;
+    // Incremented on every transition, so outcomes of calls admitted in an earlier state can be told apart
+    private long generation;
+
+    // Ring buffer of the outcomes of the latest calls while closed
+    private final boolean[] failed;
+    private final boolean[] slow;
+    private int recorded;
+    private int next;
+    private int failures;
+    private int slowCalls;
+
+    // Probe calls while half-open
+    private int probesInFlight;
+    private int probesCompleted;
+    private int probeFailures;
+    private int probeSlowCalls;
+
+    private long rejected;
+    private long timesOpened;
+
+    /**
+     * @param failureRateThreshold Failure rate, in percent, that opens the breaker
+     * @param slowCallRateThreshold Slow-call rate, in percent, that opens the breaker
+     * @param countsAsFailure Which call errors count as failures
+     */
+    public FrameworkCircuitBreaker(AgentFrameworkType frameworkType, int windowSize, int minimumCalls,
+                                   double failureRateThreshold, double slowCallRateThreshold, long slowCallDurationMs,
+                                   long openDurationMs, int halfOpenCalls, Predicate<Throwable> countsAsFailure,
+                                   StateListener listener) {
+        if (windowSize < 1) {
+            throw new IllegalArgumentException("windowSize must be at least 1 for " + frameworkType);
+        }
+        this.frameworkType = frameworkType;
+        this.windowSize = windowSize;
+        this.minimumCalls = Math.max(1, Math.min(minimumCalls, windowSize));
+        this.failureRateThreshold = failureRateThreshold;
+        this.slowCallRateThreshold = slowCallRateThreshold;
+        this.slowCallDurationMs = slowCallDurationMs;
+        this.openDurationMs = openDurationMs;
+        this.halfOpenCalls = Math.max(1, halfOpenCalls);
+        this.countsAsFailure = countsAsFailure;
+        this.listener = listener;
+        this.failed = new boolean[windowSize];
+        this.slow = new boolean[windowSize];
+    }
+
+    /**
+     * Start a call if the breaker permits it, and record its outcome.
+     * Time the call spent waiting for its rate limiter (recorded in the metadata) doesn't count
+     * towards its duration.
+     * @return The call's completion, or a future failed with {@link CircuitBreakerOpenException}
+     */
+    public <T> CompletableFuture<T> execute(Map<String, String> metadata, Supplier<CompletableFuture<T>> call) {
+        Transition transition;
+        boolean permitted;
+        long admittedGeneration;
+        synchronized (this) {
+            transition = openedLongEnough(System.currentTimeMillis()) ? transitionTo(State.HALF_OPEN, "open duration elapsed") : null;
+            permitted = tryAcquirePermission();
+            if (!permitted) {
+                rejected++;
+            }
+            admittedGeneration = generation;
+        }
+        notify(transition);
+        if (!permitted) {
+            return CompletableFuture.failedFuture(new CircuitBreakerOpenException(frameworkType, getState()));
+        }
+
+        long start = System.nanoTime();
+        CompletableFuture<T> future;
+        try {
+            future = call.get();
+        } catch (Throwable t) {
+            future = CompletableFuture.failedFuture(t);
+        }
+        future.whenComplete((value, error) -> {
+            long durationMs = (System.nanoTime() - start) / 1_000_000 - rateLimitWaitMs(metadata);
+            onComplete(admittedGeneration, durationMs, error);
+        });
+        return future;
+    }
+
+    /**
+     * Whether the breaker is open and refusing calls, checked without taking a permit or recording
+     * an outcome. For work whose outcome says little about single calls, such as Batch API
+     * submissions that take hours and succeed or fail as a whole.
+     */
+    public synchronized boolean isRejectingCalls() {
+        return state == State.OPEN && !openedLongEnough(System.currentTimeMillis());
+    }
+
+    private boolean openedLongEnough(long now) {
+        return state == State.OPEN && now - openedAt >= openDurationMs;
+    }
+
+    private boolean tryAcquirePermission() {
+        switch (state) {
+            case CLOSED:
+                return true;
+            case HALF_OPEN:
+                if (probesInFlight + probesCompleted < halfOpenCalls) {
+                    probesInFlight++;
+                    return true;
+                }
+                return false;
+            default:
+                return false;
+        }
+    }
+
+    private void onComplete(long admittedGeneration, long durationMs, Throwable error) {
+        Throwable cause = error instanceof CompletionException && error.getCause() != null ? error.getCause() : error;
+        boolean isSlow = durationMs >= slowCallDurationMs;
+        boolean isFailure = cause != null && !(cause instanceof CancellationException) && countsAsFailure.test(cause);
+        // Cancelled (lost a hedge, aborted by its deadline) or an error unrelated to the provider's health
+        boolean ignored = cause != null && !isFailure && !(cause instanceof CancellationException && isSlow);
+
+        Transition transition;
+        synchronized (this) {
+            if (admittedGeneration != generation) {
+                // Admitted under an earlier state; the transition already reset the window and probes
+                return;
+            }
+            transition = ignored ? releaseProbe() : record(isFailure, isSlow);
+        }
+        notify(transition);
+    }
+
+    private Transition record(boolean isFailure, boolean isSlow) {
+        switch (state) {
+            case CLOSED:
+                if (recorded == windowSize) {
+                    failures -= failed[next] ? 1 : 0;
+                    slowCalls -= slow[next] ? 1 : 0;
+                } else {
+                    recorded++;
+                }
+                failed[next] = isFailure;
+                slow[next] = isSlow;
+                failures += isFailure ? 1 : 0;
+                slowCalls += isSlow ? 1 : 0;
+                next = (next + 1) % windowSize;
+
+                if (recorded >= minimumCalls) {
+                    String reason = exceededThreshold(failures, slowCalls, recorded);
+                    if (reason != null) {
+                        return transitionTo(State.OPEN, reason);
+                    }
+                }
+                return null;
+
+            case HALF_OPEN:
+                probesInFlight = Math.max(0, probesInFlight - 1);
+                probesCompleted++;
+                probeFailures += isFailure ? 1 : 0;
+                probeSlowCalls += isSlow ? 1 : 0;
+                if (probesCompleted < halfOpenCalls) {
+                    return null;
+                }
+                String reason = exceededThreshold(probeFailures, probeSlowCalls, probesCompleted);
+                return reason != null
+                        ? transitionTo(State.OPEN, "probe calls still failing: " + reason)
+                        : transitionTo(State.CLOSED, probesCompleted + " probe calls succeeded");
+
+            default:
+                // No call is admitted while OPEN
+                return null;
+        }
+    }
+
+    private Transition releaseProbe() {
+        if (state == State.HALF_OPEN) {
+            probesInFlight = Math.max(0, probesInFlight - 1);
+        }
+        return null;
+    }
+
+    private String exceededThreshold(int failureCount, int slowCount, int calls) {
+        double failureRate = failureCount * 100.0 / calls;
+        double slowCallRate = slowCount * 100.0 / calls;
+        if (failureRate >= failureRateThreshold) {
+            return String.format("failure rate %.1f%% over %d calls", failureRate, calls);
+        }
+        if (slowCallRate >= slowCallRateThreshold) {
+            return String.format("slow-call rate %.1f%% over %d calls (slower than %dms)", slowCallRate, calls, slowCallDurationMs);
+        }
+        return null;
+    }
+
+    private Transition transitionTo(State target, String reason) {
+        State from = state;
+        state = target;
+        generation++;
+        recorded = 0;
+        next = 0;
+        failures = 0;
+        slowCalls = 0;
+        probesInFlight = 0;
+        probesCompleted = 0;
+        probeFailures = 0;
+        probeSlowCalls = 0;
+        if (target == State.OPEN) {
+            openedAt = System.currentTimeMillis();
+            timesOpened++;
+        }
+        return new Transition(from, target, reason);
+    }
+
+    private void notify(Transition transition) {
+        if (transition != null && listener != null) {
+            listener.onStateChange(this, transition.from, transition.to, transition.reason);
+        }
+    }
+
+    private static long rateLimitWaitMs(Map<String, String> metadata) {
+        String waitMs = metadata != null ? metadata.get(FrameworkRateLimiter.RATE_LIMIT_WAIT_KEY) : null;
+        if (waitMs == null) {
+            return 0;
+        }
+        try {
+            return Long.parseLong(waitMs);
+        } catch (NumberFormatException e) {
+            return 0;
+        }
+    }
+
+    public AgentFrameworkType getFrameworkType() {
+        return frameworkType;
+    }
+
+    public synchronized State getState() {
+        return state;
+    }
+
+    /**
+     * Get state, window rates and rejection counters for monitoring
+     */
+    public synchronized Map<String, Object> getStatistics() {
+        Map<String, Object> stats = new HashMap<>();
+        stats.put("state", state.name());
+        stats.put("windowCalls", recorded);
+        stats.put("failureRate", recorded > 0 ? Math.round(failures * 10000.0 / recorded) / 100.0 : 0.0);
+        stats.put("slowCallRate", recorded > 0 ? Math.round(slowCalls * 10000.0 / recorded) / 100.0 : 0.0);
+        stats.put("rejected", rejected);
+        stats.put("timesOpened", timesOpened);
+        stats.put("openedAt", state == State.OPEN ? openedAt : null);
+        stats.put("failureRateThreshold", failureRateThreshold);
+        stats.put("slowCallRateThreshold", slowCallRateThreshold);
+        stats.put("slowCallDurationMs", slowCallDurationMs);
+        return stats;
+    }
+
+    private record Transition(State from, State to, String reason) {
+    }
+}
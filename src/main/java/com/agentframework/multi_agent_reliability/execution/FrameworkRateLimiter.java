@@ -0,0 +1,316 @@
+package com.agentframework.multi_agent_reliability.execution;
+
+import com.agentframework.multi_agent_reliability.adapter.TokenUsage;
+import com.agentframework.multi_agent_reliability.model.AgentFrameworkType;
+import org.springframework.http.HttpHeaders;
+import org.springframework.web.client.RestClientResponseException;
+import org.springframework.web.reactive.function.client.WebClientResponseException;
+
+import java.time.Duration;
+import java.time.ZonedDateTime;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Supplier;
+
+/**
+ * Client-side rate limiter for the calls of a single framework, covering requests per minute
+ * and tokens per minute with one token bucket each.
+ * A call reserves one request and its estimated tokens up front. Buckets may go negative: a call
+ * beyond the current allowance is not refused but started later, once the buckets have refilled
+ * by its deficit, so bursts are smoothed into the provider's quota instead of failing with 429.
+ * Once a call completes, its token estimate is corrected from the reported usage. A 429 pauses
+ * the limiter for the response's Retry-After, during which the buckets don't refill.
+ * Waits are scheduled on the deadline timer, so no thread is held.
+ */
+public class FrameworkRateLimiter {
+
+    public static final String RATE_LIMIT_WAIT_KEY = "rateLimitWaitMs";
+
+    private static final long NANOS_PER_MINUTE = 60_000_000_000L;
+
+    private final AgentFrameworkType frameworkType;
+    private final long requestsPerMinute;
+    private final long tokensPerMinute;
+    private final long defaultPauseMs;
+    private final DeadlineScheduler deadlineScheduler;
+
+    private double availableRequests;
+    private double availableTokens;
+    // Refills accrue from this instant on; a pause moves it into the future
+    private long refilledAtNanos;
+
+    private long calls;
+    private long delayedCalls;
+    private long totalWaitMs;
+    private long rateLimitedResponses;
+    private long estimatedTokens;
+    private long reportedTokens;
+
+    /**
+     * @param requestsPerMinute Request quota; 0 for no request limit
+     * @param tokensPerMinute Token quota; 0 for no token limit
+     * @param defaultPauseMs Pause after a 429 without a Retry-After header
+     */
+    public FrameworkRateLimiter(AgentFrameworkType frameworkType, long requestsPerMinute, long tokensPerMinute,
+                                long defaultPauseMs, DeadlineScheduler deadlineScheduler) {
+        this.frameworkType = frameworkType;
+        this.requestsPerMinute = Math.max(0, requestsPerMinute);
+        this.tokensPerMinute = Math.max(0, tokensPerMinute);
+        this.defaultPauseMs = Math.max(0, defaultPauseMs);
+        this.deadlineScheduler = deadlineScheduler;
+        this.availableRequests = this.requestsPerMinute;
+        this.availableTokens = this.tokensPerMinute;
+        this.refilledAtNanos = System.nanoTime();
+    }
+
+    /**
+     * Start a call once the quota allows it.
+     * The call's recorded usage ({@link TokenUsage#TOTAL_TOKENS_KEY} in the metadata) corrects the estimate.
+     * Cancelling the returned future before the call started returns its reservation.
+     * @param estimatedTokens Prompt and expected completion tokens of the call
+     * @param metadata Metadata the call writes its usage to
+     * @param call Starts the call and returns its completion
+     */
+    public <T> CompletableFuture<T> execute(long estimatedTokens, Map<String, String> metadata,
+                                            Supplier<CompletableFuture<T>> call) {
+        long tokens = tokensPerMinute > 0 ? Math.min(Math.max(0, estimatedTokens), tokensPerMinute) : 0;
+        long waitMs = reserve(tokens);
+        if (waitMs <= 0) {
+            metadata.remove(RATE_LIMIT_WAIT_KEY);
+            return start(tokens, metadata, call);
+        }
+        metadata.put(RATE_LIMIT_WAIT_KEY, String.valueOf(waitMs));
+
+        CompletableFuture<T> result = new CompletableFuture<>();
+        AtomicBoolean started = new AtomicBoolean();
+        DeadlineScheduler.Deadline deadline = deadlineScheduler.schedule(waitMs, () -> {
+            if (!started.compareAndSet(false, true)) {
+                return;
+            }
+            CompletableFuture<T> running = start(tokens, metadata, call);
+            // Cancelling the result from here on cancels the running call
+            result.whenComplete((value, error) -> {
+                if (result.isCancelled()) {
+                    running.cancel(true);
+                }
+            });
+            running.whenComplete((value, error) -> {
+                if (error != null) {
+                    result.completeExceptionally(error instanceof CompletionException && error.getCause() != null
+                            ? error.getCause() : error);
+                } else {
+                    result.complete(value);
+                }
+            });
+        });
+        result.whenComplete((value, error) -> {
+            if (result.isCancelled() && started.compareAndSet(false, true)) {
+                deadline.cancel();
+                release(tokens);
+            }
+        });
+        return result;
+    }
+
+    private <T> CompletableFuture<T> start(long tokens, Map<String, String> metadata, Supplier<CompletableFuture<T>> call) {
+        CompletableFuture<T> running;
+        try {
+            running = call.get();
+        } catch (Throwable t) {
+            running = CompletableFuture.failedFuture(t);
+        }
+        running.whenComplete((value, error) -> {
+            if (error == null) {
+                correct(tokens, reportedTokens(metadata));
+            } else if (isRateLimited(error)) {
+                long retryAfterMs = retryAfterMs(error);
+                pause(retryAfterMs >= 0 ? retryAfterMs : defaultPauseMs, tokens);
+            }
+        });
+        return running;
+    }
+
+    /**
+     * Take a request and the tokens from the buckets
+     * @return How long the call has to wait before it may start
+     */
+    private synchronized long reserve(long tokens) {
+        long now = System.nanoTime();
+        refill(now);
+        calls++;
+        estimatedTokens += tokens;
+
+        long waitNanos = Math.max(0, refilledAtNanos - now);
+        if (requestsPerMinute > 0) {
+            availableRequests -= 1;
+            waitNanos += deficitNanos(availableRequests, requestsPerMinute);
+        }
+        if (tokensPerMinute > 0) {
+            availableTokens -= tokens;
+            waitNanos = Math.max(waitNanos, Math.max(0, refilledAtNanos - now) + deficitNanos(availableTokens, tokensPerMinute));
+        }
+
+        long waitMs = (waitNanos + 999_999) / 1_000_000;
+        if (waitMs > 0) {
+            delayedCalls++;
+            totalWaitMs += waitMs;
+        }
+        return waitMs;
+    }
+
+    private static long deficitNanos(double available, long perMinute) {
+        return available >= 0 ? 0 : (long) Math.ceil(-available * NANOS_PER_MINUTE / perMinute);
+    }
+
+    private void refill(long now) {
+        if (now <= refilledAtNanos) {
+            return;
+        }
+        double elapsedMinutes = (double) (now - refilledAtNanos) / NANOS_PER_MINUTE;
+        availableRequests = Math.min(requestsPerMinute, availableRequests + elapsedMinutes * requestsPerMinute);
+        availableTokens = Math.min(tokensPerMinute, availableTokens + elapsedMinutes * tokensPerMinute);
+        refilledAtNanos = now;
+    }
+
+    /**
+     * Return the reservation of a call that never started
+     */
+    private synchronized void release(long tokens) {
+        refill(System.nanoTime());
+        if (requestsPerMinute > 0) {
+            availableRequests = Math.min(requestsPerMinute, availableRequests + 1);
+        }
+        availableTokens = Math.min(tokensPerMinute, availableTokens + tokens);
+    }
+
+    /**
+     * Replace a call's token estimate by the tokens it actually used
+     */
+    private synchronized void correct(long estimated, long reported) {
+        if (reported < 0) {
+            return;
+        }
+        reportedTokens += reported;
+        if (tokensPerMinute > 0) {
+            refill(System.nanoTime());
+            availableTokens = Math.min(tokensPerMinute, availableTokens + estimated - reported);
+        }
+    }
+
+    /**
+     * Stop starting calls for a while after the provider rejected one; the rejected
+     * call's tokens weren't spent
+     */
+    private synchronized void pause(long pauseMs, long tokens) {
+        rateLimitedResponses++;
+        long now = System.nanoTime();
+        refill(now);
+        availableTokens = Math.min(tokensPerMinute, availableTokens + tokens);
+
+        long pausedUntil = now + pauseMs * 1_000_000;
+        if (pausedUntil > refilledAtNanos) {
+            refilledAtNanos = pausedUntil;
+            // The provider's view of the quota is authoritative: nothing is left until the pause ends
+            availableRequests = Math.min(availableRequests, 0);
+            availableTokens = Math.min(availableTokens, 0);
+        }
+    }
+
+    private static long reportedTokens(Map<String, String> metadata) {
+        String totalTokens = metadata.get(TokenUsage.TOTAL_TOKENS_KEY);
+        if (totalTokens == null) {
+            return -1;
+        }
+        try {
+            return Long.parseLong(totalTokens.trim());
+        } catch (NumberFormatException e) {
+            return -1;
+        }
+    }
+
+    /**
+     * Whether an error, or any of its causes, is an HTTP 429 response
+     */
+    public static boolean isRateLimited(Throwable error) {
+        for (Throwable t = error; t != null; t = t.getCause() == t ? null : t.getCause()) {
+            if (t instanceof WebClientResponseException e) {
+                return e.getStatusCode().value() == 429;
+            }
+            if (t instanceof RestClientResponseException e) {
+                return e.getStatusCode().value() == 429;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * The wait an HTTP error response asks for, from {@code retry-after-ms} or {@code Retry-After}
+     * (delay in seconds or an HTTP date)
+     * @return The wait in milliseconds, or -1 if the response doesn't specify one
+     */
+    public static long retryAfterMs(Throwable error) {
+        for (Throwable t = error; t != null; t = t.getCause() == t ? null : t.getCause()) {
+            if (t instanceof WebClientResponseException e) {
+                return retryAfterMs(e.getHeaders());
+            }
+            if (t instanceof RestClientResponseException e) {
+                return retryAfterMs(e.getResponseHeaders());
+            }
+        }
+        return -1;
+    }
+
+    private static long retryAfterMs(HttpHeaders headers) {
+        if (headers == null) {
+            return -1;
+        }
+        try {
+            String retryAfterMs = headers.getFirst("retry-after-ms");
+            if (retryAfterMs != null) {
+                return Math.max(0, Math.round(Double.parseDouble(retryAfterMs.trim())));
+            }
+            String retryAfter = headers.getFirst(HttpHeaders.RETRY_AFTER);
+            if (retryAfter == null) {
+                return -1;
+            }
+            retryAfter = retryAfter.trim();
+            if (!retryAfter.isEmpty() && Character.isDigit(retryAfter.charAt(0))) {
+                return Math.max(0, Math.round(Double.parseDouble(retryAfter) * 1000));
+            }
+            ZonedDateTime retryAt = ZonedDateTime.parse(retryAfter, DateTimeFormatter.RFC_1123_DATE_TIME);
+            return Math.max(0, Duration.between(ZonedDateTime.now(retryAt.getZone()), retryAt).toMillis());
+        } catch (NumberFormatException | DateTimeParseException e) {
+            return -1;
+        }
+    }
+
+    public AgentFrameworkType getFrameworkType() {
+        return frameworkType;
+    }
+
+    /**
+     * Get quota, bucket and wait statistics for monitoring
+     */
+    public synchronized Map<String, Object> getStatistics() {
+        long now = System.nanoTime();
+        refill(now);
+        Map<String, Object> stats = new HashMap<>();
+        stats.put("requestsPerMinute", requestsPerMinute);
+        stats.put("tokensPerMinute", tokensPerMinute);
+        stats.put("availableRequests", Math.round(availableRequests * 100.0) / 100.0);
+        stats.put("availableTokens", Math.round(availableTokens));
+        stats.put("pausedForMs", Math.max(0, (refilledAtNanos - now) / 1_000_000));
+        stats.put("calls", calls);
+        stats.put("delayedCalls", delayedCalls);
+        stats.put("averageWaitMs", delayedCalls > 0 ? totalWaitMs / delayedCalls : 0);
+        stats.put("rateLimitedResponses", rateLimitedResponses);
+        stats.put("estimatedTokens", estimatedTokens);
+        stats.put("reportedTokens", reportedTokens);
+        return stats;
+    }
+}
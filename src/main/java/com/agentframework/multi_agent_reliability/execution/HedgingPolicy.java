@@ -0,0 +1,328 @@
+package com.agentframework.multi_agent_reliability.execution;
+
+import com.agentframework.multi_agent_reliability.model.AgentFrameworkType;
+import org.apache.commons.math3.stat.descriptive.DescriptiveStatistics;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Optional request hedging to cut tail latency.
+ * If the primary call hasn't answered within the framework's observed p95 latency, an identical
+ * hedge call is started; whichever succeeds first wins and the other is cancelled. Both calls are
+ * non-blocking, so hedging holds no threads. Hedges are drawn from a per-framework budget
+ * refilled by calls, so hedging can only add a bounded fraction of extra load.
+ * Enabled by {@code app.agent.hedging.enabled}.
+ */
+@Component
+public class HedgingPolicy {
+
+    public static final String HEDGED_KEY = "hedged";
+    public static final String HEDGE_WON_KEY = "hedgeWon";
+
+    /**
+     * A non-blocking call that can be started more than once, each time with its own copy of the metadata
+     */
+    @FunctionalInterface
+    public interface HedgeableCall<T> {
+        CompletableFuture<T> call(Map<String, String> metadata);
+    }
+
+    private final boolean enabled;
+    private final int minSamples;
+    private final DeadlineScheduler deadlineScheduler;
+    private final Map<AgentFrameworkType, FrameworkHedging> frameworks = new EnumMap<>(AgentFrameworkType.class);
+
+    @Autowired
+    public HedgingPolicy(
+            @Value("${app.agent.hedging.enabled:false}") boolean enabled,
+            @Value("${app.agent.hedging.min-samples:20}") int minSamples,
+            @Value("${app.agent.hedging.latency-window:500}") int latencyWindow,
+            @Value("${app.agent.hedging.budget-ratio:0.05}") double budgetRatio,
+            @Value("${app.agent.hedging.budget-max-tokens:10}") double budgetMaxTokens,
+            DeadlineScheduler deadlineScheduler) {
+        this.enabled = enabled;
+        this.minSamples = minSamples;
+        this.deadlineScheduler = deadlineScheduler;
+        for (AgentFrameworkType frameworkType : AgentFrameworkType.values()) {
+            frameworks.put(frameworkType, new FrameworkHedging(latencyWindow, budgetRatio, budgetMaxTokens));
+        }
+    }
+
+    /**
+     * Run a call, hedging it once the framework's p95 latency has passed.
+     * The winning call's metadata is copied into the given metadata.
+     * Cancelling the returned future cancels both the primary and the hedge.
+     */
+    public <T> CompletableFuture<T> execute(AgentFrameworkType frameworkType, Map<String, String> metadata,
+                                            HedgeableCall<T> call) {
+        FrameworkHedging hedging = frameworks.get(frameworkType);
+        if (!enabled) {
+            return start(call, metadata);
+        }
+
+        hedging.calls.incrementAndGet();
+        hedging.depositBudget();
+
+        long hedgeDelayMs = hedging.getHedgeDelayMs(minSamples);
+        if (hedgeDelayMs < 0) {
+            // Not enough samples yet to know what "slow" means for this framework
+            return timed(hedging, metadata, call);
+        }
+
+        Race<T> race = new Race<>(hedging, metadata);
+        race.primary = timed(hedging, race.primaryMetadata, call);
+        // Listen to the primary before the hedge can start, so a hedge never starts after the primary won unnoticed
+        race.primary.whenComplete(race::primaryCompleted);
+        race.trigger = deadlineScheduler.schedule(hedgeDelayMs, () -> startHedge(race, call));
+        return race.result;
+    }
+
+    private <T> void startHedge(Race<T> race, HedgeableCall<T> call) {
+        FrameworkHedging hedging = race.hedging;
+        if (race.result.isDone()) {
+            return;
+        }
+        if (!hedging.tryAcquireBudget()) {
+            hedging.budgetDenials.incrementAndGet();
+            return;
+        }
+
+        CompletableFuture<T> hedge = timed(hedging, race.hedgeMetadata, call);
+        if (!race.setHedge(hedge)) {
+            // Decided while the hedge was starting; the hedge was cancelled, so it neither counts nor costs budget
+            hedging.refundBudget();
+            return;
+        }
+        hedging.hedged.incrementAndGet();
+        hedge.whenComplete(race::hedgeCompleted);
+    }
+
+    private static <T> CompletableFuture<T> start(HedgeableCall<T> call, Map<String, String> metadata) {
+        try {
+            return call.call(metadata);
+        } catch (Exception e) {
+            return CompletableFuture.failedFuture(e);
+        }
+    }
+
+    /**
+     * Start a call, recording its latency once it succeeds.
+     * The call's own future is returned, so cancelling it still aborts the call.
+     */
+    private static <T> CompletableFuture<T> timed(FrameworkHedging hedging, Map<String, String> metadata, HedgeableCall<T> call) {
+        long start = System.nanoTime();
+        CompletableFuture<T> future = start(call, metadata);
+        future.whenComplete((value, error) -> {
+            if (error == null) {
+                hedging.recordLatency((System.nanoTime() - start) / 1_000_000);
+            }
+        });
+        return future;
+    }
+
+    /**
+     * Get hedge counts, wins and the current hedge delay for every framework
+     */
+    public Map<AgentFrameworkType, Map<String, Object>> getStatistics() {
+        Map<AgentFrameworkType, Map<String, Object>> stats = new LinkedHashMap<>();
+        frameworks.forEach((frameworkType, hedging) -> {
+            Map<String, Object> frameworkStats = hedging.getStatistics(minSamples);
+            frameworkStats.put("enabled", enabled);
+            stats.put(frameworkType, frameworkStats);
+        });
+        return stats;
+    }
+
+    /**
+     * A primary call racing its hedge. Only one of them can win; the race result completes
+     * with the first success, or with the primary's failure once both have failed.
+     */
+    private static final class Race<T> {
+        private final FrameworkHedging hedging;
+        private final Map<String, String> metadata;
+        private final Map<String, String> primaryMetadata;
+        private final Map<String, String> hedgeMetadata;
+        private final CompletableFuture<T> result = new CompletableFuture<>();
+
+        private volatile CompletableFuture<T> primary;
+        private volatile DeadlineScheduler.Deadline trigger;
+        private CompletableFuture<T> hedge;
+        private Throwable primaryFailure;
+        private boolean hedgeFailed;
+
+        private Race(FrameworkHedging hedging, Map<String, String> metadata) {
+            this.hedging = hedging;
+            this.metadata = metadata;
+            this.primaryMetadata = new HashMap<>(metadata);
+            this.hedgeMetadata = new HashMap<>(metadata);
+            result.whenComplete((value, error) -> {
+                if (result.isCancelled()) {
+                    cancelAll();
+                }
+            });
+        }
+
+        /**
+         * @return false if the race is already decided and the hedge was cancelled
+         */
+        private synchronized boolean setHedge(CompletableFuture<T> hedge) {
+            if (result.isDone()) {
+                hedge.cancel(true);
+                return false;
+            }
+            this.hedge = hedge;
+            return true;
+        }
+
+        private synchronized void primaryCompleted(T value, Throwable error) {
+            DeadlineScheduler.Deadline scheduled = trigger;
+            if (scheduled != null) {
+                scheduled.cancel();
+            }
+            if (result.isDone()) {
+                return;
+            }
+
+            if (error == null) {
+                if (hedge != null) {
+                    hedge.cancel(true);
+                    metadata.put(HEDGED_KEY, "true");
+                }
+                metadata.putAll(primaryMetadata);
+                result.complete(value);
+                return;
+            }
+
+            // The primary failed; a hedge still in flight may yet succeed
+            primaryFailure = unwrap(error);
+            if (hedge == null || hedgeFailed) {
+                metadata.putAll(primaryMetadata);
+                result.completeExceptionally(primaryFailure);
+            }
+        }
+
+        private synchronized void hedgeCompleted(T value, Throwable error) {
+            if (result.isDone()) {
+                return;
+            }
+
+            if (error == null) {
+                primary.cancel(true);
+                hedging.hedgeWins.incrementAndGet();
+                metadata.putAll(hedgeMetadata);
+                metadata.put(HEDGED_KEY, "true");
+                metadata.put(HEDGE_WON_KEY, "true");
+                result.complete(value);
+                return;
+            }
+
+            hedgeFailed = true;
+            if (primaryFailure != null) {
+                // Both failed; report the primary's failure
+                metadata.putAll(primaryMetadata);
+                result.completeExceptionally(primaryFailure);
+            }
+        }
+
+        private void cancelAll() {
+            DeadlineScheduler.Deadline scheduled = trigger;
+            if (scheduled != null) {
+                scheduled.cancel();
+            }
+            CompletableFuture<T> started = primary;
+            if (started != null) {
+                started.cancel(true);
+            }
+            synchronized (this) {
+                if (hedge != null) {
+                    hedge.cancel(true);
+                }
+            }
+        }
+
+        private static Throwable unwrap(Throwable error) {
+            return error instanceof CompletionException && error.getCause() != null ? error.getCause() : error;
+        }
+    }
+
+    /**
+     * Latency window, hedge budget and counters of one framework
+     */
+    private static final class FrameworkHedging {
+        private static final int RECOMPUTE_EVERY = 20;
+
+        private final DescriptiveStatistics latencies;
+        private final double budgetRatio;
+        private final double budgetMaxTokens;
+
+        private double budgetTokens;
+        private long samplesSinceRecompute;
+        private long p95Ms = -1;
+
+        private final AtomicLong calls = new AtomicLong();
+        private final AtomicLong hedged = new AtomicLong();
+        private final AtomicLong hedgeWins = new AtomicLong();
+        private final AtomicLong budgetDenials = new AtomicLong();
+
+        private FrameworkHedging(int latencyWindow, double budgetRatio, double budgetMaxTokens) {
+            this.latencies = new DescriptiveStatistics(latencyWindow);
+            this.budgetRatio = budgetRatio;
+            this.budgetMaxTokens = budgetMaxTokens;
+            this.budgetTokens = budgetMaxTokens;
+        }
+
+        private synchronized void recordLatency(long latencyMs) {
+            latencies.addValue(latencyMs);
+            // Sorting the window on every call would cost more than the hedge saves
+            if (++samplesSinceRecompute >= RECOMPUTE_EVERY || p95Ms < 0) {
+                p95Ms = Math.round(latencies.getPercentile(95));
+                samplesSinceRecompute = 0;
+            }
+        }
+
+        /**
+         * @return The observed p95 latency, or -1 if there are fewer than minSamples samples
+         */
+        private synchronized long getHedgeDelayMs(int minSamples) {
+            return latencies.getN() >= minSamples ? p95Ms : -1;
+        }
+
+        private synchronized void depositBudget() {
+            budgetTokens = Math.min(budgetMaxTokens, budgetTokens + budgetRatio);
+        }
+
+        private synchronized boolean tryAcquireBudget() {
+            if (budgetTokens < 1.0) {
+                return false;
+            }
+            budgetTokens -= 1.0;
+            return true;
+        }
+
+        private synchronized void refundBudget() {
+            budgetTokens = Math.min(budgetMaxTokens, budgetTokens + 1.0);
+        }
+
+        private synchronized Map<String, Object> getStatistics(int minSamples) {
+            Map<String, Object> stats = new HashMap<>();
+            long hedgeCount = hedged.get();
+            stats.put("calls", calls.get());
+            stats.put("hedged", hedgeCount);
+            stats.put("hedgeWins", hedgeWins.get());
+            stats.put("hedgeWinRate", hedgeCount > 0 ? Math.round((double) hedgeWins.get() / hedgeCount * 10000.0) / 100.0 : 0.0);
+            stats.put("budgetDenials", budgetDenials.get());
+            stats.put("hedgeDelayMs", latencies.getN() >= minSamples ? p95Ms : null);
+            stats.put("latencySamples", latencies.getN());
+            return stats;
+        }
+    }
+}
@@ -0,0 +1,108 @@
+package com.agentframework.multi_agent_reliability.execution;
+
+import com.agentframework.multi_agent_reliability.dto.AgentExecutionRequest;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HashMap;
+import java.util.HexFormat;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Opt-in single-flight coalescing of identical in-flight executions.
+ * The first execution for a request key leads and makes the adapter call; identical requests
+ * arriving while it is in flight follow it and reuse its outcome. Benchmark iterations are never
+ * coalesced, since they need independent samples. Enabled by {@code app.agent.single-flight.enabled}.
+ */
+@Component
+public class RequestCoalescer {
+
+    public static final String COALESCED_KEY = "coalesced";
+    public static final String COALESCED_WITH_KEY = "coalescedWith";
+
+    private final boolean enabled;
+    private final Map<String, ExecutionHandle> leaders = new ConcurrentHashMap<>();
+
+    private final AtomicLong led = new AtomicLong();
+    private final AtomicLong coalesced = new AtomicLong();
+
+    @Autowired
+    public RequestCoalescer(@Value("${app.agent.single-flight.enabled:false}") boolean enabled) {
+        this.enabled = enabled;
+    }
+
+    public boolean appliesTo(AgentExecutionRequest request) {
+        return enabled && request.getBenchmarkRunId() == null;
+    }
+
+    /**
+     * Join the in-flight execution for a key, or become its leader.
+     * A leader that has already finished is never joined, even while it is still registered.
+     * @return The leader to follow, or null if the given handle is now the leader
+     */
+    public ExecutionHandle joinOrLead(String key, ExecutionHandle handle) {
+        while (true) {
+            ExecutionHandle leader = leaders.putIfAbsent(key, handle);
+            if (leader == null) {
+                led.incrementAndGet();
+                // New identical requests start a fresh flight once this one ends
+                handle.getCompletion().whenComplete((execution, error) -> leaders.remove(key, handle));
+                return null;
+            }
+            if (!leader.isFinished()) {
+                coalesced.incrementAndGet();
+                return leader;
+            }
+            // The leader's own dependents (e.g. a follower re-joining after it was cancelled)
+            // may run before the removal above, so drop it here rather than follow it again
+            leaders.remove(key, leader);
+        }
+    }
+
+    /**
+     * Hash of the normalized request: framework, trimmed description and input, and metadata in key order
+     */
+    public String keyFor(AgentExecutionRequest request) {
+        StringBuilder normalized = new StringBuilder()
+                .append(request.getFrameworkType()).append('\u0000')
+                .append(trim(request.getTaskDescription())).append('\u0000')
+                .append(trim(request.getTaskInput())).append('\u0000');
+        if (request.getMetadata() != null) {
+            new TreeMap<>(request.getMetadata()).forEach((key, value) ->
+                    normalized.append(key).append('=').append(value).append('\u0000'));
+        }
+        return sha256(normalized.toString());
+    }
+
+    static String sha256(String value) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            return HexFormat.of().formatHex(digest.digest(value.getBytes(StandardCharsets.UTF_8)));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 is not available", e);
+        }
+    }
+
+    private static String trim(String value) {
+        return value != null ? value.trim() : "";
+    }
+
+    /**
+     * Get coalescing statistics for monitoring
+     */
+    public Map<String, Object> getStatistics() {
+        Map<String, Object> stats = new HashMap<>();
+        stats.put("enabled", enabled);
+        stats.put("inFlight", leaders.size());
+        stats.put("led", led.get());
+        stats.put("coalesced", coalesced.get());
+        return stats;
+    }
+}
@@ -0,0 +1,111 @@
+package com.agentframework.multi_agent_reliability.execution;
+
+import com.agentframework.multi_agent_reliability.adapter.AgentAdapter;
+import com.agentframework.multi_agent_reliability.adapter.RenderedPrompt;
+import com.agentframework.multi_agent_reliability.dto.AgentExecutionRequest;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * Bounded cache of adapter responses for deterministic prompts (temperature 0).
+ * Entries are keyed by framework, model, the hash of the final rendered prompt and the
+ * generation parameters, evicted by size (Caffeine's W-TinyLFU policy) and expired after a TTL.
+ */
+@Component
+public class ResponseCache {
+
+    public static final String CACHED_KEY = "cached";
+
+    /**
+     * Metadata entries that change what the model generates
+     */
+    private static final List<String> GENERATION_PARAMETERS =
+            List.of("temperature", "maxTokens", "topP", "frequencyPenalty", "presencePenalty", "stop", "seed");
+
+    private final boolean enabled;
+    private final Cache<String, String> cache;
+
+    @Autowired
+    public ResponseCache(
+            @Value("${app.agent.response-cache.enabled:true}") boolean enabled,
+            @Value("${app.agent.response-cache.maximum-size:10000}") long maximumSize,
+            @Value("${app.agent.response-cache.ttl-minutes:60}") long ttlMinutes) {
+        this.enabled = enabled;
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfterWrite(Duration.ofMinutes(ttlMinutes))
+                .recordStats()
+                .build();
+    }
+
+    /**
+     * Cache key for an execution, if its response may be cached: the cache is enabled,
+     * the request doesn't bypass it, isn't part of a benchmark run (whose iterations must each
+     * call the framework) and the prepared metadata sets temperature 0
+     * @param metadata The metadata prepared by the adapter
+     * @param prompt The prompt the adapter renders for the request
+     */
+    public Optional<String> keyFor(AgentAdapter adapter, AgentExecutionRequest request, Map<String, String> metadata,
+                                   RenderedPrompt prompt) {
+        if (!enabled || Boolean.TRUE.equals(request.getBypassCache()) || request.getBenchmarkRunId() != null
+                || !isDeterministic(metadata)) {
+            return Optional.empty();
+        }
+
+        StringBuilder key = new StringBuilder()
+                .append(adapter.getFrameworkType()).append('\u0000')
+                .append(metadata.getOrDefault("model", "default")).append('\u0000')
+                .append(prompt.getHash()).append('\u0000');
+        for (String parameter : GENERATION_PARAMETERS) {
+            key.append(parameter).append('=').append(metadata.get(parameter)).append('\u0000');
+        }
+        return Optional.of(RequestCoalescer.sha256(key.toString()));
+    }
+
+    private static boolean isDeterministic(Map<String, String> metadata) {
+        String temperature = metadata.get("temperature");
+        if (temperature == null) {
+            return false;
+        }
+        try {
+            return Double.parseDouble(temperature.trim()) == 0.0;
+        } catch (NumberFormatException e) {
+            return false;
+        }
+    }
+
+    public Optional<String> get(String key) {
+        return Optional.ofNullable(cache.getIfPresent(key));
+    }
+
+    public void put(String key, String response) {
+        if (response != null) {
+            cache.put(key, response);
+        }
+    }
+
+    /**
+     * Get hit, miss and eviction counters for monitoring
+     */
+    public Map<String, Object> getStatistics() {
+        CacheStats stats = cache.stats();
+        Map<String, Object> result = new HashMap<>();
+        result.put("enabled", enabled);
+        result.put("size", cache.estimatedSize());
+        result.put("hits", stats.hitCount());
+        result.put("misses", stats.missCount());
+        result.put("hitRate", Math.round(stats.hitRate() * 10000.0) / 100.0);
+        result.put("evictions", stats.evictionCount());
+        return result;
+    }
+}
@@ -0,0 +1,257 @@
+package com.agentframework.multi_agent_reliability.execution;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.web.client.ResourceAccessException;
+import org.springframework.web.client.RestClientResponseException;
+import org.springframework.web.reactive.function.client.WebClientRequestException;
+import org.springframework.web.reactive.function.client.WebClientResponseException;
+
+import java.net.ConnectException;
+import java.net.SocketTimeoutException;
+import java.net.http.HttpTimeoutException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+
+/**
+ * Retry policy for adapter calls.
+ * Retries only transient errors (HTTP 429, 5xx, timeouts and connection failures), waits
+ * between attempts using exponential backoff with decorrelated jitter, or longer if the response's
+ * Retry-After asks for it (without holding a thread),
+ * and draws every retry from a global budget that is refilled by first attempts, so retries
+ * can't amplify an outage.
+ */
+@Component
+public class RetryPolicy {
+
+    public static final String RETRY_COUNT_KEY = "retryCount";
+    public static final String ATTEMPT_LATENCIES_KEY = "attemptLatenciesMs";
+    public static final String RETRY_BUDGET_EXHAUSTED_KEY = "retryBudgetExhausted";
+
+    private final DeadlineScheduler deadlineScheduler;
+    private final long baseDelayMs;
+    private final long maxDelayMs;
+    private final double budgetRatio;
+    private final double budgetMaxTokens;
+
+    private double budgetTokens;
+
+    private final AtomicLong calls = new AtomicLong();
+    private final AtomicLong retries = new AtomicLong();
+    private final AtomicLong nonRetryableFailures = new AtomicLong();
+    private final AtomicLong budgetDenials = new AtomicLong();
+
+    @Autowired
+    public RetryPolicy(
+            @Value("${app.agent.retry.base-delay-ms:500}") long baseDelayMs,
+            @Value("${app.agent.retry.max-delay-ms:20000}") long maxDelayMs,
+            @Value("${app.agent.retry.budget-ratio:0.2}") double budgetRatio,
+            @Value("${app.agent.retry.budget-max-tokens:20}") double budgetMaxTokens,
+            DeadlineScheduler deadlineScheduler) {
+        this.deadlineScheduler = deadlineScheduler;
+        this.baseDelayMs = Math.max(1, baseDelayMs);
+        this.maxDelayMs = Math.max(this.baseDelayMs, maxDelayMs);
+        this.budgetRatio = budgetRatio;
+        this.budgetMaxTokens = budgetMaxTokens;
+        this.budgetTokens = budgetMaxTokens;
+    }
+
+    /**
+     * Run a non-blocking call, retrying transient failures up to maxRetries times.
+     * Backoff waits are scheduled on the deadline timer, so no thread is held between attempts.
+     * The retry count (only when retried) and each attempt's latency are written to the metadata.
+     * Cancelling the returned future cancels the attempt in flight and stops further attempts.
+     * @param call Starts one attempt and returns its completion
+     */
+    public <T> CompletableFuture<T> execute(Supplier<CompletableFuture<T>> call, int maxRetries, Map<String, String> metadata) {
+        calls.incrementAndGet();
+        depositBudget();
+
+        RetryingCall<T> retrying = new RetryingCall<>(call, maxRetries, metadata);
+        retrying.attempt();
+        return retrying.result;
+    }
+
+    /**
+     * Whether an error is transient: HTTP 429 or 5xx, a timeout, or a connection failure.
+     * The whole cause chain is inspected, since adapters wrap the client exceptions.
+     */
+    public boolean isRetryable(Throwable error) {
+        for (Throwable t = error; t != null; t = t.getCause() == t ? null : t.getCause()) {
+            if (t instanceof RestClientResponseException e) {
+                return isRetryableStatus(e.getStatusCode().value());
+            }
+            if (t instanceof WebClientResponseException e) {
+                return isRetryableStatus(e.getStatusCode().value());
+            }
+            if (t instanceof SocketTimeoutException || t instanceof HttpTimeoutException
+                    || t instanceof TimeoutException || t instanceof ConnectException
+                    || t instanceof ResourceAccessException || t instanceof WebClientRequestException) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static boolean isRetryableStatus(int status) {
+        return status == 429 || status >= 500;
+    }
+
+    /**
+     * Decorrelated jitter: a random delay between the base delay and three times the previous one, capped
+     */
+    long nextDelayMs(long previousDelayMs) {
+        long upper = Math.min(maxDelayMs, Math.max(baseDelayMs, previousDelayMs) * 3);
+        return upper > baseDelayMs ? ThreadLocalRandom.current().nextLong(baseDelayMs, upper + 1) : baseDelayMs;
+    }
+
+    private synchronized void depositBudget() {
+        budgetTokens = Math.min(budgetMaxTokens, budgetTokens + budgetRatio);
+    }
+
+    private synchronized boolean tryAcquireRetry() {
+        if (budgetTokens < 1.0) {
+            budgetDenials.incrementAndGet();
+            return false;
+        }
+        budgetTokens -= 1.0;
+        return true;
+    }
+
+    private static long elapsedMs(long startNanos) {
+        return (System.nanoTime() - startNanos) / 1_000_000;
+    }
+
+    /**
+     * Get retry and budget statistics for monitoring
+     */
+    public Map<String, Object> getStatistics() {
+        Map<String, Object> stats = new HashMap<>();
+        stats.put("calls", calls.get());
+        stats.put("retries", retries.get());
+        stats.put("nonRetryableFailures", nonRetryableFailures.get());
+        stats.put("budgetDenials", budgetDenials.get());
+        synchronized (this) {
+            stats.put("budgetTokens", Math.round(budgetTokens * 100.0) / 100.0);
+        }
+        stats.put("budgetRatio", budgetRatio);
+        stats.put("baseDelayMs", baseDelayMs);
+        stats.put("maxDelayMs", maxDelayMs);
+        return stats;
+    }
+
+    /**
+     * Attempts of one retried call. Attempts run one after another, so the attempt state
+     * is only ever touched by one thread at a time.
+     */
+    private final class RetryingCall<T> {
+        private final Supplier<CompletableFuture<T>> call;
+        private final int maxRetries;
+        private final Map<String, String> metadata;
+        private final CompletableFuture<T> result = new CompletableFuture<>();
+        private final List<Long> attemptLatencies = new ArrayList<>();
+
+        private long previousDelayMs = baseDelayMs;
+        private volatile Future<?> currentAttempt;
+        private volatile DeadlineScheduler.Deadline backoff;
+
+        private RetryingCall(Supplier<CompletableFuture<T>> call, int maxRetries, Map<String, String> metadata) {
+            this.call = call;
+            this.maxRetries = maxRetries;
+            this.metadata = metadata;
+            result.whenComplete((value, error) -> {
+                if (result.isCancelled()) {
+                    cancelPending();
+                }
+            });
+        }
+
+        private void attempt() {
+            if (result.isDone()) {
+                return;
+            }
+
+            long attemptStart = System.nanoTime();
+            CompletableFuture<T> attempt;
+            try {
+                attempt = call.get();
+            } catch (Throwable t) {
+                attempt = CompletableFuture.failedFuture(t);
+            }
+            currentAttempt = attempt;
+            // The call may have been cancelled while this attempt was being started
+            if (result.isCancelled()) {
+                attempt.cancel(true);
+            }
+
+            attempt.whenComplete((value, error) -> {
+                attemptLatencies.add(elapsedMs(attemptStart));
+                if (error == null) {
+                    recordAttempts();
+                    result.complete(value);
+                    return;
+                }
+
+                Throwable cause = error instanceof CompletionException && error.getCause() != null ? error.getCause() : error;
+                if (attemptLatencies.size() > maxRetries || result.isDone()) {
+                    fail(cause);
+                    return;
+                }
+                if (!isRetryable(cause)) {
+                    nonRetryableFailures.incrementAndGet();
+                    fail(cause);
+                    return;
+                }
+                if (!tryAcquireRetry()) {
+                    metadata.put(RETRY_BUDGET_EXHAUSTED_KEY, "true");
+                    fail(cause);
+                    return;
+                }
+
+                retries.incrementAndGet();
+                previousDelayMs = nextDelayMs(previousDelayMs);
+                long delayMs = Math.max(previousDelayMs, FrameworkRateLimiter.retryAfterMs(cause));
+                backoff = deadlineScheduler.schedule(delayMs, this::attempt);
+                if (result.isCancelled()) {
+                    backoff.cancel();
+                }
+            });
+        }
+
+        private void fail(Throwable cause) {
+            recordAttempts();
+            result.completeExceptionally(cause);
+        }
+
+        private void recordAttempts() {
+            if (attemptLatencies.size() > 1) {
+                metadata.put(RETRY_COUNT_KEY, String.valueOf(attemptLatencies.size() - 1));
+            }
+            metadata.put(ATTEMPT_LATENCIES_KEY, attemptLatencies.stream()
+                    .map(String::valueOf)
+                    .collect(Collectors.joining(",")));
+        }
+
+        private void cancelPending() {
+            DeadlineScheduler.Deadline scheduled = backoff;
+            if (scheduled != null) {
+                scheduled.cancel();
+            }
+            Future<?> attempt = currentAttempt;
+            if (attempt != null) {
+                attempt.cancel(true);
+            }
+        }
+    }
+}
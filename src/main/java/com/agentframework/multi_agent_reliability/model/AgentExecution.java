@@ -12,6 +12,10 @@ import java.util.Map;
 @Table(name = "agent_executions")
 public class AgentExecution {
     
+    // Column limits; longer values are truncated when written
+    public static final int MAX_ERROR_MESSAGE_LENGTH = 2000;
+    public static final int MAX_METADATA_VALUE_LENGTH = 4000;
+    
     @Id
     @GeneratedValue(strategy = GenerationType.IDENTITY)
     private Long id;
@@ -47,13 +51,37 @@ public class AgentExecution {
     @Column(name = "execution_duration_ms")
     private Long executionDurationMs;
     
-    @Column(name = "error_message", length = 2000)
+    @Column(name = "error_message", length = MAX_ERROR_MESSAGE_LENGTH)
     private String errorMessage;
     
+    // Streaming latency, only set for streamed executions
+    @Column(name = "time_to_first_token_ms")
+    private Long timeToFirstTokenMs;
+    
+    @Column(name = "inter_token_latency_ms")
+    private Double interTokenLatencyMs;
+    
+    @Column(name = "stream_chunk_count")
+    private Integer streamChunkCount;
+    
+    // Token usage, reported by the provider or estimated by the adapter (see metadata tokenUsageSource)
+    @Column(name = "prompt_tokens")
+    private Integer promptTokens;
+    
+    @Column(name = "completion_tokens")
+    private Integer completionTokens;
+    
+    @Column(name = "total_tokens")
+    private Integer totalTokens;
+    
+    // Warmup executions of a benchmark run are stored but left out of its stats and metrics
+    @Column(name = "warmup", nullable = false)
+    private boolean warmup = false;
+    
     @ElementCollection
     @CollectionTable(name = "execution_metadata", joinColumns = @JoinColumn(name = "execution_id"))
     @MapKeyColumn(name = "metadata_key")
-    @Column(name = "metadata_value")
+    @Column(name = "metadata_value", length = MAX_METADATA_VALUE_LENGTH)
     private Map<String, String> metadata;
     
     @Column(name = "benchmark_run_id")
@@ -157,6 +185,62 @@ public class AgentExecution {
         this.executionDurationMs = executionDurationMs;
     }
     
+    public Long getTimeToFirstTokenMs() {
+        return timeToFirstTokenMs;
+    }
+    
+    public void setTimeToFirstTokenMs(Long timeToFirstTokenMs) {
+        this.timeToFirstTokenMs = timeToFirstTokenMs;
+    }
+    
+    public Double getInterTokenLatencyMs() {
+        return interTokenLatencyMs;
+    }
+    
+    public void setInterTokenLatencyMs(Double interTokenLatencyMs) {
+        this.interTokenLatencyMs = interTokenLatencyMs;
+    }
+    
+    public Integer getStreamChunkCount() {
+        return streamChunkCount;
+    }
+    
+    public void setStreamChunkCount(Integer streamChunkCount) {
+        this.streamChunkCount = streamChunkCount;
+    }
+    
+    public boolean isWarmup() {
+        return warmup;
+    }
+    
+    public void setWarmup(boolean warmup) {
+        this.warmup = warmup;
+    }
+    
+    public Integer getPromptTokens() {
+        return promptTokens;
+    }
+    
+    public void setPromptTokens(Integer promptTokens) {
+        this.promptTokens = promptTokens;
+    }
+    
+    public Integer getCompletionTokens() {
+        return completionTokens;
+    }
+    
+    public void setCompletionTokens(Integer completionTokens) {
+        this.completionTokens = completionTokens;
+    }
+    
+    public Integer getTotalTokens() {
+        return totalTokens;
+    }
+    
+    public void setTotalTokens(Integer totalTokens) {
+        this.totalTokens = totalTokens;
+    }
+    
     public String getErrorMessage() {
         return errorMessage;
     }
@@ -220,6 +304,21 @@ public class AgentExecution {
         calculateDuration();
     }
     
+    public void markAsTimedOut(String errorMessage) {
+        this.status = ExecutionStatus.TIMEOUT;
+        this.errorMessage = errorMessage;
+        this.endTime = LocalDateTime.now();
+        this.updatedAt = LocalDateTime.now();
+        calculateDuration();
+    }
+    
+    public void markAsCancelled() {
+        this.status = ExecutionStatus.CANCELLED;
+        this.endTime = LocalDateTime.now();
+        this.updatedAt = LocalDateTime.now();
+        calculateDuration();
+    }
+    
     private void calculateDuration() {
         if (this.startTime != null && this.endTime != null) {
             this.executionDurationMs = java.time.Duration.between(this.startTime, this.endTime).toMillis();
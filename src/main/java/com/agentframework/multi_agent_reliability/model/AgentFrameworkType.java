@@ -6,7 +6,8 @@ public enum AgentFrameworkType {
     OPENAI_DIRECT("OpenAI Direct", "Direct OpenAI API integration"),
     CREW_AI("CrewAI", "Multi-agent collaboration framework"),
     AUTOGEN("AutoGen", "Microsoft AutoGen framework"),
-    LANGGRAPH("LangGraph", "Graph-based agent orchestration");
+    LANGGRAPH("LangGraph", "Graph-based agent orchestration"),
+    SIMULATED("Simulated LLM", "Deterministic simulated LLM for offline load and capacity testing");
     
     private final String displayName;
     private final String description;
@@ -0,0 +1,29 @@
+package com.agentframework.multi_agent_reliability.model;
+
+/**
+ * How a benchmark run dispatches its iterations, i.e. the load shape its metrics were measured
+ * under. Metrics are only comparable between runs of the same mode.
+ */
+public enum BenchmarkExecutionMode {
+    SEQUENTIAL("Sequential", "One call at a time per framework; isolated latency"),
+    WINDOWED("Windowed", "A fixed number of calls in flight per framework; controlled throughput"),
+    PARALLEL("Parallel", "Every iteration dispatched at once; peak load"),
+    INTERLEAVED("Interleaved", "Round-robin across frameworks through one shared window; fair under drifting conditions"),
+    BATCH("Batch", "Each framework's iterations submitted as one provider batch; latency includes provider queueing");
+
+    private final String displayName;
+    private final String description;
+
+    BenchmarkExecutionMode(String displayName, String description) {
+        this.displayName = displayName;
+        this.description = description;
+    }
+
+    public String getDisplayName() {
+        return displayName;
+    }
+
+    public String getDescription() {
+        return description;
+    }
+}
@@ -2,6 +2,8 @@ package com.agentframework.multi_agent_reliability.model;
 
 import jakarta.persistence.*;
 import com.fasterxml.jackson.annotation.JsonFormat;
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import com.fasterxml.jackson.annotation.JsonProperty;
 
 import java.time.LocalDateTime;
 import java.util.ArrayList;
@@ -18,6 +20,8 @@ public class BenchmarkRun {
     @Column(name = "run_id", unique = true, nullable = false)
     private String runId;
     
+    // Serialized as benchmarkTaskId: a lazy proxy can't be serialized once its session is closed
+    @JsonIgnore
     @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "benchmark_task_id", nullable = false)
     private BenchmarkTask benchmarkTask;
@@ -28,8 +32,9 @@ public class BenchmarkRun {
     @Column(name = "description")
     private String description;
     
-    @OneToMany(cascade = CascadeType.ALL, fetch = FetchType.LAZY)
-    @JoinColumn(name = "benchmark_run_id", referencedColumnName = "run_id")
+    // Executions are written by the execution journal and queried by benchmarkRunId; not owned by the run
+    @JsonIgnore
+    @Transient
     private List<AgentExecution> executions = new ArrayList<>();
     
     @Enumerated(EnumType.STRING)
@@ -44,6 +49,33 @@ public class BenchmarkRun {
     @Column(name = "end_time")
     private LocalDateTime endTime;
     
+    // Load shape the run was measured under; metrics of different modes aren't comparable
+    @Enumerated(EnumType.STRING)
+    @Column(name = "execution_mode")
+    private BenchmarkExecutionMode executionMode;
+    
+    @Column(name = "concurrency")
+    private Integer concurrency;
+    
+    // Streamed runs measure time-to-first-token; their latencies include reading the stream
+    @Column(name = "streamed")
+    private Boolean streamed = false;
+    
+    // Warmup phase: unmeasured executions, and the latency stability criterion if one was set
+    @Column(name = "warmup_executions")
+    private Integer warmupExecutions = 0;
+    
+    @Column(name = "steady_state_threshold_cv")
+    private Double steadyStateThresholdCv;
+    
+    // Whether every framework's latency met the criterion before measurement started
+    @Column(name = "steady_state_reached")
+    private Boolean steadyStateReached;
+    
+    // Worst latency coefficient of variation across frameworks at the end of warmup, in percent
+    @Column(name = "steady_state_cv")
+    private Double steadyStateCv;
+    
     @Column(name = "total_executions")
     private Integer totalExecutions = 0;
     
@@ -97,6 +129,12 @@ public class BenchmarkRun {
         this.benchmarkTask = benchmarkTask;
     }
     
+    @JsonProperty("benchmarkTaskId")
+    public Long getBenchmarkTaskId() {
+        // Reading the ID doesn't initialize a lazy proxy
+        return benchmarkTask != null ? benchmarkTask.getId() : null;
+    }
+    
     public String getName() {
         return name;
     }
@@ -145,6 +183,62 @@ public class BenchmarkRun {
         this.endTime = endTime;
     }
     
+    public BenchmarkExecutionMode getExecutionMode() {
+        return executionMode;
+    }
+    
+    public void setExecutionMode(BenchmarkExecutionMode executionMode) {
+        this.executionMode = executionMode;
+    }
+    
+    public Integer getConcurrency() {
+        return concurrency;
+    }
+    
+    public void setConcurrency(Integer concurrency) {
+        this.concurrency = concurrency;
+    }
+    
+    public Boolean getStreamed() {
+        return streamed;
+    }
+    
+    public void setStreamed(Boolean streamed) {
+        this.streamed = streamed;
+    }
+    
+    public Integer getWarmupExecutions() {
+        return warmupExecutions;
+    }
+    
+    public void setWarmupExecutions(Integer warmupExecutions) {
+        this.warmupExecutions = warmupExecutions;
+    }
+    
+    public Double getSteadyStateThresholdCv() {
+        return steadyStateThresholdCv;
+    }
+    
+    public void setSteadyStateThresholdCv(Double steadyStateThresholdCv) {
+        this.steadyStateThresholdCv = steadyStateThresholdCv;
+    }
+    
+    public Boolean getSteadyStateReached() {
+        return steadyStateReached;
+    }
+    
+    public void setSteadyStateReached(Boolean steadyStateReached) {
+        this.steadyStateReached = steadyStateReached;
+    }
+    
+    public Double getSteadyStateCv() {
+        return steadyStateCv;
+    }
+    
+    public void setSteadyStateCv(Double steadyStateCv) {
+        this.steadyStateCv = steadyStateCv;
+    }
+    
     public Integer getTotalExecutions() {
         return totalExecutions;
     }
@@ -243,6 +337,7 @@ public class BenchmarkRun {
                 ", runId='" + runId + '\'' +
                 ", name='" + name + '\'' +
                 ", status=" + status +
+                ", executionMode=" + executionMode +
                 ", totalExecutions=" + totalExecutions +
                 '}';
     }
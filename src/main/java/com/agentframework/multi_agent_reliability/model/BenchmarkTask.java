@@ -4,6 +4,7 @@ import jakarta.persistence.*;
 import jakarta.validation.constraints.NotBlank;
 import jakarta.validation.constraints.NotNull;
 import com.fasterxml.jackson.annotation.JsonFormat;
+import com.fasterxml.jackson.annotation.JsonIgnore;
 
 import java.time.LocalDateTime;
 import java.util.ArrayList;
@@ -46,6 +47,12 @@ public class BenchmarkTask {
     @Column(name = "active")
     private Boolean active = true;
     
+    // Prompt template the task is rendered with; null for the default template
+    @Column(name = "prompt_template", length = 100)
+    private String promptTemplate;
+    
+    // Not serialized: lazy, and each run refers back to its task
+    @JsonIgnore
     @OneToMany(mappedBy = "benchmarkTask", cascade = CascadeType.ALL, fetch = FetchType.LAZY)
     private List<BenchmarkRun> benchmarkRuns = new ArrayList<>();
     
@@ -147,6 +154,14 @@ public class BenchmarkTask {
         this.active = active;
     }
     
+    public String getPromptTemplate() {
+        return promptTemplate;
+    }
+    
+    public void setPromptTemplate(String promptTemplate) {
+        this.promptTemplate = promptTemplate;
+    }
+    
     public List<BenchmarkRun> getBenchmarkRuns() {
         return benchmarkRuns;
     }
@@ -37,6 +37,35 @@ public class ReliabilityMetrics {
     @Column(name = "max_response_time_ms")
     private Long maxResponseTimeMs = 0L;
     
+    // Streaming Latency Metrics (streamed executions only)
+    @Column(name = "average_time_to_first_token_ms")
+    private Double averageTimeToFirstTokenMs;
+    
+    @Column(name = "p95_time_to_first_token_ms")
+    private Double p95TimeToFirstTokenMs;
+    
+    @Column(name = "average_inter_token_latency_ms")
+    private Double averageInterTokenLatencyMs;
+    
+    // Token Usage and Throughput Metrics (executions with recorded usage only)
+    @Column(name = "total_prompt_tokens")
+    private Long totalPromptTokens = 0L;
+    
+    @Column(name = "total_completion_tokens")
+    private Long totalCompletionTokens = 0L;
+    
+    @Column(name = "total_tokens")
+    private Long totalTokens = 0L;
+    
+    @Column(name = "prompt_completion_ratio")
+    private Double promptCompletionRatio;
+    
+    @Column(name = "average_output_tokens_per_second")
+    private Double averageOutputTokensPerSecond; // Generation speed of a single call
+    
+    @Column(name = "throughput_tokens_per_second")
+    private Double throughputTokensPerSecond; // All tokens over the span the executions ran in
+    
     // Advanced Reliability Metrics
     @Column(name = "consistency_score")
     private Double consistencyScore = 0.0; // Variance in output quality
@@ -76,9 +105,22 @@ public class ReliabilityMetrics {
     @Column(name = "failed_executions")
     private Integer failedExecutions = 0;
     
+    // Load shape of the benchmark run the metrics were measured under
+    @Enumerated(EnumType.STRING)
+    @Column(name = "execution_mode")
+    private BenchmarkExecutionMode executionMode;
+    
     @Column(name = "timeout_executions")
     private Integer timeoutExecutions = 0;
     
+    // Failed without a call, refused by an open circuit breaker; not part of failedExecutions or totalExecutions
+    @Column(name = "circuit_breaker_rejections")
+    private Integer circuitBreakerRejections = 0;
+    
+    // Failed without a call, shed by the framework's bulkhead or a saturated engine; not part of failedExecutions or totalExecutions
+    @Column(name = "bulkhead_rejections")
+    private Integer bulkheadRejections = 0;
+    
     // Quality Metrics
     @Column(name = "output_quality_score")
     private Double outputQualityScore = 0.0; // Based on expected vs actual output comparison
@@ -181,6 +223,78 @@ public class ReliabilityMetrics {
         this.maxResponseTimeMs = maxResponseTimeMs;
     }
     
+    public Double getAverageTimeToFirstTokenMs() {
+        return averageTimeToFirstTokenMs;
+    }
+    
+    public void setAverageTimeToFirstTokenMs(Double averageTimeToFirstTokenMs) {
+        this.averageTimeToFirstTokenMs = averageTimeToFirstTokenMs;
+    }
+    
+    public Double getP95TimeToFirstTokenMs() {
+        return p95TimeToFirstTokenMs;
+    }
+    
+    public void setP95TimeToFirstTokenMs(Double p95TimeToFirstTokenMs) {
+        this.p95TimeToFirstTokenMs = p95TimeToFirstTokenMs;
+    }
+    
+    public Double getAverageInterTokenLatencyMs() {
+        return averageInterTokenLatencyMs;
+    }
+    
+    public void setAverageInterTokenLatencyMs(Double averageInterTokenLatencyMs) {
+        this.averageInterTokenLatencyMs = averageInterTokenLatencyMs;
+    }
+    
+    public Long getTotalPromptTokens() {
+        return totalPromptTokens;
+    }
+    
+    public void setTotalPromptTokens(Long totalPromptTokens) {
+        this.totalPromptTokens = totalPromptTokens;
+    }
+    
+    public Long getTotalCompletionTokens() {
+        return totalCompletionTokens;
+    }
+    
+    public void setTotalCompletionTokens(Long totalCompletionTokens) {
+        this.totalCompletionTokens = totalCompletionTokens;
+    }
+    
+    public Long getTotalTokens() {
+        return totalTokens;
+    }
+    
+    public void setTotalTokens(Long totalTokens) {
+        this.totalTokens = totalTokens;
+    }
+    
+    public Double getPromptCompletionRatio() {
+        return promptCompletionRatio;
+    }
+    
+    public void setPromptCompletionRatio(Double promptCompletionRatio) {
+        this.promptCompletionRatio = promptCompletionRatio;
+    }
+    
+    public Double getAverageOutputTokensPerSecond() {
+        return averageOutputTokensPerSecond;
+    }
+    
+    public void setAverageOutputTokensPerSecond(Double averageOutputTokensPerSecond) {
+        this.averageOutputTokensPerSecond = averageOutputTokensPerSecond;
+    }
+    
+    public Double getThroughputTokensPerSecond() {
+        return throughputTokensPerSecond;
+    }
+    
+    public void setThroughputTokensPerSecond(Double throughputTokensPerSecond) {
+        this.throughputTokensPerSecond = throughputTokensPerSecond;
+    }
+    
     public Double getConsistencyScore() {
         return consistencyScore;
     }
@@ -285,6 +399,30 @@ public class ReliabilityMetrics {
         this.timeoutExecutions = timeoutExecutions;
     }
     
+    public BenchmarkExecutionMode getExecutionMode() {
+        return executionMode;
+    }
+    
+    public void setExecutionMode(BenchmarkExecutionMode executionMode) {
+        this.executionMode = executionMode;
+    }
+    
+    public Integer getCircuitBreakerRejections() {
+        return circuitBreakerRejections;
+    }
+    
+    public void setCircuitBreakerRejections(Integer circuitBreakerRejections) {
+        this.circuitBreakerRejections = circuitBreakerRejections;
+    }
+    
+    public Integer getBulkheadRejections() {
+        return bulkheadRejections;
+    }
+    
+    public void setBulkheadRejections(Integer bulkheadRejections) {
+        this.bulkheadRejections = bulkheadRejections;
+    }
+    
     public Double getOutputQualityScore() {
         return outputQualityScore;
     }
@@ -45,16 +45,24 @@ public interface AgentExecutionRepository extends JpaRepository<AgentExecution,
             LocalDateTime endDate
     );
     
-    // Custom query for execution statistics
+    // Custom query for execution statistics, leaving out warmup executions
     @Query("SELECT e.frameworkType, COUNT(e) as total, " +
            "SUM(CASE WHEN e.status = 'COMPLETED' THEN 1 ELSE 0 END) as completed, " +
            "SUM(CASE WHEN e.status = 'FAILED' THEN 1 ELSE 0 END) as failed, " +
            "AVG(e.executionDurationMs) as avgDuration " +
            "FROM AgentExecution e " +
-           "WHERE e.benchmarkRunId = :benchmarkRunId " +
+           "WHERE e.benchmarkRunId = :benchmarkRunId AND e.warmup = false " +
            "GROUP BY e.frameworkType")
     List<Object[]> getExecutionStatsByBenchmarkRun(@Param("benchmarkRunId") String benchmarkRunId);
     
+    // Token usage per framework for a benchmark run, with the span the executions ran in
+    @Query("SELECT e.frameworkType, COUNT(e.totalTokens), SUM(e.promptTokens), SUM(e.completionTokens), " +
+           "SUM(e.totalTokens), MIN(e.startTime), MAX(e.endTime) " +
+           "FROM AgentExecution e " +
+           "WHERE e.benchmarkRunId = :benchmarkRunId AND e.totalTokens IS NOT NULL AND e.warmup = false " +
+           "GROUP BY e.frameworkType")
+    List<Object[]> getTokenUsageByBenchmarkRun(@Param("benchmarkRunId") String benchmarkRunId);
+    
     // Find successful executions for performance analysis
     @Query("SELECT e FROM AgentExecution e WHERE e.status = 'COMPLETED' " +
            "AND e.frameworkType = :frameworkType " +
@@ -96,11 +104,12 @@ public interface AgentExecutionRepository extends JpaRepository<AgentExecution,
            "GROUP BY e.frameworkType")
     List<Object[]> getSuccessRateByFramework();
     
-    // Find executions for reliability analysis
+    // Find executions for reliability analysis; warmup executions are not part of the measurement
     @Query("SELECT e FROM AgentExecution e " +
            "WHERE e.benchmarkRunId = :benchmarkRunId " +
            "AND e.frameworkType = :frameworkType " +
-           "AND e.status IN ('COMPLETED', 'FAILED') " +
+           "AND e.warmup = false " +
+           "AND e.status IN ('COMPLETED', 'FAILED', 'TIMEOUT') " +
            "ORDER BY e.createdAt")
     List<AgentExecution> findExecutionsForReliabilityAnalysis(
             @Param("benchmarkRunId") String benchmarkRunId,
@@ -0,0 +1,23 @@
+package com.agentframework.multi_agent_reliability.repository;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+import com.agentframework.multi_agent_reliability.model.BenchmarkRun;
+import com.agentframework.multi_agent_reliability.model.BenchmarkRun.BenchmarkRunStatus;
+
+import java.util.List;
+import java.util.Optional;
+
+@Repository
+public interface BenchmarkRunRepository extends JpaRepository<BenchmarkRun, Long> {
+    
+    // Find by the public run ID
+    Optional<BenchmarkRun> findByRunId(String runId);
+    
+    // Run history, most recent first
+    List<BenchmarkRun> findAllByOrderByCreatedAtDesc();
+    
+    // Find runs in a given status, most recent first
+    List<BenchmarkRun> findByStatusOrderByCreatedAtDesc(BenchmarkRunStatus status);
+}
@@ -8,6 +8,7 @@ import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import com.agentframework.multi_agent_reliability.model.AgentFrameworkType;
+import com.agentframework.multi_agent_reliability.model.BenchmarkExecutionMode;
 import com.agentframework.multi_agent_reliability.model.ReliabilityMetrics;
 
 import java.time.LocalDateTime;
@@ -41,17 +42,31 @@ public interface ReliabilityMetricsRepository extends JpaRepository<ReliabilityM
     // Find metrics with response time below threshold
     List<ReliabilityMetrics> findByAverageResponseTimeMsLessThanEqual(Double responseTimeThreshold);
     
-    // Custom query for framework comparison
+    // Custom query for framework comparison; runs of different execution modes are never averaged together
     @Query("SELECT m.frameworkType, " +
            "AVG(m.successRate) as avgSuccessRate, " +
            "AVG(m.averageResponseTimeMs) as avgResponseTime, " +
            "AVG(m.consistencyScore) as avgConsistencyScore, " +
-           "AVG(m.robustnessIndex) as avgRobustnessIndex " +
+           "AVG(m.robustnessIndex) as avgRobustnessIndex, " +
+           "m.executionMode " +
            "FROM ReliabilityMetrics m " +
-           "GROUP BY m.frameworkType " +
+           "GROUP BY m.frameworkType, m.executionMode " +
            "ORDER BY avgSuccessRate DESC")
     List<Object[]> getFrameworkComparisonMetrics();
     
+    // Framework comparison restricted to runs of one execution mode
+    @Query("SELECT m.frameworkType, " +
+           "AVG(m.successRate) as avgSuccessRate, " +
+           "AVG(m.averageResponseTimeMs) as avgResponseTime, " +
+           "AVG(m.consistencyScore) as avgConsistencyScore, " +
+           "AVG(m.robustnessIndex) as avgRobustnessIndex, " +
+           "m.executionMode " +
+           "FROM ReliabilityMetrics m " +
+           "WHERE m.executionMode = :executionMode " +
+           "GROUP BY m.frameworkType, m.executionMode " +
+           "ORDER BY avgSuccessRate DESC")
+    List<Object[]> getFrameworkComparisonMetricsByExecutionMode(@Param("executionMode") BenchmarkExecutionMode executionMode);
+    
     // Get best performing framework by success rate
     @Query("SELECT m.frameworkType, AVG(m.successRate) as avgSuccessRate " +
            "FROM ReliabilityMetrics m " +
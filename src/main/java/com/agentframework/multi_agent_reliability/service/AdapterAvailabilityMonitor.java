@@ -0,0 +1,207 @@
+package com.agentframework.multi_agent_reliability.service;
+
+import com.agentframework.multi_agent_reliability.adapter.AgentAdapter;
+import com.agentframework.multi_agent_reliability.execution.AgentExecutionEngine;
+import com.agentframework.multi_agent_reliability.model.AgentFrameworkType;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Background availability probing of adapters.
+ * Each adapter is probed on a schedule (every probe interval while up, with exponential backoff
+ * while down) and the result is cached, so {@link #isAvailable} answers from memory without
+ * calling the backing service. A cached result is trusted for the TTL; an unknown or expired
+ * result counts as available, so a stalled probe never blocks executions.
+ * Changes are pushed through {@link WebSocketNotificationService#sendFrameworkAvailabilityUpdate}.
+ */
+@Service
+public class AdapterAvailabilityMonitor {
+
+    private static final Logger logger = LoggerFactory.getLogger(AdapterAvailabilityMonitor.class);
+
+    private final Map<AgentFrameworkType, AdapterAvailability> adapters = new EnumMap<>(AgentFrameworkType.class);
+    private final WebSocketNotificationService notificationService;
+    private final AgentExecutionEngine executionEngine;
+    private final long probeIntervalMs;
+    private final long initialBackoffMs;
+    private final long maxBackoffMs;
+    private final long ttlMs;
+
+    @Autowired
+    public AdapterAvailabilityMonitor(
+            List<AgentAdapter> adapterList,
+            WebSocketNotificationService notificationService,
+            AgentExecutionEngine executionEngine,
+            @Value("${app.agent.availability.probe-interval-ms:60000}") long probeIntervalMs,
+            @Value("${app.agent.availability.initial-backoff-ms:5000}") long initialBackoffMs,
+            @Value("${app.agent.availability.max-backoff-ms:300000}") long maxBackoffMs,
+            @Value("${app.agent.availability.ttl-ms:180000}") long ttlMs) {
+        this.notificationService = notificationService;
+        this.executionEngine = executionEngine;
+        this.probeIntervalMs = probeIntervalMs;
+        this.initialBackoffMs = initialBackoffMs;
+        this.maxBackoffMs = maxBackoffMs;
+        this.ttlMs = ttlMs;
+        for (AgentAdapter adapter : adapterList) {
+            adapters.put(adapter.getFrameworkType(), new AdapterAvailability(adapter));
+        }
+    }
+
+    /**
+     * Start a probe for every adapter whose next probe is due. Probes run on the execution engine,
+     * at most one per adapter at a time.
+     */
+    @Scheduled(fixedDelayString = "${app.agent.availability.tick-ms:1000}")
+    public void probeDueAdapters() {
+        long now = System.currentTimeMillis();
+        for (AdapterAvailability availability : adapters.values()) {
+            if (!availability.tryStartProbe(now)) {
+                continue;
+            }
+            try {
+                executionEngine.submit(() -> probe(availability));
+            } catch (RejectedExecutionException e) {
+                // The engine is saturated by executions; try again later
+                availability.probeSkipped(now + initialBackoffMs);
+            }
+        }
+    }
+
+    private boolean probe(AdapterAvailability availability) {
+        AgentAdapter adapter = availability.adapter;
+        long start = System.nanoTime();
+        boolean available;
+        try {
+            available = adapter.probeAvailability();
+        } catch (Exception e) {
+            logger.debug("Availability probe of {} failed", adapter.getFrameworkType(), e);
+            available = false;
+        }
+        long now = System.currentTimeMillis();
+        long latencyMs = (System.nanoTime() - start) / 1_000_000;
+
+        if (availability.recordProbe(available, now, latencyMs)) {
+            logger.info("Framework {} is now {}", adapter.getFrameworkType(), available ? "available" : "unavailable");
+            notificationService.sendFrameworkAvailabilityUpdate(getAvailability());
+        }
+        return available;
+    }
+
+    /**
+     * Whether a framework's adapter is configured and, as far as the latest probe knows, reachable
+     */
+    public boolean isAvailable(AgentFrameworkType frameworkType) {
+        AdapterAvailability availability = adapters.get(frameworkType);
+        return availability != null && availability.isAvailable(System.currentTimeMillis());
+    }
+
+    /**
+     * Get the cached probe state of every framework, keyed by framework type name
+     */
+    public Map<String, Object> getAvailability() {
+        long now = System.currentTimeMillis();
+        Map<String, Object> status = new HashMap<>();
+        adapters.forEach((frameworkType, availability) ->
+                status.put(frameworkType.name(), availability.getStatus(now)));
+        return status;
+    }
+
+    public Map<String, Object> getAvailability(AgentFrameworkType frameworkType) {
+        AdapterAvailability availability = adapters.get(frameworkType);
+        return availability != null ? availability.getStatus(System.currentTimeMillis()) : Map.of();
+    }
+
+    /**
+     * Cached probe result and probe schedule of one adapter
+     */
+    private final class AdapterAvailability {
+        private final AgentAdapter adapter;
+
+        // Read on every execution; written by probes only
+        private volatile Boolean lastResult;
+        private volatile long expiresAt;
+
+        private boolean probing;
+        private long nextProbeAt;
+        private long lastProbeAt;
+        private long lastChangeAt;
+        private long lastProbeLatencyMs;
+        private int consecutiveFailures;
+
+        private AdapterAvailability(AgentAdapter adapter) {
+            this.adapter = adapter;
+        }
+
+        private boolean isAvailable(long now) {
+            if (!adapter.isAvailable()) {
+                return false;
+            }
+            Boolean result = lastResult;
+            return result == null || result || now >= expiresAt;
+        }
+
+        private synchronized boolean tryStartProbe(long now) {
+            if (probing || now < nextProbeAt) {
+                return false;
+            }
+            probing = true;
+            return true;
+        }
+
+        private synchronized void probeSkipped(long retryAt) {
+            probing = false;
+            nextProbeAt = retryAt;
+        }
+
+        /**
+         * @return true if the result differs from the previous one
+         */
+        private synchronized boolean recordProbe(boolean available, long now, long latencyMs) {
+            probing = false;
+            lastProbeAt = now;
+            lastProbeLatencyMs = latencyMs;
+            consecutiveFailures = available ? 0 : consecutiveFailures + 1;
+            nextProbeAt = now + (available ? probeIntervalMs : backoffMs());
+            expiresAt = now + ttlMs;
+
+            boolean changed = lastResult == null || lastResult != available;
+            lastResult = available;
+            if (changed) {
+                lastChangeAt = now;
+            }
+            return changed;
+        }
+
+        private long backoffMs() {
+            long backoff = initialBackoffMs << Math.min(consecutiveFailures - 1, 20);
+            backoff = Math.min(maxBackoffMs, backoff);
+            // +/-20% jitter so adapters that failed together don't probe in lockstep
+            return Math.round(backoff * ThreadLocalRandom.current().nextDouble(0.8, 1.2));
+        }
+
+        private synchronized Map<String, Object> getStatus(long now) {
+            Map<String, Object> status = new HashMap<>();
+            status.put("available", isAvailable(now));
+            status.put("configured", adapter.isAvailable());
+            status.put("lastProbeResult", lastResult);
+            status.put("stale", lastResult != null && now >= expiresAt);
+            status.put("lastProbeAt", lastProbeAt > 0 ? lastProbeAt : null);
+            status.put("lastChangeAt", lastChangeAt > 0 ? lastChangeAt : null);
+            status.put("lastProbeLatencyMs", lastProbeAt > 0 ? lastProbeLatencyMs : null);
+            status.put("consecutiveFailures", consecutiveFailures);
+            status.put("nextProbeAt", nextProbeAt > 0 ? nextProbeAt : null);
+            return status;
+        }
+    }
+}
@@ -0,0 +1,94 @@
+package com.agentframework.multi_agent_reliability.service;
+
+import com.agentframework.multi_agent_reliability.execution.FrameworkCircuitBreaker;
+import com.agentframework.multi_agent_reliability.execution.FrameworkRateLimiter;
+import com.agentframework.multi_agent_reliability.execution.RetryPolicy;
+import com.agentframework.multi_agent_reliability.model.AgentFrameworkType;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.core.env.Environment;
+import org.springframework.stereotype.Service;
+
+import java.util.EnumMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * A circuit breaker around each adapter, so a provider that is down fails its executions at once
+ * instead of letting each one wait out its timeout.
+ * Thresholds default to {@code app.agent.circuit-breaker.*} and can be overridden per framework with
+ * {@code app.agent.circuit-breaker.<FRAMEWORK_TYPE>.*}. Transient provider errors (5xx, timeouts,
+ * connection failures) count as failures; rate limiting (429) is left to the rate limiter and
+ * client errors are ignored. State changes are pushed through
+ * {@link WebSocketNotificationService#sendSystemUpdate}.
+ */
+@Service
+public class AdapterCircuitBreakers {
+
+    private static final Logger logger = LoggerFactory.getLogger(AdapterCircuitBreakers.class);
+
+    private static final String PREFIX = "app.agent.circuit-breaker.";
+
+    private final Map<AgentFrameworkType, FrameworkCircuitBreaker> breakers = new EnumMap<>(AgentFrameworkType.class);
+    private final WebSocketNotificationService notificationService;
+    private final boolean enabled;
+
+    @Autowired
+    public AdapterCircuitBreakers(Environment environment, RetryPolicy retryPolicy,
+                                  WebSocketNotificationService notificationService) {
+        this.notificationService = notificationService;
+        this.enabled = environment.getProperty(PREFIX + "enabled", Boolean.class, true);
+
+        for (AgentFrameworkType frameworkType : AgentFrameworkType.values()) {
+            String prefix = PREFIX + frameworkType.name() + ".";
+            breakers.put(frameworkType, new FrameworkCircuitBreaker(
+                    frameworkType,
+                    property(environment, prefix, "window-size", Integer.class, 50),
+                    property(environment, prefix, "minimum-calls", Integer.class, 10),
+                    property(environment, prefix, "failure-rate-threshold", Double.class, 50.0),
+                    property(environment, prefix, "slow-call-rate-threshold", Double.class, 80.0),
+                    property(environment, prefix, "slow-call-duration-ms", Long.class, 60000L),
+                    property(environment, prefix, "open-duration-ms", Long.class, 30000L),
+                    property(environment, prefix, "half-open-calls", Integer.class, 3),
+                    error -> retryPolicy.isRetryable(error) && !FrameworkRateLimiter.isRateLimited(error),
+                    this::onStateChange));
+        }
+    }
+
+    private static <T> T property(Environment environment, String frameworkPrefix, String name, Class<T> type, T defaultValue) {
+        T globalValue = environment.getProperty(PREFIX + name, type, defaultValue);
+        return environment.getProperty(frameworkPrefix + name, type, globalValue);
+    }
+
+    private void onStateChange(FrameworkCircuitBreaker breaker, FrameworkCircuitBreaker.State from,
+                               FrameworkCircuitBreaker.State to, String reason) {
+        if (to == FrameworkCircuitBreaker.State.OPEN) {
+            logger.warn("Circuit breaker for {} opened ({} -> {}): {}", breaker.getFrameworkType(), from, to, reason);
+        } else {
+            logger.info("Circuit breaker for {} is now {} ({} -> {}): {}", breaker.getFrameworkType(), to, from, to, reason);
+        }
+        notificationService.sendSystemUpdate("circuitBreaker." + breaker.getFrameworkType().name(), to.name(),
+                "Circuit breaker for " + breaker.getFrameworkType().getDisplayName() + " is " + to + ": " + reason);
+    }
+
+    /**
+     * The breaker of a framework, or null when circuit breaking is disabled
+     */
+    public FrameworkCircuitBreaker forFramework(AgentFrameworkType frameworkType) {
+        return enabled ? breakers.get(frameworkType) : null;
+    }
+
+    /**
+     * Get state, window rates and rejection counters for every framework
+     */
+    public Map<AgentFrameworkType, Map<String, Object>> getStatistics() {
+        Map<AgentFrameworkType, Map<String, Object>> stats = new LinkedHashMap<>();
+        breakers.forEach((frameworkType, breaker) -> {
+            Map<String, Object> frameworkStats = breaker.getStatistics();
+            frameworkStats.put("enabled", enabled);
+            stats.put(frameworkType, frameworkStats);
+        });
+        return stats;
+    }
+}
@@ -1,8 +1,28 @@
 package com.agentframework.multi_agent_reliability.service;
 
 import com.agentframework.multi_agent_reliability.adapter.AgentAdapter;
+import com.agentframework.multi_agent_reliability.adapter.BatchResult;
+import com.agentframework.multi_agent_reliability.adapter.BatchTask;
+import com.agentframework.multi_agent_reliability.adapter.PromptTemplateRegistry;
+import com.agentframework.multi_agent_reliability.adapter.RenderedPrompt;
+import com.agentframework.multi_agent_reliability.adapter.TokenUsage;
+import com.agentframework.multi_agent_reliability.dto.AgentExecutionChunk;
 import com.agentframework.multi_agent_reliability.dto.AgentExecutionRequest;
 import com.agentframework.multi_agent_reliability.dto.AgentExecutionResponse;
+import com.agentframework.multi_agent_reliability.execution.AgentExecutionEngine;
+import com.agentframework.multi_agent_reliability.execution.CircuitBreakerOpenException;
+import com.agentframework.multi_agent_reliability.execution.DeadlineScheduler;
+import com.agentframework.multi_agent_reliability.execution.ExecutionBulkheads;
+import com.agentframework.multi_agent_reliability.execution.ExecutionHandle;
+import com.agentframework.multi_agent_reliability.execution.ExecutionRateLimits;
+import com.agentframework.multi_agent_reliability.execution.ExecutionRegistry;
+import com.agentframework.multi_agent_reliability.execution.FrameworkBulkhead;
+import com.agentframework.multi_agent_reliability.execution.FrameworkCircuitBreaker;
+import com.agentframework.multi_agent_reliability.execution.FrameworkRateLimiter;
+import com.agentframework.multi_agent_reliability.execution.HedgingPolicy;
+import com.agentframework.multi_agent_reliability.execution.RequestCoalescer;
+import com.agentframework.multi_agent_reliability.execution.ResponseCache;
+import com.agentframework.multi_agent_reliability.execution.RetryPolicy;
 import com.agentframework.multi_agent_reliability.model.AgentExecution;
 import com.agentframework.multi_agent_reliability.model.AgentFrameworkType;
 import com.agentframework.multi_agent_reliability.model.ExecutionStatus;
@@ -10,12 +30,19 @@ import com.agentframework.multi_agent_reliability.repository.AgentExecutionRepos
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
-import org.springframework.scheduling.annotation.Async;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
+import reactor.core.Disposable;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Sinks;
 
-import java.time.LocalDateTime;
+import java.time.Duration;
 import java.util.*;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
 import java.util.stream.Collectors;
 
 @Service
@@ -23,17 +50,61 @@ public class AgentOrchestrationService {
     
     private static final Logger logger = LoggerFactory.getLogger(AgentOrchestrationService.class);
     
+    private static final Sinks.EmitFailureHandler EMIT_RETRY = Sinks.EmitFailureHandler.busyLooping(Duration.ofMillis(100));
+    
+    // How long an execution holding a bulkhead slot waits before trying a saturated engine again
+    private static final long ENGINE_BACKOFF_MS = 50;
+    
     private final AgentExecutionRepository executionRepository;
     private final WebSocketNotificationService notificationService;
+    private final AgentExecutionEngine executionEngine;
+    private final ExecutionStateJournal executionJournal;
+    private final ExecutionBulkheads bulkheads;
+    private final DeadlineScheduler deadlineScheduler;
+    private final RetryPolicy retryPolicy;
+    private final ExecutionRegistry executionRegistry;
+    private final RequestCoalescer requestCoalescer;
+    private final ResponseCache responseCache;
+    private final HedgingPolicy hedgingPolicy;
+    private final AdapterAvailabilityMonitor availabilityMonitor;
+    private final ExecutionRateLimits rateLimits;
+    private final AdapterCircuitBreakers circuitBreakers;
+    private final long defaultTimeoutMs;
     private final Map<AgentFrameworkType, AgentAdapter> adapters;
     
     @Autowired
     public AgentOrchestrationService(
             AgentExecutionRepository executionRepository,
             WebSocketNotificationService notificationService,
+            AgentExecutionEngine executionEngine,
+            ExecutionStateJournal executionJournal,
+            ExecutionBulkheads bulkheads,
+            DeadlineScheduler deadlineScheduler,
+            RetryPolicy retryPolicy,
+            ExecutionRegistry executionRegistry,
+            RequestCoalescer requestCoalescer,
+            ResponseCache responseCache,
+            HedgingPolicy hedgingPolicy,
+            AdapterAvailabilityMonitor availabilityMonitor,
+            ExecutionRateLimits rateLimits,
+            AdapterCircuitBreakers circuitBreakers,
+            @Value("${app.agent.execution.timeout:300000}") long defaultTimeoutMs,
             List<AgentAdapter> adapterList) {
         this.executionRepository = executionRepository;
         this.notificationService = notificationService;
+        this.executionEngine = executionEngine;
+        this.executionJournal = executionJournal;
+        this.bulkheads = bulkheads;
+        this.deadlineScheduler = deadlineScheduler;
+        this.retryPolicy = retryPolicy;
+        this.executionRegistry = executionRegistry;
+        this.requestCoalescer = requestCoalescer;
+        this.responseCache = responseCache;
+        this.hedgingPolicy = hedgingPolicy;
+        this.availabilityMonitor = availabilityMonitor;
+        this.rateLimits = rateLimits;
+        this.circuitBreakers = circuitBreakers;
+        this.defaultTimeoutMs = defaultTimeoutMs;
         
         // Create adapter map for quick lookup
         this.adapters = adapterList.stream()
@@ -43,74 +114,634 @@ public class AgentOrchestrationService {
     }
     
     /**
-     * Execute a single agent task synchronously
+     * Execute a single agent task synchronously.
+     * The call still runs inside the framework's bulkhead, never on the caller's thread.
+     * @throws RejectedExecutionException if the framework is overloaded
      */
     public AgentExecutionResponse executeTask(AgentExecutionRequest request) {
         logger.info("Executing task synchronously for framework: {}", request.getFrameworkType());
+        return executeTaskAsync(request).join();
+    }
+    
+    /**
+     * Execute a single agent task asynchronously on the execution engine, within the framework's bulkhead.
+     * The execution's deadline starts when it is submitted, so time spent queued counts towards it.
+     * @throws RejectedExecutionException if the framework is overloaded
+     */
+    public CompletableFuture<AgentExecutionResponse> executeTaskAsync(AgentExecutionRequest request) {
+        logger.info("Executing task asynchronously for framework: {}", request.getFrameworkType());
+        
+        // Create the record up front, so an execution can time out while it is still queued
+        ExecutionHandle handle = new ExecutionHandle(executionJournal.create(createExecutionRecord(request)));
+        executionRegistry.register(handle);
+        
+        // Registered before checking, so a concurrent benchmark cancellation either sees it or is seen here
+        if (executionRegistry.isBenchmarkRunCancelled(request.getBenchmarkRunId())) {
+            finishExecution(handle, AgentExecution::markAsCancelled);
+            return handle.getCompletion().thenApply(this::mapToResponse);
+        }
+        
+        if (requestCoalescer.appliesTo(request)) {
+            dispatchCoalesced(handle, request);
+        } else {
+            dispatch(handle, request);
+        }
+        
+        scheduleDeadline(handle, request);
+        return handle.getCompletion().thenApply(this::mapToResponse);
+    }
+    
+    /**
+     * Queue an execution on its framework's bulkhead
+     * @throws RejectedExecutionException if the framework is overloaded; the execution is then marked
+     *         FAILED as rejected
+     */
+    private void dispatch(ExecutionHandle handle, AgentExecutionRequest request) {
+        dispatch(handle, request, () -> startExecution(handle, request));
+    }
+    
+    private void dispatch(ExecutionHandle handle, AgentExecutionRequest request,
+                          Supplier<CompletableFuture<AgentExecution>> call) {
+        FrameworkBulkhead bulkhead = bulkheads.forFramework(request.getFrameworkType());
+        
+        try {
+            CompletableFuture<AgentExecution> queued = request.getBenchmarkRunId() == null
+                    ? bulkhead.submit(call)
+                    // Benchmark iterations are dispatched from a benchmark thread, so apply backpressure instead of rejecting
+                    : submitAwaitingCapacity(bulkhead, call, request);
+            handle.setQueuedCall(queued);
+        } catch (RejectedExecutionException e) {
+            rejectExecution(handle, e.getMessage());
+            throw e;
+        }
+    }
+    
+    /**
+     * Dispatch an execution, or let it follow an identical one already in flight
+     */
+    private void dispatchCoalesced(ExecutionHandle handle, AgentExecutionRequest request) {
+        ExecutionHandle leader = requestCoalescer.joinOrLead(requestCoalescer.keyFor(request), handle);
+        if (leader == null) {
+            dispatch(handle, request);
+            return;
+        }
+        
+        logger.info("Execution {} coalesced with in-flight execution {}", handle.getExecutionId(), leader.getExecutionId());
+        updateExecution(handle, AgentExecution::markAsStarted);
+        leader.getCompletion()
+                .thenAccept(leaderExecution -> followLeader(handle, leaderExecution, request))
+                .exceptionally(error -> {
+                    // Don't leave the follower waiting for its deadline
+                    if (finishExecution(handle, e -> e.markAsFailed("Could not follow execution "
+                            + leader.getExecutionId() + ": " + error.getMessage()))) {
+                        logger.error("Execution {} could not follow execution {}",
+                                handle.getExecutionId(), leader.getExecutionId(), error);
+                    }
+                    return null;
+                });
+    }
+    
+    /**
+     * Give a follower the outcome of the execution it was coalesced with.
+     * If the leader was cancelled, the follower is dispatched again on its own behalf.
+     */
+    private void followLeader(ExecutionHandle handle, AgentExecution leaderExecution, AgentExecutionRequest request) {
+        if (handle.isFinished()) {
+            return;
+        }
         
-        // Create and save initial execution record
-        AgentExecution execution = createExecutionRecord(request);
-        execution = executionRepository.save(execution);
+        if (leaderExecution.getStatus() == ExecutionStatus.CANCELLED) {
+            try {
+                dispatchCoalesced(handle, request);
+            } catch (RejectedExecutionException e) {
+                logger.warn("Could not re-dispatch execution {} after its leader was cancelled: {}",
+                        handle.getExecutionId(), e.getMessage());
+            }
+            return;
+        }
+        
+        Map<String, String> metadata = new HashMap<>();
+        if (leaderExecution.getMetadata() != null) {
+            metadata.putAll(leaderExecution.getMetadata());
+        }
+        // The leader's call used the tokens; counting them again per follower would inflate token totals
+        TokenUsage.clear(metadata);
+        metadata.put(RequestCoalescer.COALESCED_KEY, "true");
+        metadata.put(RequestCoalescer.COALESCED_WITH_KEY, String.valueOf(leaderExecution.getId()));
+        String leaderError = "Coalesced with execution " + leaderExecution.getId() + ": " + leaderExecution.getErrorMessage();
+        
+        finishExecution(handle, e -> {
+            e.setMetadata(metadata);
+            switch (leaderExecution.getStatus()) {
+                case COMPLETED -> e.markAsCompleted(leaderExecution.getTaskOutput());
+                case TIMEOUT -> e.markAsTimedOut(leaderError);
+                default -> e.markAsFailed(leaderError);
+            }
+        });
+    }
+    
+    private CompletableFuture<AgentExecution> submitAwaitingCapacity(FrameworkBulkhead bulkhead,
+                                                                     Supplier<CompletableFuture<AgentExecution>> call,
+                                                                     AgentExecutionRequest request) {
+        try {
+            return bulkhead.submitAwaitingCapacity(call);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new RejectedExecutionException("Interrupted while waiting for capacity on " + request.getFrameworkType(), e);
+        }
+    }
+    
+    /**
+     * Render the prompt once and record its template and hash in the metadata,
+     * so executions of different frameworks can be checked for an identical prompt.
+     * The rendered prompt is passed on to the adapter, which doesn't render it again.
+     */
+    private RenderedPrompt recordPrompt(AgentAdapter adapter, AgentExecutionRequest request, Map<String, String> metadata) {
+        RenderedPrompt prompt = adapter.renderPrompt(request.getTaskInput(), request.getTaskDescription(), metadata);
+        metadata.put(PromptTemplateRegistry.TEMPLATE_KEY, prompt.getTemplateName());
+        metadata.put(PromptTemplateRegistry.PROMPT_HASH_KEY, prompt.getHash());
+        return prompt;
+    }
+    
+    /**
+     * Fail an execution shed for lack of capacity. It is marked as rejected, so load shed on
+     * this side doesn't count against the framework's reliability.
+     */
+    private void rejectExecution(ExecutionHandle handle, String reason) {
+        finishExecution(handle, execution -> {
+            Map<String, String> metadata = execution.getMetadata() != null
+                    ? new HashMap<>(execution.getMetadata())
+                    : new HashMap<>();
+            metadata.put(FrameworkBulkhead.REJECTED_KEY, "true");
+            execution.setMetadata(metadata);
+            execution.markAsFailed(reason);
+        });
+    }
+    
+    private CompletableFuture<AgentExecution> startExecution(ExecutionHandle handle, AgentExecutionRequest request) {
+        if (handle.isFinished()) {
+            // Timed out or cancelled while queued; don't spend a call on it
+            return CompletableFuture.completedFuture(handle.getExecution());
+        }
+        
+        submitToEngine(handle, request);
+        
+        // The bulkhead slot is held until the execution reaches a terminal state;
+        // aborting it (e.g. on timeout) finishes it first, freeing the slot at once
+        return handle.getCompletion();
+    }
+    
+    /**
+     * Short hop onto the engine to prepare the call; the adapter call itself holds no thread.
+     * While the engine is saturated, the execution keeps its bulkhead slot and tries again shortly,
+     * bounded by its deadline, rather than failing along with everything queued behind it.
+     */
+    private void submitToEngine(ExecutionHandle handle, AgentExecutionRequest request) {
+        if (handle.isFinished()) {
+            return;
+        }
+        
+        try {
+            handle.setEngineCall(executionEngine.submit(() -> {
+                runExecution(handle, request);
+                return null;
+            }));
+        } catch (RejectedExecutionException e) {
+            logger.debug("Execution engine is saturated; execution {} retries in {} ms", handle.getExecutionId(), ENGINE_BACKOFF_MS);
+            deadlineScheduler.schedule(ENGINE_BACKOFF_MS, () -> submitToEngine(handle, request));
+        }
+    }
+    
+    private void runExecution(ExecutionHandle handle, AgentExecutionRequest request) {
+        AgentExecution execution = handle.getExecution();
+        Map<String, String> metadata = new HashMap<>();
         
         try {
             // Get the appropriate adapter
             AgentAdapter adapter = getAdapter(request.getFrameworkType());
-            if (adapter == null || !adapter.isAvailable()) {
-                execution.markAsFailed("Adapter not available for framework: " + request.getFrameworkType());
-                execution = executionRepository.save(execution);
-                return mapToResponse(execution);
+            if (adapter == null || !availabilityMonitor.isAvailable(request.getFrameworkType())) {
+                finishExecution(handle, e -> e.markAsFailed("Adapter not available for framework: " + request.getFrameworkType()));
+                return;
             }
             
-            // Mark as started and save
-            execution.markAsStarted();
-            execution = executionRepository.save(execution);
-            notificationService.sendExecutionUpdate(execution);
+            // Mark as started (written behind), unless the deadline already passed
+            if (!updateExecution(handle, AgentExecution::markAsStarted)) {
+                return;
+            }
             
             // Prepare metadata
-            Map<String, String> metadata = adapter.prepareMetadata(request.getMetadata());
+            Map<String, String> prepared = adapter.prepareMetadata(request.getMetadata());
+            if (prepared != null) {
+                metadata.putAll(prepared);
+            }
             
-            // Execute the task
-            String result = adapter.executeTask(
-                request.getTaskInput(),
-                request.getTaskDescription(),
+            // Deterministic prompts may be answered from the response cache
+            RenderedPrompt prompt = recordPrompt(adapter, request, metadata);
+            Optional<String> cacheKey = responseCache.keyFor(adapter, request, metadata, prompt);
+            Optional<String> cached = cacheKey.flatMap(responseCache::get);
+            if (cached.isPresent()) {
+                metadata.put(ResponseCache.CACHED_KEY, "true");
+                finishExecution(handle, e -> {
+                    e.setMetadata(metadata);
+                    e.markAsCompleted(cached.get());
+                });
+                return;
+            }
+            
+            // Execute the task on non-blocking I/O, retrying transient failures within the execution's
+            // deadline and hedging attempts that outlast the framework's p95 latency.
+            // Every call to the provider, hedges included, passes the framework's circuit breaker
+            // and is paced by its quota.
+            FrameworkCircuitBreaker circuitBreaker = circuitBreakers.forFramework(adapter.getFrameworkType());
+            FrameworkRateLimiter rateLimiter = rateLimits.forFramework(adapter.getFrameworkType());
+            long estimatedTokens = rateLimits.estimateTokens(prompt.getText().length(), metadata);
+            CompletableFuture<String> call = retryPolicy.execute(
+                () -> hedgingPolicy.execute(adapter.getFrameworkType(), metadata,
+                    attemptMetadata -> guarded(circuitBreaker, attemptMetadata,
+                        () -> rateLimiter.execute(estimatedTokens, attemptMetadata,
+                            () -> adapter.executeTaskAsync(
+                                request.getTaskInput(),
+                                request.getTaskDescription(),
+                                prompt,
+                                attemptMetadata
+                            )
+                        )
+                    )
+                ),
+                resolveMaxRetries(request, adapter),
                 metadata
             );
+            handle.setCurrentCall(call);
             
-            // Mark as completed
-            execution.markAsCompleted(result);
-            execution.setMetadata(metadata);
-            execution = executionRepository.save(execution);
-            
-            logger.info("Task completed successfully for execution ID: {}", execution.getId());
-            notificationService.sendExecutionUpdate(execution);
-            
-            return mapToResponse(execution);
+            // Completion arrives on an I/O thread; journal writes block, so finish on the engine
+            call.whenComplete((result, error) -> onEngine(() -> completeExecution(handle, cacheKey, metadata, result, error)));
             
         } catch (Exception e) {
-            logger.error("Task execution failed for execution ID: {}", execution.getId(), e);
-            execution.markAsFailed(e.getMessage());
-            execution = executionRepository.save(execution);
-            notificationService.sendExecutionUpdate(execution);
+            completeExecution(handle, Optional.empty(), metadata, null, e);
+        }
+    }
+    
+    private static <T> CompletableFuture<T> guarded(FrameworkCircuitBreaker circuitBreaker, Map<String, String> metadata,
+                                                    Supplier<CompletableFuture<T>> call) {
+        return circuitBreaker != null ? circuitBreaker.execute(metadata, call) : call.get();
+    }
+    
+    private void completeExecution(ExecutionHandle handle, Optional<String> cacheKey, Map<String, String> metadata,
+                                   String result, Throwable error) {
+        AgentExecution execution = handle.getExecution();
+        if (error == null) {
+            cacheKey.ifPresent(key -> responseCache.put(key, result));
             
-            return mapToResponse(execution);
+            // Mark as completed
+            if (finishExecution(handle, e -> {
+                e.setMetadata(metadata);
+                e.markAsCompleted(result);
+            })) {
+                logger.info("Task completed successfully for execution ID: {}", execution.getId());
+            }
+            return;
+        }
+        
+        Throwable cause = error instanceof CompletionException && error.getCause() != null ? error.getCause() : error;
+        if (cause instanceof CircuitBreakerOpenException) {
+            // Counted apart from failures of calls that were actually made
+            metadata.put(FrameworkCircuitBreaker.REJECTED_KEY, "true");
+        }
+        // Keep retry accounting on failed executions too
+        if (finishExecution(handle, ex -> {
+            if (!metadata.isEmpty()) {
+                ex.setMetadata(metadata);
+            }
+            ex.markAsFailed(cause.getMessage());
+        })) {
+            logger.error("Task execution failed for execution ID: {}", execution.getId(), cause);
+        } else {
+            logger.debug("Execution {} was already {} when its call ended: {}",
+                    execution.getId(), execution.getStatus(), cause.toString());
         }
     }
     
     /**
-     * Execute a single agent task asynchronously
+     * Run short follow-up work on the engine; when the engine is saturated, run it inline
+     * rather than lose an execution's outcome
      */
-    @Async("agentExecutionTaskExecutor")
-    public CompletableFuture<AgentExecutionResponse> executeTaskAsync(AgentExecutionRequest request) {
-        logger.info("Executing task asynchronously for framework: {}", request.getFrameworkType());
+    private void onEngine(Runnable work) {
+        try {
+            executionEngine.submit(() -> {
+                work.run();
+                return null;
+            });
+        } catch (RejectedExecutionException e) {
+            work.run();
+        }
+    }
+    
+    /**
+     * The request's retry limit wins; the adapter's default applies when the request doesn't set one
+     */
+    private int resolveMaxRetries(AgentExecutionRequest request, AgentAdapter adapter) {
+        if (request.getMaxRetries() != null && request.getMaxRetries() >= 0) {
+            return request.getMaxRetries();
+        }
+        return adapter.getMaxRetries();
+    }
+    
+    private void scheduleDeadline(ExecutionHandle handle, AgentExecutionRequest request) {
+        scheduleDeadline(handle, resolveTimeoutMs(request));
+    }
+    
+    private void scheduleDeadline(ExecutionHandle handle, long timeoutMs) {
+        handle.setDeadline(deadlineScheduler.schedule(timeoutMs, () -> expireExecution(handle, timeoutMs)));
+    }
+    
+    /**
+     * The request's timeout wins; the adapter's default applies when the request doesn't set one
+     */
+    private long resolveTimeoutMs(AgentExecutionRequest request) {
+        if (request.getTimeoutMs() != null && request.getTimeoutMs() > 0) {
+            return request.getTimeoutMs();
+        }
+        AgentAdapter adapter = getAdapter(request.getFrameworkType());
+        return adapter != null ? adapter.getDefaultTimeoutMs() : defaultTimeoutMs;
+    }
+    
+    private void expireExecution(ExecutionHandle handle, long timeoutMs) {
+        if (abortExecution(handle, e -> e.markAsTimedOut("Execution exceeded its timeout of " + timeoutMs + " ms"))) {
+            logger.warn("Execution {} timed out after {} ms", handle.getExecutionId(), timeoutMs);
+        }
+    }
+    
+    /**
+     * Apply a non-terminal transition and publish it, unless the execution already finished
+     */
+    private boolean updateExecution(ExecutionHandle handle, Consumer<AgentExecution> transition) {
+        if (!handle.update(transition.andThen(executionJournal::record))) {
+            return false;
+        }
+        notificationService.sendExecutionUpdate(handle.getExecution());
+        return true;
+    }
+    
+    /**
+     * Apply a terminal transition and publish it, unless another terminal transition won.
+     * The terminal write to the database happens outside the handle's lock.
+     */
+    private boolean finishExecution(ExecutionHandle handle, Consumer<AgentExecution> transition) {
+        if (!handle.finish(transition.andThen(TokenUsage::applyTo), executionJournal::record)) {
+            return false;
+        }
+        notificationService.sendExecutionUpdate(handle.getExecution());
+        return true;
+    }
+    
+    /**
+     * Time out or cancel an execution and abort its call, unless another terminal transition won.
+     * The terminal state is recorded before the call is interrupted, so it can't report itself as FAILED.
+     */
+    private boolean abortExecution(ExecutionHandle handle, Consumer<AgentExecution> transition) {
+        if (!handle.abort(transition.andThen(TokenUsage::applyTo), executionJournal::record)) {
+            return false;
+        }
+        notificationService.sendExecutionUpdate(handle.getExecution());
+        return true;
+    }
+    
+    /**
+     * Execute many requests for one framework through the adapter's batch path: packed into one
+     * provider-side submission where the adapter supports it, otherwise fanned out with bounded
+     * parallelism. Each request still gets its own execution record, deadline and cancellation;
+     * batched calls bypass the bulkhead, retries, hedging and the response cache. A batch is refused
+     * while the framework's circuit breaker is open, but its outcome doesn't count towards the
+     * breaker: a batch's duration and all-or-nothing failure say little about single calls.
+     * @return One future per request, in request order
+     */
+    public List<CompletableFuture<AgentExecutionResponse>> executeBatch(AgentFrameworkType frameworkType,
+                                                                        List<AgentExecutionRequest> requests) {
+        logger.info("Executing batch of {} tasks for framework: {}", requests.size(), frameworkType);
+        
+        AgentAdapter adapter = getAdapter(frameworkType);
+        // Batches run much longer than single calls (the Batch API queues for up to hours)
+        long batchTimeoutMs = adapter != null ? adapter.getBatchTimeoutMs(requests.size()) : defaultTimeoutMs;
         
-        return CompletableFuture.supplyAsync(() -> {
+        List<ExecutionHandle> handles = new ArrayList<>(requests.size());
+        for (AgentExecutionRequest request : requests) {
+            ExecutionHandle handle = new ExecutionHandle(executionJournal.create(createExecutionRecord(request)));
+            executionRegistry.register(handle);
+            if (executionRegistry.isBenchmarkRunCancelled(request.getBenchmarkRunId())) {
+                finishExecution(handle, AgentExecution::markAsCancelled);
+            } else {
+                scheduleDeadline(handle, Math.max(resolveTimeoutMs(request), batchTimeoutMs));
+            }
+            handles.add(handle);
+        }
+        
+        if (adapter == null || !availabilityMonitor.isAvailable(frameworkType)) {
+            handles.forEach(handle -> finishExecution(handle,
+                    e -> e.markAsFailed("Adapter not available for framework: " + frameworkType)));
+        } else {
+            startBatch(adapter, handles, requests);
+        }
+        
+        return handles.stream()
+                .map(handle -> handle.getCompletion().thenApply(this::mapToResponse))
+                .collect(Collectors.toList());
+    }
+    
+    private void startBatch(AgentAdapter adapter, List<ExecutionHandle> handles, List<AgentExecutionRequest> requests) {
+        List<BatchTask> tasks = new ArrayList<>();
+        Map<String, ExecutionHandle> handlesByRequestId = new HashMap<>();
+        
+        for (int i = 0; i < handles.size(); i++) {
+            ExecutionHandle handle = handles.get(i);
+            AgentExecutionRequest request = requests.get(i);
+            if (!updateExecution(handle, AgentExecution::markAsStarted)) {
+                continue;
+            }
+            
+            Map<String, String> metadata = new HashMap<>();
+            Map<String, String> prepared = adapter.prepareMetadata(request.getMetadata());
+            if (prepared != null) {
+                metadata.putAll(prepared);
+            }
+            metadata.put(BatchTask.BATCHED_KEY, "true");
+            RenderedPrompt prompt;
             try {
-                return executeTask(request);
+                prompt = recordPrompt(adapter, request, metadata);
+            } catch (IllegalArgumentException e) {
+                finishExecution(handle, execution -> execution.markAsFailed(e.getMessage()));
+                continue;
+            }
+            
+            String requestId = String.valueOf(handle.getExecutionId());
+            tasks.add(new BatchTask(requestId, request.getTaskInput(), request.getTaskDescription(), prompt, metadata));
+            handlesByRequestId.put(requestId, handle);
+        }
+        if (tasks.isEmpty()) {
+            return;
+        }
+        
+        CompletableFuture<Map<String, BatchResult>> batch;
+        FrameworkCircuitBreaker circuitBreaker = circuitBreakers.forFramework(adapter.getFrameworkType());
+        if (circuitBreaker != null && circuitBreaker.isRejectingCalls()) {
+            batch = CompletableFuture.failedFuture(
+                    new CircuitBreakerOpenException(adapter.getFrameworkType(), FrameworkCircuitBreaker.State.OPEN));
+        } else {
+            try {
+                batch = adapter.executeBatch(tasks);
             } catch (Exception e) {
-                logger.error("Async task execution failed", e);
-                throw new RuntimeException(e);
+                batch = CompletableFuture.failedFuture(e);
             }
+        }
+        
+        // Abandon the batch once every execution in it has ended otherwise (timeout, cancellation)
+        CompletableFuture<Map<String, BatchResult>> submitted = batch;
+        CompletableFuture.allOf(handlesByRequestId.values().stream()
+                        .map(ExecutionHandle::getCompletion)
+                        .toArray(CompletableFuture[]::new))
+                .thenRun(() -> submitted.cancel(true));
+        
+        // Completion arrives on an I/O thread; journal writes block, so finish on the engine
+        batch.whenComplete((results, error) -> onEngine(() -> {
+            for (BatchTask task : tasks) {
+                ExecutionHandle handle = handlesByRequestId.get(task.getRequestId());
+                BatchResult result = results != null ? results.get(task.getRequestId()) : null;
+                Throwable failure = error;
+                if (failure == null && result == null) {
+                    failure = new IllegalStateException("No result returned for request in batch");
+                } else if (failure == null && !result.isSuccess()) {
+                    failure = new RuntimeException(result.getErrorMessage());
+                }
+                completeExecution(handle, Optional.empty(), task.getMetadata(),
+                        failure == null ? result.getResult() : null, failure);
+            }
+        }));
+    }
+    
+    /**
+     * Execute a single agent task, streaming its completion chunks as they are generated.
+     * Streamed executions run within the framework's bulkhead and deadline, but are not
+     * coalesced, cached, retried or hedged. The last event carries the terminal status;
+     * a subscriber that cancels also cancels the execution.
+     * @throws RejectedExecutionException if the framework is overloaded
+     */
+    public Flux<AgentExecutionChunk> streamTask(AgentExecutionRequest request) {
+        logger.info("Executing streamed task for framework: {}", request.getFrameworkType());
+        
+        ExecutionHandle handle = new ExecutionHandle(executionJournal.create(createExecutionRecord(request)));
+        executionRegistry.register(handle);
+        
+        Sinks.Many<AgentExecutionChunk> sink = Sinks.many().unicast().onBackpressureBuffer();
+        StreamTimings timings = new StreamTimings();
+        
+        dispatch(handle, request, () -> startStreaming(handle, request, timings, delta -> {
+            sink.emitNext(delta, EMIT_RETRY);
+            notificationService.sendExecutionDelta(delta);
+        }));
+        scheduleDeadline(handle, request);
+        
+        handle.getCompletion().whenComplete((execution, error) -> {
+            sink.emitNext(AgentExecutionChunk.done(mapToResponse(execution), timings.getChunkCount()), EMIT_RETRY);
+            sink.emitComplete(EMIT_RETRY);
         });
+        return sink.asFlux().doOnCancel(() -> cancel(handle));
+    }
+    
+    /**
+     * Execute a single agent task on the streaming path, for callers that only need its outcome,
+     * such as benchmark runs measuring time-to-first-token and inter-token latency. Chunks are
+     * timed but not published. Otherwise it behaves as {@link #streamTask(AgentExecutionRequest)}.
+     * @throws RejectedExecutionException if the framework is overloaded
+     */
+    public CompletableFuture<AgentExecutionResponse> executeTaskStreamedAsync(AgentExecutionRequest request) {
+        logger.info("Executing streamed task asynchronously for framework: {}", request.getFrameworkType());
+        
+        ExecutionHandle handle = new ExecutionHandle(executionJournal.create(createExecutionRecord(request)));
+        executionRegistry.register(handle);
+        
+        if (executionRegistry.isBenchmarkRunCancelled(request.getBenchmarkRunId())) {
+            finishExecution(handle, AgentExecution::markAsCancelled);
+            return handle.getCompletion().thenApply(this::mapToResponse);
+        }
+        
+        StreamTimings timings = new StreamTimings();
+        dispatch(handle, request, () -> startStreaming(handle, request, timings, delta -> { }));
+        scheduleDeadline(handle, request);
+        return handle.getCompletion().thenApply(this::mapToResponse);
+    }
+    
+    private CompletableFuture<AgentExecution> startStreaming(ExecutionHandle handle, AgentExecutionRequest request,
+                                                             StreamTimings timings, Consumer<AgentExecutionChunk> onDelta) {
+        AgentExecution execution = handle.getExecution();
+        if (handle.isFinished()) {
+            return CompletableFuture.completedFuture(execution);
+        }
+        
+        AgentAdapter adapter = getAdapter(request.getFrameworkType());
+        if (adapter == null || !availabilityMonitor.isAvailable(request.getFrameworkType())) {
+            finishExecution(handle, e -> e.markAsFailed("Adapter not available for framework: " + request.getFrameworkType()));
+            return CompletableFuture.completedFuture(execution);
+        }
+        if (!updateExecution(handle, AgentExecution::markAsStarted)) {
+            return CompletableFuture.completedFuture(execution);
+        }
+        
+        Map<String, String> metadata = new HashMap<>();
+        Map<String, String> prepared = adapter.prepareMetadata(request.getMetadata());
+        if (prepared != null) {
+            metadata.putAll(prepared);
+        }
+        metadata.put("streamed", "true");
+        
+        StringBuilder output = new StringBuilder();
+        CompletableFuture<AgentExecution> call = new CompletableFuture<>();
+        timings.start();
+        
+        Flux<String> stream;
+        try {
+            RenderedPrompt prompt = recordPrompt(adapter, request, metadata);
+            stream = adapter.executeTaskStream(request.getTaskInput(), request.getTaskDescription(), prompt, metadata);
+        } catch (Exception e) {
+            stream = Flux.error(e);
+        }
+        
+        Disposable subscription = stream.subscribe(
+            chunk -> {
+                if (handle.isFinished()) {
+                    return;
+                }
+                int index = timings.onChunk();
+                output.append(chunk);
+                onDelta.accept(AgentExecutionChunk.delta(
+                        execution.getId(), execution.getFrameworkType(), index, chunk, timings.getElapsedMs()));
+            },
+            error -> {
+                if (finishExecution(handle, e -> {
+                    timings.applyTo(e);
+                    e.setMetadata(metadata);
+                    e.markAsFailed(error.getMessage());
+                })) {
+                    logger.error("Streamed execution {} failed", execution.getId(), error);
+                }
+                call.complete(execution);
+            },
+            () -> {
+                String result = adapter.postProcessResult(output.toString(), metadata);
+                finishExecution(handle, e -> {
+                    timings.applyTo(e);
+                    e.setMetadata(metadata);
+                    e.markAsCompleted(result);
+                });
+                call.complete(execution);
+            });
+        
+        // Aborting the execution (timeout, cancellation) disposes the stream and its HTTP exchange
+        call.whenComplete((value, error) -> {
+            if (call.isCancelled()) {
+                subscription.dispose();
+            }
+        });
+        handle.setCurrentCall(call);
+        return call;
     }
     
     /**
@@ -129,7 +760,13 @@ public class AgentOrchestrationService {
             AgentExecutionRequest request = copyRequest(baseRequest);
             request.setFrameworkType(frameworkType);
             
-            CompletableFuture<AgentExecutionResponse> future = executeTaskAsync(request);
+            CompletableFuture<AgentExecutionResponse> future;
+            try {
+                future = executeTaskAsync(request);
+            } catch (RejectedExecutionException e) {
+                logger.warn("Skipping {} in comparison: {}", frameworkType, e.getMessage());
+                future = CompletableFuture.failedFuture(e);
+            }
             futures.add(future);
         }
         
@@ -140,7 +777,7 @@ public class AgentOrchestrationService {
      * Get execution status by ID
      */
     public AgentExecutionResponse getExecutionStatus(Long executionId) {
-        Optional<AgentExecution> execution = executionRepository.findById(executionId);
+        Optional<AgentExecution> execution = executionJournal.find(executionId);
         return execution.map(this::mapToResponse).orElse(null);
     }
     
@@ -175,27 +812,63 @@ public class AgentOrchestrationService {
     }
     
     /**
-     * Cancel a pending execution
+     * Cancel a queued or running execution.
+     * A queued execution leaves its bulkhead queue; a running one has its engine call cancelled,
+     * which interrupts the thread and frees its slot at once.
      */
     public boolean cancelExecution(Long executionId) {
-        Optional<AgentExecution> optional = executionRepository.findById(executionId);
+        Optional<ExecutionHandle> live = executionRegistry.find(executionId);
+        if (live.isPresent()) {
+            return cancel(live.get());
+        }
         
-        if (optional.isPresent()) {
+        // Not live in this instance: only a record orphaned by a restart can still be non-terminal
+        Optional<AgentExecution> optional = executionJournal.find(executionId);
+        if (optional.isPresent() && !optional.get().getStatus().isTerminal()) {
             AgentExecution execution = optional.get();
-            if (execution.getStatus() == ExecutionStatus.PENDING || execution.getStatus() == ExecutionStatus.RUNNING) {
-                execution.setStatus(ExecutionStatus.CANCELLED);
-                execution.setEndTime(LocalDateTime.now());
-                executionRepository.save(execution);
-                notificationService.sendExecutionUpdate(execution);
-                
-                logger.info("Execution {} cancelled", executionId);
-                return true;
-            }
+            execution.markAsCancelled();
+            executionJournal.record(execution);
+            notificationService.sendExecutionUpdate(execution);
+            
+            logger.info("Execution {} cancelled (no live call)", executionId);
+            return true;
         }
         
         return false;
     }
     
+    /**
+     * Cancel every live execution of a benchmark run, including any dispatched until
+     * {@link #releaseBenchmarkRun(String)} is called
+     * @return Number of executions cancelled
+     */
+    public int cancelBenchmarkExecutions(String benchmarkRunId) {
+        executionRegistry.markBenchmarkRunCancelled(benchmarkRunId);
+        
+        int cancelled = 0;
+        for (ExecutionHandle handle : executionRegistry.findByBenchmarkRun(benchmarkRunId)) {
+            if (cancel(handle)) {
+                cancelled++;
+            }
+        }
+        return cancelled;
+    }
+    
+    /**
+     * Forget a benchmark run's cancellation once it has stopped dispatching executions
+     */
+    public void releaseBenchmarkRun(String benchmarkRunId) {
+        executionRegistry.clearBenchmarkRun(benchmarkRunId);
+    }
+    
+    private boolean cancel(ExecutionHandle handle) {
+        if (!abortExecution(handle, AgentExecution::markAsCancelled)) {
+            return false;
+        }
+        logger.info("Execution {} cancelled", handle.getExecutionId());
+        return true;
+    }
+    
     /**
      * Get available frameworks with their configuration
      */
@@ -204,7 +877,10 @@ public class AgentOrchestrationService {
         
         for (Map.Entry<AgentFrameworkType, AgentAdapter> entry : adapters.entrySet()) {
             AgentAdapter adapter = entry.getValue();
-            Map<String, Object> config = adapter.getConfiguration();
+            Map<String, Object> config = new HashMap<>(adapter.getConfiguration());
+            // Reachability comes from the background probes, never from a live call per page load
+            config.put("available", availabilityMonitor.isAvailable(entry.getKey()));
+            config.put("availability", availabilityMonitor.getAvailability(entry.getKey()));
             frameworkInfo.put(entry.getKey(), config);
         }
         
@@ -250,6 +926,25 @@ public class AgentOrchestrationService {
         return stats;
     }
     
+    /**
+     * Get execution engine statistics, including in-flight executions
+     */
+    public Map<String, Object> getEngineStatistics() {
+        Map<String, Object> stats = new HashMap<>(executionEngine.getStatistics());
+        stats.put("journal", executionJournal.getStatistics());
+        stats.put("bulkheads", bulkheads.getStatistics());
+        stats.put("deadlines", deadlineScheduler.getStatistics());
+        stats.put("retries", retryPolicy.getStatistics());
+        stats.put("liveExecutions", executionRegistry.getLiveCount());
+        stats.put("singleFlight", requestCoalescer.getStatistics());
+        stats.put("responseCache", responseCache.getStatistics());
+        stats.put("hedging", hedgingPolicy.getStatistics());
+        stats.put("rateLimits", rateLimits.getStatistics());
+        stats.put("circuitBreakers", circuitBreakers.getStatistics());
+        stats.put("availability", availabilityMonitor.getAvailability());
+        return stats;
+    }
+    
     private AgentAdapter getAdapter(AgentFrameworkType frameworkType) {
         return adapters.get(frameworkType);
     }
@@ -262,6 +957,8 @@ public class AgentOrchestrationService {
         execution.setBenchmarkRunId(request.getBenchmarkRunId());
         execution.setStatus(ExecutionStatus.PENDING);
         execution.setMetadata(request.getMetadata());
+        execution.setWarmup(request.getMetadata() != null
+                && "true".equals(request.getMetadata().get(BenchmarkService.WARMUP_KEY)));
         return execution;
     }
     
@@ -275,6 +972,12 @@ public class AgentOrchestrationService {
         response.setStatus(execution.getStatus());
         response.setErrorMessage(execution.getErrorMessage());
         response.setExecutionDurationMs(execution.getExecutionDurationMs());
+        response.setTimeToFirstTokenMs(execution.getTimeToFirstTokenMs());
+        response.setInterTokenLatencyMs(execution.getInterTokenLatencyMs());
+        response.setPromptTokens(execution.getPromptTokens());
+        response.setCompletionTokens(execution.getCompletionTokens());
+        response.setTotalTokens(execution.getTotalTokens());
+        response.setWarmup(execution.isWarmup());
         response.setBenchmarkRunId(execution.getBenchmarkRunId());
         response.setMetadata(execution.getMetadata());
         response.setStartTime(execution.getStartTime());
@@ -293,6 +996,7 @@ public class AgentOrchestrationService {
         copy.setMaxRetries(original.getMaxRetries());
         copy.setBenchmarkRunId(original.getBenchmarkRunId());
         copy.setAsync(original.getAsync());
+        copy.setBypassCache(original.getBypassCache());
         
         if (original.getMetadata() != null) {
             copy.setMetadata(new HashMap<>(original.getMetadata()));
@@ -300,4 +1004,4 @@ public class AgentOrchestrationService {
         
         return copy;
     }
-}
\ No newline at end of file
+}
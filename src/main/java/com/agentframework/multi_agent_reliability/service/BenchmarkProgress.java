@@ -0,0 +1,131 @@
+package com.agentframework.multi_agent_reliability.service;
+
+import com.agentframework.multi_agent_reliability.model.AgentFrameworkType;
+import com.agentframework.multi_agent_reliability.model.ExecutionStatus;
+
+import java.util.EnumMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Live progress of a benchmark run, updated as its executions complete, in whatever order.
+ * Keeps the number of finished executions, an ETA from the completion rate so far and partial
+ * per-framework metrics (outcomes and average latency). Every update is O(1) and lock-free.
+ */
+public class BenchmarkProgress {
+
+    private volatile long startNanos = System.nanoTime();
+    private final AtomicInteger expected = new AtomicInteger();
+    private final AtomicInteger finished = new AtomicInteger();
+    private final Map<AgentFrameworkType, FrameworkTally> frameworks = new ConcurrentHashMap<>();
+
+    /**
+     * Restart the clock elapsed time and ETA are measured from, once measured executions start
+     * (after any warmup)
+     */
+    public void startClock() {
+        startNanos = System.nanoTime();
+    }
+
+    /**
+     * Set how many executions the run is expected to finish; updated once dispatch is done
+     */
+    public void setExpected(int expectedExecutions) {
+        expected.set(expectedExecutions);
+    }
+
+    /**
+     * Record one finished execution
+     * @param durationMs Execution duration, or null if unknown
+     * @return Number of executions finished so far
+     */
+    public int record(AgentFrameworkType frameworkType, ExecutionStatus status, Long durationMs) {
+        frameworks.computeIfAbsent(frameworkType, type -> new FrameworkTally()).record(status, durationMs);
+        return finished.incrementAndGet();
+    }
+
+    public int getFinished() {
+        return finished.get();
+    }
+
+    public int getExpected() {
+        return expected.get();
+    }
+
+    public long getElapsedMs() {
+        return (System.nanoTime() - startNanos) / 1_000_000;
+    }
+
+    /**
+     * Time left at the completion rate so far, or null before the first completion
+     */
+    public Long getEtaMs() {
+        int done = finished.get();
+        int remaining = expected.get() - done;
+        if (done == 0) {
+            return null;
+        }
+        return remaining > 0 ? getElapsedMs() * remaining / done : 0L;
+    }
+
+    /**
+     * Partial outcomes and latency per framework
+     */
+    public Map<AgentFrameworkType, Map<String, Object>> getFrameworkProgress() {
+        Map<AgentFrameworkType, Map<String, Object>> progress = new EnumMap<>(AgentFrameworkType.class);
+        frameworks.forEach((frameworkType, tally) -> progress.put(frameworkType, tally.toMap()));
+        return progress;
+    }
+
+    public Map<String, Object> toMap() {
+        Map<String, Object> progress = new LinkedHashMap<>();
+        int done = finished.get();
+        int total = expected.get();
+        progress.put("finishedExecutions", done);
+        progress.put("expectedExecutions", total);
+        progress.put("progress", total > 0 ? Math.min(100.0, done * 100.0 / total) : 0.0);
+        progress.put("elapsedMs", getElapsedMs());
+        progress.put("etaMs", getEtaMs());
+        progress.put("frameworks", getFrameworkProgress());
+        return progress;
+    }
+
+    private static final class FrameworkTally {
+        private final LongAdder completed = new LongAdder();
+        private final LongAdder failed = new LongAdder();
+        private final LongAdder timedOut = new LongAdder();
+        private final LongAdder other = new LongAdder();
+        private final LongAdder timedExecutions = new LongAdder();
+        private final LongAdder totalDurationMs = new LongAdder();
+
+        private void record(ExecutionStatus status, Long durationMs) {
+            switch (status != null ? status : ExecutionStatus.FAILED) {
+                case COMPLETED -> completed.increment();
+                case FAILED -> failed.increment();
+                case TIMEOUT -> timedOut.increment();
+                default -> other.increment();
+            }
+            if (status == ExecutionStatus.COMPLETED && durationMs != null) {
+                timedExecutions.increment();
+                totalDurationMs.add(durationMs);
+            }
+        }
+
+        private Map<String, Object> toMap() {
+            long completedCount = completed.sum();
+            long total = completedCount + failed.sum() + timedOut.sum() + other.sum();
+            long timed = timedExecutions.sum();
+            Map<String, Object> tally = new LinkedHashMap<>();
+            tally.put("finished", total);
+            tally.put("completed", completedCount);
+            tally.put("failed", failed.sum());
+            tally.put("timedOut", timedOut.sum());
+            tally.put("successRate", total > 0 ? completedCount * 100.0 / total : 0.0);
+            tally.put("averageResponseTimeMs", timed > 0 ? (double) totalDurationMs.sum() / timed : null);
+            return tally;
+        }
+    }
+}
@@ -0,0 +1,245 @@
+package com.agentframework.multi_agent_reliability.service;
+
+import com.agentframework.multi_agent_reliability.model.AgentFrameworkType;
+import com.agentframework.multi_agent_reliability.model.BenchmarkRun;
+import com.agentframework.multi_agent_reliability.model.BenchmarkRun.BenchmarkRunStatus;
+import com.agentframework.multi_agent_reliability.model.ExecutionStatus;
+import com.agentframework.multi_agent_reliability.repository.BenchmarkRunRepository;
+import jakarta.annotation.PostConstruct;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDateTime;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Registry of active benchmark runs, backed by the benchmark_runs table.
+ * A run's header is written when it registers and its final state when it closes; in between its
+ * status and progress counters live in atomics, updated from any thread without locking.
+ * Callers only ever get snapshots of a run, never the live state, and finished runs are served
+ * from the database. Runs the database still shows in progress at startup belonged to a previous
+ * instance and can never finish, so they are marked FAILED.
+ */
+@Service
+public class BenchmarkRunRegistry {
+
+    private static final Logger logger = LoggerFactory.getLogger(BenchmarkRunRegistry.class);
+
+    private final BenchmarkRunRepository runRepository;
+    private final Map<String, ActiveRun> active = new ConcurrentHashMap<>();
+
+    @Autowired
+    public BenchmarkRunRegistry(BenchmarkRunRepository runRepository) {
+        this.runRepository = runRepository;
+    }
+
+    /**
+     * Fail the runs a previous instance left pending or running
+     */
+    @PostConstruct
+    public void failOrphanedRuns() {
+        try {
+            for (BenchmarkRunStatus status : List.of(BenchmarkRunStatus.PENDING, BenchmarkRunStatus.RUNNING)) {
+                for (BenchmarkRun run : runRepository.findByStatusOrderByCreatedAtDesc(status)) {
+                    run.setStatus(BenchmarkRunStatus.FAILED);
+                    run.setEndTime(LocalDateTime.now());
+                    runRepository.save(run);
+                    logger.warn("Benchmark run {} was left {} by a previous instance; marked FAILED", run.getRunId(), status);
+                }
+            }
+        } catch (RuntimeException e) {
+            // Stale runs only affect history; don't keep the application from starting
+            logger.error("Failed to mark orphaned benchmark runs as failed", e);
+        }
+    }
+    
+    /**
+     * Persist a new run's header and start tracking it
+     */
+    public ActiveRun register(BenchmarkRun run) {
+        ActiveRun activeRun = new ActiveRun(run);
+        persist(activeRun);
+        active.put(activeRun.getRunId(), activeRun);
+        return activeRun;
+    }
+
+    /**
+     * Write the current state of an active run, e.g. right after it was cancelled
+     */
+    public BenchmarkRun persist(ActiveRun run) {
+        // One write at a time per run, so a later snapshot is never overwritten by an earlier one
+        synchronized (run) {
+            BenchmarkRun snapshot = run.snapshot();
+            try {
+                BenchmarkRun saved = runRepository.save(snapshot);
+                run.id = saved.getId();
+                return saved;
+            } catch (RuntimeException e) {
+                // Losing the record must not stop the run; the next write retries with the latest state
+                logger.error("Failed to persist benchmark run {}", run.getRunId(), e);
+                return snapshot;
+            }
+        }
+    }
+
+    /**
+     * Persist a run's final state and stop tracking it
+     */
+    public BenchmarkRun close(ActiveRun run) {
+        BenchmarkRun saved = persist(run);
+        active.remove(run.getRunId(), run);
+        return saved;
+    }
+
+    public Optional<ActiveRun> find(String runId) {
+        return Optional.ofNullable(active.get(runId));
+    }
+
+    /**
+     * A run by ID: live progress while it is active, otherwise its persisted record
+     */
+    public Optional<BenchmarkRun> findRun(String runId) {
+        ActiveRun run = active.get(runId);
+        return run != null ? Optional.of(run.snapshot()) : runRepository.findByRunId(runId);
+    }
+
+    /**
+     * Snapshots of the runs still in progress
+     */
+    public Map<String, BenchmarkRun> getActiveRuns() {
+        Map<String, BenchmarkRun> runs = new LinkedHashMap<>();
+        active.forEach((runId, run) -> {
+            if (!run.getStatus().isTerminal()) {
+                runs.put(runId, run.snapshot());
+            }
+        });
+        return runs;
+    }
+
+    /**
+     * Persisted runs, most recent first
+     */
+    public List<BenchmarkRun> getHistory() {
+        return runRepository.findAllByOrderByCreatedAtDesc();
+    }
+
+    /**
+     * Live state of a registered run. Header fields are fixed at registration; status and
+     * counters are atomics, and the first terminal status set wins.
+     */
+    public static final class ActiveRun {
+        private final BenchmarkRun header;
+        private final AtomicReference<BenchmarkRunStatus> status;
+        private final AtomicInteger totalExecutions;
+        private final AtomicInteger completedExecutions;
+        private final AtomicInteger failedExecutions;
+        private final BenchmarkProgress progress = new BenchmarkProgress();
+        private volatile LocalDateTime endTime;
+        private volatile Long id;
+        private volatile int warmupExecutions;
+        private volatile Boolean steadyStateReached;
+        private volatile Double steadyStateCv;
+
+        private ActiveRun(BenchmarkRun run) {
+            this.header = run;
+            this.status = new AtomicReference<>(run.getStatus());
+            this.totalExecutions = new AtomicInteger(run.getTotalExecutions() != null ? run.getTotalExecutions() : 0);
+            this.completedExecutions = new AtomicInteger(run.getCompletedExecutions() != null ? run.getCompletedExecutions() : 0);
+            this.failedExecutions = new AtomicInteger(run.getFailedExecutions() != null ? run.getFailedExecutions() : 0);
+            this.endTime = run.getEndTime();
+        }
+
+        public String getRunId() {
+            return header.getRunId();
+        }
+
+        public BenchmarkRunStatus getStatus() {
+            return status.get();
+        }
+
+        /**
+         * Move the run to a terminal status, unless it already reached one
+         * @return Whether this call ended the run
+         */
+        public boolean finish(BenchmarkRunStatus terminalStatus) {
+            BenchmarkRunStatus current;
+            do {
+                current = status.get();
+                if (current.isTerminal()) {
+                    return false;
+                }
+            } while (!status.compareAndSet(current, terminalStatus));
+            endTime = LocalDateTime.now();
+            return true;
+        }
+
+        public void setTotalExecutions(int total) {
+            totalExecutions.set(total);
+        }
+
+        /**
+         * Count one finished execution in the run's tallies and its live progress; O(1) and lock-free
+         * @return Number of executions finished so far
+         */
+        public int recordOutcome(AgentFrameworkType frameworkType, ExecutionStatus executionStatus, Long durationMs) {
+            if (executionStatus == ExecutionStatus.COMPLETED) {
+                completedExecutions.incrementAndGet();
+            } else if (executionStatus == ExecutionStatus.FAILED) {
+                failedExecutions.incrementAndGet();
+            }
+            return progress.record(frameworkType, executionStatus, durationMs);
+        }
+
+        public BenchmarkProgress getProgress() {
+            return progress;
+        }
+
+        /**
+         * Record the outcome of the run's warmup phase
+         */
+        public void recordWarmup(int executions, Boolean reached, Double coefficientOfVariation) {
+            this.warmupExecutions = executions;
+            this.steadyStateReached = reached;
+            this.steadyStateCv = coefficientOfVariation;
+        }
+        
+        public void setCounts(int completed, int failed) {
+            completedExecutions.set(completed);
+            failedExecutions.set(failed);
+        }
+
+        /**
+         * Copy of the run's current state, safe to serialize, notify or save
+         */
+        public BenchmarkRun snapshot() {
+            BenchmarkRun copy = new BenchmarkRun(header.getBenchmarkTask(), header.getName());
+            copy.setId(id);
+            copy.setRunId(header.getRunId());
+            copy.setDescription(header.getDescription());
+            copy.setCreatedBy(header.getCreatedBy());
+            copy.setCreatedAt(header.getCreatedAt());
+            copy.setStartTime(header.getStartTime());
+            copy.setExecutionMode(header.getExecutionMode());
+            copy.setConcurrency(header.getConcurrency());
+            copy.setStreamed(header.getStreamed());
+            copy.setSteadyStateThresholdCv(header.getSteadyStateThresholdCv());
+            copy.setWarmupExecutions(warmupExecutions);
+            copy.setSteadyStateReached(steadyStateReached);
+            copy.setSteadyStateCv(steadyStateCv);
+            copy.setStatus(status.get());
+            copy.setEndTime(endTime);
+            copy.setTotalExecutions(totalExecutions.get());
+            copy.setCompletedExecutions(completedExecutions.get());
+            copy.setFailedExecutions(failedExecutions.get());
+            return copy;
+        }
+    }
+}
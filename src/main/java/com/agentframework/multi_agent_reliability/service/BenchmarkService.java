@@ -1,5 +1,6 @@
 package com.agentframework.multi_agent_reliability.service;
 
+import com.agentframework.multi_agent_reliability.adapter.PromptTemplateRegistry;
 import com.agentframework.multi_agent_reliability.dto.BenchmarkRequest;
 import com.agentframework.multi_agent_reliability.dto.AgentExecutionRequest;
 import com.agentframework.multi_agent_reliability.dto.AgentExecutionResponse;
@@ -7,15 +8,18 @@ import com.agentframework.multi_agent_reliability.model.*;
 import com.agentframework.multi_agent_reliability.model.BenchmarkRun.BenchmarkRunStatus;
 import com.agentframework.multi_agent_reliability.repository.BenchmarkTaskRepository;
 import com.agentframework.multi_agent_reliability.repository.AgentExecutionRepository;
+import com.agentframework.multi_agent_reliability.service.BenchmarkRunRegistry.ActiveRun;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
-import org.springframework.scheduling.annotation.Async;
+import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.stereotype.Service;
 
 import java.time.LocalDateTime;
 import java.util.*;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Executor;
 import java.util.stream.Collectors;
 
 @Service
@@ -23,14 +27,26 @@ public class BenchmarkService {
     
     private static final Logger logger = LoggerFactory.getLogger(BenchmarkService.class);
     
+    /**
+     * Metadata key for the execution mode of the benchmark run an execution belongs to
+     */
+    public static final String EXECUTION_MODE_KEY = "executionMode";
+    
+    /**
+     * Metadata key flagging a warmup execution, which is stored but not measured
+     */
+    public static final String WARMUP_KEY = "warmup";
+    
+    // Successful warmup latencies the steady state criterion is evaluated over
+    private static final int STEADY_STATE_WINDOW = 5;
+    
     private final BenchmarkTaskRepository taskRepository;
     private final AgentExecutionRepository executionRepository;
     private final AgentOrchestrationService orchestrationService;
     private final MetricsCollectionService metricsService;
     private final WebSocketNotificationService notificationService;
-    
-    // In-memory storage for active benchmark runs
-    private final Map<String, BenchmarkRun> activeBenchmarkRuns = new HashMap<>();
+    private final BenchmarkRunRegistry runRegistry;
+    private final Executor benchmarkExecutor;
     
     @Autowired
     public BenchmarkService(
@@ -38,12 +54,16 @@ public class BenchmarkService {
             AgentExecutionRepository executionRepository,
             AgentOrchestrationService orchestrationService,
             MetricsCollectionService metricsService,
-            WebSocketNotificationService notificationService) {
+            WebSocketNotificationService notificationService,
+            BenchmarkRunRegistry runRegistry,
+            @Qualifier("benchmarkTaskExecutor") Executor benchmarkExecutor) {
         this.taskRepository = taskRepository;
         this.executionRepository = executionRepository;
         this.orchestrationService = orchestrationService;
         this.metricsService = metricsService;
         this.notificationService = notificationService;
+        this.runRegistry = runRegistry;
+        this.benchmarkExecutor = benchmarkExecutor;
     }
     
     /**
@@ -73,9 +93,11 @@ public class BenchmarkService {
     }
     
     /**
-     * Execute a benchmark run across multiple frameworks
+     * Execute a benchmark run across multiple frameworks.
+     * Executions are dispatched on the benchmark executor and their results are processed as they
+     * complete, whatever the order, so no thread waits for the run. The returned future completes
+     * once the run's final results are recorded.
      */
-    @Async("benchmarkTaskExecutor")
     public CompletableFuture<BenchmarkRun> executeBenchmark(BenchmarkRequest request) {
         logger.info("Starting benchmark execution: {}", request.getName());
         
@@ -87,135 +109,346 @@ public class BenchmarkService {
         
         BenchmarkTask task = taskOpt.get();
         
+        // A batch is one submission; it can't also follow another load shape
+        if (Boolean.TRUE.equals(request.getBatch()) && request.getExecutionMode() != null
+                && request.getExecutionMode() != BenchmarkExecutionMode.BATCH) {
+            throw new IllegalArgumentException("Batched benchmarks can't use execution mode " + request.getExecutionMode());
+        }
+        if (request.isBatched() && request.isStreamed()) {
+            throw new IllegalArgumentException("Batched benchmarks can't be streamed");
+        }
+        
         // Create benchmark run
         BenchmarkRun benchmarkRun = new BenchmarkRun(task, request.getName());
         benchmarkRun.setDescription(request.getDescription());
         benchmarkRun.setCreatedBy(request.getCreatedBy());
         benchmarkRun.setStatus(BenchmarkRunStatus.RUNNING);
         benchmarkRun.setStartTime(LocalDateTime.now());
+        benchmarkRun.setExecutionMode(request.resolveExecutionMode());
+        if (request.resolveConcurrency() != Integer.MAX_VALUE) {
+            benchmarkRun.setConcurrency(request.resolveConcurrency());
+        }
+        benchmarkRun.setStreamed(request.isStreamed());
+        benchmarkRun.setSteadyStateThresholdCv(request.getSteadyStateCvPercent());
         
-        // Store in active runs
-        activeBenchmarkRuns.put(benchmarkRun.getRunId(), benchmarkRun);
+        // Persist the run's header and track it as active
+        ActiveRun activeRun = runRegistry.register(benchmarkRun);
+        activeRun.getProgress().setExpected(request.getFrameworkTypes().size() * request.getIterations());
         
         // Send initial notification
-        notificationService.sendBenchmarkUpdate(benchmarkRun);
+        notificationService.sendBenchmarkUpdate(activeRun.snapshot());
         
-        try {
-            // Execute benchmark
-            CompletableFuture<BenchmarkRun> result = executeFrameworkComparison(benchmarkRun, task, request);
-            return result;
+        return CompletableFuture.supplyAsync(() -> warmUp(activeRun, task, request), benchmarkExecutor)
+                .thenCompose(warmup -> warmup)
+                .thenApplyAsync(warmedUp -> dispatchExecutions(activeRun, task, request), benchmarkExecutor)
+                .thenCompose(outcomes -> CompletableFuture.allOf(outcomes.toArray(new CompletableFuture<?>[0])))
+                // Final reconciliation and metrics read the database; keep them off the threads completing executions
+                .thenApplyAsync(done -> finishBenchmark(activeRun, request), benchmarkExecutor)
+                .whenComplete((run, error) -> {
+                    orchestrationService.releaseBenchmarkRun(activeRun.getRunId());
+                    if (error != null) {
+                        logger.error("Framework comparison failed for benchmark {}", activeRun.getRunId(), error);
+                        activeRun.finish(BenchmarkRunStatus.FAILED);
+                        notificationService.sendBenchmarkUpdate(runRegistry.close(activeRun));
+                    }
+                });
+    }
+    
+    /**
+     * Run the warmup phase before measurement: each framework's warmup iterations one after the
+     * other, all frameworks at once. Warmup executions bypass the response cache and are stored
+     * flagged, so they stay out of the run's tallies and metrics. With a steady state criterion,
+     * a framework keeps warming up until its latency is stable or the warmup cap is reached.
+     */
+    private CompletableFuture<Void> warmUp(ActiveRun benchmarkRun, BenchmarkTask task, BenchmarkRequest request) {
+        if (!request.hasWarmup()) {
+            return CompletableFuture.completedFuture(null);
+        }
+        BenchmarkExecutionMode mode = request.resolveExecutionMode();
+        Double threshold = request.getSteadyStateCvPercent();
+        logger.info("Warming up benchmark {} (up to {} iterations per framework)",
+                   benchmarkRun.getRunId(), request.resolveMaxWarmupIterations());
+        
+        List<SteadyStateDetector> detectors = new ArrayList<>();
+        List<CompletableFuture<Integer>> warmups = new ArrayList<>();
+        for (AgentFrameworkType frameworkType : request.getFrameworkTypes()) {
+            SteadyStateDetector detector = threshold != null ? new SteadyStateDetector(STEADY_STATE_WINDOW, threshold) : null;
+            if (detector != null) {
+                detectors.add(detector);
+            }
+            warmups.add(warmUp(benchmarkRun, task, request, frameworkType, mode, detector, 1));
+        }
+        
+        return CompletableFuture.allOf(warmups.toArray(new CompletableFuture<?>[0])).thenRun(() -> {
+            int executions = warmups.stream().mapToInt(CompletableFuture::join).sum();
+            Boolean reached = threshold != null ? detectors.stream().allMatch(SteadyStateDetector::isStable) : null;
+            Double worstCv = detectors.stream()
+                    .map(SteadyStateDetector::getCoefficientOfVariationPercent)
+                    .filter(Objects::nonNull)
+                    .max(Double::compare)
+                    .orElse(null);
+            benchmarkRun.recordWarmup(executions, reached, worstCv);
             
-        } catch (Exception e) {
-            logger.error("Benchmark execution failed: {}", request.getName(), e);
-            benchmarkRun.setStatus(BenchmarkRunStatus.FAILED);
-            benchmarkRun.setEndTime(LocalDateTime.now());
-            notificationService.sendBenchmarkUpdate(benchmarkRun);
-            throw new RuntimeException("Benchmark execution failed", e);
+            if (Boolean.FALSE.equals(reached)) {
+                logger.warn("Benchmark {} did not reach steady state (latency CV {}% > {}%); measuring anyway",
+                           benchmarkRun.getRunId(), worstCv, threshold);
+            }
+            logger.info("Warmup of benchmark {} finished after {} executions", benchmarkRun.getRunId(), executions);
+            notificationService.sendBenchmarkUpdate(benchmarkRun.snapshot());
+        });
+    }
+    
+    /**
+     * One framework's warmup, one execution at a time
+     * @return Number of warmup executions run
+     */
+    private CompletableFuture<Integer> warmUp(ActiveRun benchmarkRun, BenchmarkTask task, BenchmarkRequest request,
+                                              AgentFrameworkType frameworkType, BenchmarkExecutionMode mode,
+                                              SteadyStateDetector detector, int iteration) {
+        int fixedIterations = request.getWarmupIterations() != null ? request.getWarmupIterations() : 0;
+        boolean warmingUp = iteration <= fixedIterations
+                || (detector != null && !detector.isStable() && iteration <= request.resolveMaxWarmupIterations());
+        if (!warmingUp || benchmarkRun.getStatus() == BenchmarkRunStatus.CANCELLED) {
+            return CompletableFuture.completedFuture(iteration - 1);
         }
+        
+        AgentExecutionRequest execRequest = buildExecutionRequest(benchmarkRun, task, request, frameworkType, iteration, mode);
+        execRequest.setBypassCache(true);
+        execRequest.getMetadata().put(WARMUP_KEY, "true");
+        
+        CompletableFuture<AgentExecutionResponse> warmup;
+        try {
+            warmup = execute(execRequest, request);
+        } catch (RuntimeException e) {
+            // Rejected or not recorded; it still counts as a warmup iteration
+            logger.warn("Failed to start warmup execution {} of {} in benchmark {}: {}",
+                       iteration, frameworkType, benchmarkRun.getRunId(), e.getMessage());
+            warmup = CompletableFuture.failedFuture(e);
+        }
+        return warmup
+                .handle((execution, error) -> {
+                    if (detector != null && execution != null && execution.getStatus() == ExecutionStatus.COMPLETED
+                            && execution.getExecutionDurationMs() != null) {
+                        detector.record(execution.getExecutionDurationMs());
+                    }
+                    notificationService.sendProgressUpdate(benchmarkRun.getRunId(), "BENCHMARK_WARMUP",
+                                                         iteration, request.resolveMaxWarmupIterations(),
+                                                         "Warmup execution " + iteration + " of " + frameworkType);
+                    return null;
+                })
+                .thenComposeAsync(done -> warmUp(benchmarkRun, task, request, frameworkType, mode, detector, iteration + 1),
+                                  benchmarkExecutor);
     }
     
     /**
-     * Execute comparison across multiple frameworks
+     * Dispatch every iteration of every framework in the request's execution mode, attaching
+     * result processing to each execution
+     * @return One future per planned execution, completed once its result was processed, or once
+     *         it was skipped because the run was cancelled; never failed
      */
-    private CompletableFuture<BenchmarkRun> executeFrameworkComparison(
-            BenchmarkRun benchmarkRun, BenchmarkTask task, BenchmarkRequest request) {
+    private List<CompletableFuture<Void>> dispatchExecutions(ActiveRun benchmarkRun, BenchmarkTask task,
+                                                             BenchmarkRequest request) {
+        BenchmarkExecutionMode mode = request.resolveExecutionMode();
+        int concurrency = request.resolveConcurrency();
+        logger.info("Executing framework comparison for benchmark: {} ({} mode)", benchmarkRun.getRunId(), mode);
+        // Warmup is not part of the measurement; elapsed time and ETA start with the measured executions
+        benchmarkRun.getProgress().startClock();
         
-        return CompletableFuture.supplyAsync(() -> {
-            try {
-                logger.info("Executing framework comparison for benchmark: {}", benchmarkRun.getRunId());
-                
-                List<CompletableFuture<AgentExecutionResponse>> allFutures = new ArrayList<>();
-                
-                // Create execution requests for each framework and iteration
-                for (AgentFrameworkType frameworkType : request.getFrameworkTypes()) {
-                    for (int iteration = 1; iteration <= request.getIterations(); iteration++) {
-                        
-                        AgentExecutionRequest execRequest = new AgentExecutionRequest();
-                        execRequest.setFrameworkType(frameworkType);
-                        execRequest.setTaskDescription(task.getDescription());
-                        execRequest.setTaskInput(task.getTaskInput());
-                        execRequest.setExpectedOutput(task.getExpectedOutput());
-                        execRequest.setTimeoutMs(request.getTimeoutMs());
-                        execRequest.setMaxRetries(request.getMaxRetries());
-                        execRequest.setBenchmarkRunId(benchmarkRun.getRunId());
-                        
-                        // Add iteration metadata
-                        Map<String, String> metadata = new HashMap<>();
-                        if (request.getMetadata() != null) {
-                            metadata.putAll(request.getMetadata());
-                        }
-                        metadata.put("iteration", String.valueOf(iteration));
-                        metadata.put("totalIterations", String.valueOf(request.getIterations()));
-                        metadata.put("benchmarkName", request.getName());
-                        execRequest.setMetadata(metadata);
-                        
-                        // Execute asynchronously
-                        CompletableFuture<AgentExecutionResponse> future = orchestrationService.executeTaskAsync(execRequest);
-                        allFutures.add(future);
+        // Create execution requests for each framework and iteration
+        Map<AgentFrameworkType, List<AgentExecutionRequest>> requests = new LinkedHashMap<>();
+        for (AgentFrameworkType frameworkType : request.getFrameworkTypes()) {
+            List<AgentExecutionRequest> iterations = new ArrayList<>();
+            for (int iteration = 1; iteration <= request.getIterations(); iteration++) {
+                iterations.add(buildExecutionRequest(benchmarkRun, task, request, frameworkType, iteration, mode));
+            }
+            requests.put(frameworkType, iterations);
+        }
+        
+        List<CompletableFuture<Void>> outcomes = new ArrayList<>();
+        if (request.isBatched()) {
+            requests.forEach((frameworkType, batch) -> {
+                if (benchmarkRun.getStatus() != BenchmarkRunStatus.CANCELLED) {
+                    for (CompletableFuture<AgentExecutionResponse> future : orchestrationService.executeBatch(frameworkType, batch)) {
+                        outcomes.add(onResult(benchmarkRun, frameworkType, future));
                     }
                 }
-                
-                benchmarkRun.setTotalExecutions(allFutures.size());
-                
-                // Send progress update
-                notificationService.sendProgressUpdate(benchmarkRun.getRunId(), "BENCHMARK_EXECUTION", 
-                                                     0, allFutures.size(), "Starting executions");
-                
-                // Wait for all executions to complete with progress tracking
-                List<AgentExecutionResponse> completedExecutions = new ArrayList<>();
-                int completedCount = 0;
-                
-                for (CompletableFuture<AgentExecutionResponse> future : allFutures) {
-                    try {
-                        AgentExecutionResponse execution = future.get();
-                        completedExecutions.add(execution);
-                        completedCount++;
-                        
-                        // Update benchmark run statistics
-                        updateBenchmarkRunStats(benchmarkRun);
-                        
-                        // Send progress update
-                        notificationService.sendProgressUpdate(benchmarkRun.getRunId(), "BENCHMARK_EXECUTION",
-                                                             completedCount, allFutures.size(),
-                                                             "Completed execution " + completedCount);
-                        
-                        // Send benchmark update
-                        notificationService.sendBenchmarkUpdate(benchmarkRun);
-                        
-                    } catch (Exception e) {
-                        logger.error("Execution failed in benchmark {}", benchmarkRun.getRunId(), e);
-                        completedCount++;
-                    }
+            });
+        } else if (mode == BenchmarkExecutionMode.INTERLEAVED) {
+            // One lane shared by all frameworks, taking their iterations in turn
+            List<AgentExecutionRequest> roundRobin = new ArrayList<>();
+            for (int iteration = 0; iteration < request.getIterations(); iteration++) {
+                for (List<AgentExecutionRequest> iterations : requests.values()) {
+                    roundRobin.add(iterations.get(iteration));
                 }
+            }
+            outcomes.addAll(new ExecutionLane(benchmarkRun, request, roundRobin).start(concurrency));
+        } else {
+            // One lane per framework, each with its own window
+            for (List<AgentExecutionRequest> iterations : requests.values()) {
+                outcomes.addAll(new ExecutionLane(benchmarkRun, request, iterations).start(concurrency));
+            }
+        }
+        
+        benchmarkRun.setTotalExecutions(outcomes.size());
+        benchmarkRun.getProgress().setExpected(outcomes.size());
+        
+        // Send progress update
+        notificationService.sendProgressUpdate(benchmarkRun.getRunId(), "BENCHMARK_EXECUTION",
+                                             benchmarkRun.getProgress().getFinished(), outcomes.size(), "Executions dispatched");
+        return outcomes;
+    }
+    
+    private AgentExecutionRequest buildExecutionRequest(ActiveRun benchmarkRun, BenchmarkTask task, BenchmarkRequest request,
+                                                        AgentFrameworkType frameworkType, int iteration,
+                                                        BenchmarkExecutionMode mode) {
+        AgentExecutionRequest execRequest = new AgentExecutionRequest();
+        execRequest.setFrameworkType(frameworkType);
+        execRequest.setTaskDescription(task.getDescription());
+        execRequest.setTaskInput(task.getTaskInput());
+        execRequest.setExpectedOutput(task.getExpectedOutput());
+        execRequest.setTimeoutMs(request.getTimeoutMs());
+        execRequest.setMaxRetries(request.getMaxRetries());
+        execRequest.setBenchmarkRunId(benchmarkRun.getRunId());
+        
+        // Add iteration metadata
+        Map<String, String> metadata = new HashMap<>();
+        if (request.getMetadata() != null) {
+            metadata.putAll(request.getMetadata());
+        }
+        // The task's template applies unless the run selects one for all tasks
+        if (task.getPromptTemplate() != null) {
+            metadata.putIfAbsent(PromptTemplateRegistry.TEMPLATE_KEY, task.getPromptTemplate());
+        }
+        metadata.put("iteration", String.valueOf(iteration));
+        metadata.put("totalIterations", String.valueOf(request.getIterations()));
+        metadata.put("benchmarkName", request.getName());
+        metadata.put(EXECUTION_MODE_KEY, mode.name());
+        execRequest.setMetadata(metadata);
+        return execRequest;
+    }
+    
+    /**
+     * Start one measured or warmup execution, streamed if the run measures time-to-first-token
+     */
+    private CompletableFuture<AgentExecutionResponse> execute(AgentExecutionRequest execRequest, BenchmarkRequest request) {
+        return request.isStreamed()
+                ? orchestrationService.executeTaskStreamedAsync(execRequest)
+                : orchestrationService.executeTaskAsync(execRequest);
+    }
+    
+    /**
+     * A queue of executions started at most {@code window} at a time: each completion starts the
+     * next queued execution, on the benchmark executor. An execution that can't be started counts
+     * as failed and the next one takes its place. Once the run is cancelled, the executions still
+     * queued are skipped.
+     */
+    private final class ExecutionLane {
+        private final ActiveRun benchmarkRun;
+        private final BenchmarkRequest request;
+        private final Queue<PendingExecution> queue = new ConcurrentLinkedQueue<>();
+        
+        private ExecutionLane(ActiveRun benchmarkRun, BenchmarkRequest request, List<AgentExecutionRequest> requests) {
+            this.benchmarkRun = benchmarkRun;
+            this.request = request;
+            requests.forEach(execRequest -> queue.add(new PendingExecution(execRequest, new CompletableFuture<>())));
+        }
+        
+        private List<CompletableFuture<Void>> start(int window) {
+            List<CompletableFuture<Void>> outcomes = queue.stream().map(PendingExecution::outcome).collect(Collectors.toList());
+            for (int started = 0; started < window && !queue.isEmpty(); started++) {
+                startNext();
+            }
+            return outcomes;
+        }
+        
+        private void startNext() {
+            PendingExecution next;
+            while ((next = queue.poll()) != null) {
+                if (benchmarkRun.getStatus() == BenchmarkRunStatus.CANCELLED) {
+                    next.outcome().complete(null);
+                    continue;
+                }
+                PendingExecution current = next;
+                AgentFrameworkType frameworkType = current.request().getFrameworkType();
+                CompletableFuture<AgentExecutionResponse> execution;
+                try {
+                    execution = execute(current.request(), request);
+                } catch (RuntimeException e) {
+                    // Rejected by the bulkhead or not recorded; count it as failed and move on
+                    logger.error("Failed to start an execution of benchmark {}", benchmarkRun.getRunId(), e);
+                    onResult(benchmarkRun, frameworkType, CompletableFuture.failedFuture(e));
+                    current.outcome().complete(null);
+                    continue;
+                }
+                onResult(benchmarkRun, frameworkType, execution)
+                        .whenCompleteAsync((done, error) -> {
+                            current.outcome().complete(null);
+                            startNext();
+                        }, benchmarkExecutor);
+                return;
+            }
+        }
+    }
+    
+    private record PendingExecution(AgentExecutionRequest request, CompletableFuture<Void> outcome) {
+    }
+    
+    /**
+     * Process an execution's result as soon as it completes: count it, update the live progress
+     * and partial per-framework metrics, and notify. Runs on the thread completing the execution,
+     * so it does no database work.
+     */
+    private CompletableFuture<Void> onResult(ActiveRun benchmarkRun, AgentFrameworkType frameworkType,
+                                             CompletableFuture<AgentExecutionResponse> future) {
+        return future.handle((execution, error) -> {
+            try {
+                if (error != null) {
+                    logger.error("Execution failed in benchmark {}", benchmarkRun.getRunId(), error);
+                }
+                // Count the outcome from the completion itself; the tallies are reconciled at the end
+                ExecutionStatus status = execution != null ? execution.getStatus() : ExecutionStatus.FAILED;
+                int finished = benchmarkRun.recordOutcome(frameworkType, status,
+                        execution != null ? execution.getExecutionDurationMs() : null);
                 
-                // Finalize benchmark run
-                benchmarkRun.setStatus(BenchmarkRunStatus.COMPLETED);
-                benchmarkRun.setEndTime(LocalDateTime.now());
-                
-                // Calculate and save metrics for each framework
-                calculateBenchmarkMetrics(benchmarkRun, request.getFrameworkTypes());
-                
-                // Send final update
-                notificationService.sendBenchmarkUpdate(benchmarkRun);
-                
-                logger.info("Benchmark execution completed: {} ({} executions)", 
-                           benchmarkRun.getRunId(), completedExecutions.size());
-                
-                return benchmarkRun;
-                
+                BenchmarkProgress progress = benchmarkRun.getProgress();
+                Long etaMs = progress.getEtaMs();
+                notificationService.sendProgressUpdate(benchmarkRun.getRunId(), "BENCHMARK_EXECUTION",
+                                                     finished, progress.getExpected(),
+                                                     "Completed execution " + finished
+                                                             + (etaMs != null ? " (ETA " + etaMs / 1000 + "s)" : ""));
+                notificationService.sendBenchmarkProgress(benchmarkRun.getRunId(), progress.toMap());
+                notificationService.sendBenchmarkUpdate(benchmarkRun.snapshot());
             } catch (Exception e) {
-                logger.error("Framework comparison failed for benchmark {}", benchmarkRun.getRunId(), e);
-                benchmarkRun.setStatus(BenchmarkRunStatus.FAILED);
-                benchmarkRun.setEndTime(LocalDateTime.now());
-                notificationService.sendBenchmarkUpdate(benchmarkRun);
-                throw new RuntimeException("Framework comparison failed", e);
-            } finally {
-                // Remove from active runs
-                activeBenchmarkRuns.remove(benchmarkRun.getRunId());
+                logger.error("Failed to process a result of benchmark {}", benchmarkRun.getRunId(), e);
             }
+            return null;
         });
     }
     
+    /**
+     * Record the final results once every dispatched execution has been processed
+     */
+    private BenchmarkRun finishBenchmark(ActiveRun benchmarkRun, BenchmarkRequest request) {
+        reconcileBenchmarkRunStats(benchmarkRun);
+        // Executions skipped after a cancellation were never run
+        benchmarkRun.setTotalExecutions(benchmarkRun.getProgress().getFinished());
+        
+        // Finalize benchmark run, unless it was cancelled meanwhile
+        benchmarkRun.finish(BenchmarkRunStatus.COMPLETED);
+        
+        // Calculate and save metrics for each framework
+        calculateBenchmarkMetrics(benchmarkRun.getRunId(), request.getFrameworkTypes());
+        
+        // Persist the final results and send the final update
+        BenchmarkRun finished = runRegistry.close(benchmarkRun);
+        notificationService.sendBenchmarkUpdate(finished);
+        
+        logger.info("Benchmark execution completed: {} ({} executions)",
+                   benchmarkRun.getRunId(), benchmarkRun.getProgress().getFinished());
+        
+        return finished;
+    }
+    
     /**
      * Get all benchmark tasks
      */
@@ -248,28 +481,42 @@ public class BenchmarkService {
      * Get active benchmark runs
      */
     public Map<String, BenchmarkRun> getActiveBenchmarkRuns() {
-        return new HashMap<>(activeBenchmarkRuns);
+        return runRegistry.getActiveRuns();
     }
     
     /**
-     * Get benchmark run status
+     * Get benchmark run status: live progress while active, the persisted record once finished
      */
     public Optional<BenchmarkRun> getBenchmarkRunStatus(String runId) {
-        return Optional.ofNullable(activeBenchmarkRuns.get(runId));
+        return runRegistry.findRun(runId);
     }
     
     /**
-     * Cancel a running benchmark
+     * Get live progress of an active benchmark run: ETA and partial per-framework metrics
+     */
+    public Optional<Map<String, Object>> getBenchmarkRunProgress(String runId) {
+        return runRegistry.find(runId).map(run -> run.getProgress().toMap());
+    }
+    
+    /**
+     * Get all persisted benchmark runs, most recent first
+     */
+    public List<BenchmarkRun> getBenchmarkRunHistory() {
+        return runRegistry.getHistory();
+    }
+    
+    /**
+     * Cancel a running benchmark: stops dispatching its remaining iterations and
+     * cancels every queued or running execution it has already dispatched
      */
     public boolean cancelBenchmark(String runId) {
-        BenchmarkRun run = activeBenchmarkRuns.get(runId);
-        if (run != null && !run.getStatus().isTerminal()) {
-            run.setStatus(BenchmarkRunStatus.CANCELLED);
-            run.setEndTime(LocalDateTime.now());
-            notificationService.sendBenchmarkUpdate(run);
-            activeBenchmarkRuns.remove(runId);
+        Optional<ActiveRun> run = runRegistry.find(runId);
+        if (run.isPresent() && run.get().finish(BenchmarkRunStatus.CANCELLED)) {
+            int cancelledExecutions = orchestrationService.cancelBenchmarkExecutions(runId);
+            // The run's thread writes the final tallies once its dispatched executions have ended
+            notificationService.sendBenchmarkUpdate(runRegistry.persist(run.get()));
             
-            logger.info("Benchmark cancelled: {}", runId);
+            logger.info("Benchmark cancelled: {} ({} executions cancelled)", runId, cancelledExecutions);
             return true;
         }
         return false;
@@ -306,33 +553,35 @@ public class BenchmarkService {
         return false;
     }
     
-    private void updateBenchmarkRunStats(BenchmarkRun benchmarkRun) {
-        List<AgentExecution> executions = executionRepository.findByBenchmarkRunId(benchmarkRun.getRunId());
-        
-        int completed = 0;
-        int failed = 0;
-        
-        for (AgentExecution execution : executions) {
-            if (execution.getStatus() == ExecutionStatus.COMPLETED) {
-                completed++;
-            } else if (execution.getStatus() == ExecutionStatus.FAILED) {
-                failed++;
+    /**
+     * Replace the incrementally counted tallies with the recorded ones, from a single aggregate
+     * query. Terminal states are durable once their futures complete, so the two only differ
+     * when a future failed without its execution failing.
+     */
+    private void reconcileBenchmarkRunStats(ActiveRun benchmarkRun) {
+        try {
+            int completed = 0;
+            int failed = 0;
+            for (Object[] stats : executionRepository.getExecutionStatsByBenchmarkRun(benchmarkRun.getRunId())) {
+                completed += stats[2] != null ? ((Number) stats[2]).intValue() : 0;
+                failed += stats[3] != null ? ((Number) stats[3]).intValue() : 0;
             }
+            benchmarkRun.setCounts(completed, failed);
+        } catch (Exception e) {
+            // Keep the incremental tallies
+            logger.error("Failed to reconcile execution stats for benchmark {}", benchmarkRun.getRunId(), e);
         }
-        
-        benchmarkRun.setCompletedExecutions(completed);
-        benchmarkRun.setFailedExecutions(failed);
     }
     
-    private void calculateBenchmarkMetrics(BenchmarkRun benchmarkRun, List<AgentFrameworkType> frameworks) {
-        logger.info("Calculating metrics for benchmark: {}", benchmarkRun.getRunId());
+    private void calculateBenchmarkMetrics(String runId, List<AgentFrameworkType> frameworks) {
+        logger.info("Calculating metrics for benchmark: {}", runId);
         
         for (AgentFrameworkType framework : frameworks) {
             try {
-                metricsService.calculateFrameworkMetrics(benchmarkRun.getRunId(), framework);
+                metricsService.calculateFrameworkMetrics(runId, framework);
             } catch (Exception e) {
                 logger.error("Failed to calculate metrics for framework {} in benchmark {}", 
-                           framework, benchmarkRun.getRunId(), e);
+                           framework, runId, e);
             }
         }
     }
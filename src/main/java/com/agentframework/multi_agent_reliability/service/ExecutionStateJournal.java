@@ -0,0 +1,372 @@
+package com.agentframework.multi_agent_reliability.service;
+
+import com.agentframework.multi_agent_reliability.model.AgentExecution;
+import com.agentframework.multi_agent_reliability.model.ExecutionStatus;
+import com.agentframework.multi_agent_reliability.repository.AgentExecutionRepository;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.Timestamp;
+import java.sql.Types;
+import java.time.LocalDateTime;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Write-behind journal for AgentExecution state transitions.
+ * Transitions are buffered in memory and coalesced per execution, then written in JDBC
+ * batches on a short interval or once the buffer reaches the batch size. Terminal
+ * transitions are flushed (together with everything else pending) before record() returns,
+ * so a completed, failed, timed out or cancelled status is normally never held only in memory.
+ * If that write fails, the transition stays buffered and is retried by the periodic flush;
+ * record() never throws for it, so persistence errors can't stall the execution itself.
+ * Values are truncated to their column limits. A failed batch is retried one row at a time, and
+ * a row the database rejects is dropped, so it can't hold back every other transition.
+ */
+@Service
+public class ExecutionStateJournal {
+
+    private static final Logger logger = LoggerFactory.getLogger(ExecutionStateJournal.class);
+
+    private static final String UPDATE_STATE_SQL =
+            "UPDATE agent_executions SET status = ?, task_output = ?, start_time = ?, end_time = ?, " +
+            "execution_duration_ms = ?, error_message = ?, updated_at = ?, " +
+            "time_to_first_token_ms = ?, inter_token_latency_ms = ?, stream_chunk_count = ?, " +
+            "prompt_tokens = ?, completion_tokens = ?, total_tokens = ? WHERE id = ?";
+    private static final String DELETE_METADATA_SQL =
+            "DELETE FROM execution_metadata WHERE execution_id = ?";
+    private static final String INSERT_METADATA_SQL =
+            "INSERT INTO execution_metadata (execution_id, metadata_key, metadata_value) VALUES (?, ?, ?)";
+
+    private final AgentExecutionRepository executionRepository;
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final long flushIntervalMs;
+    private final int batchSize;
+
+    private final Map<Long, PendingTransition> pending = new ConcurrentHashMap<>();
+    private final ReentrantLock flushLock = new ReentrantLock();
+    private final AtomicBoolean flushScheduled = new AtomicBoolean();
+    private final AtomicLong recordedTransitions = new AtomicLong();
+    private final AtomicLong writtenTransitions = new AtomicLong();
+    private final AtomicLong flushedBatches = new AtomicLong();
+    private final AtomicLong failedFlushes = new AtomicLong();
+    private final AtomicLong droppedTransitions = new AtomicLong();
+
+    private ScheduledExecutorService flusher;
+
+    @Autowired
+    public ExecutionStateJournal(
+            AgentExecutionRepository executionRepository,
+            JdbcTemplate jdbcTemplate,
+            TransactionTemplate transactionTemplate,
+            @Value("${app.agent.journal.flush-interval-ms:250}") long flushIntervalMs,
+            @Value("${app.agent.journal.batch-size:100}") int batchSize) {
+        this.executionRepository = executionRepository;
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = transactionTemplate;
+        this.flushIntervalMs = flushIntervalMs;
+        this.batchSize = batchSize;
+    }
+
+    @PostConstruct
+    public void start() {
+        flusher = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "ExecJournal-");
+            thread.setDaemon(true);
+            return thread;
+        });
+        flusher.scheduleWithFixedDelay(this::flushQuietly, flushIntervalMs, flushIntervalMs, TimeUnit.MILLISECONDS);
+    }
+
+    @PreDestroy
+    public void stop() {
+        if (flusher != null) {
+            flusher.shutdown();
+        }
+        flushQuietly();
+        if (!pending.isEmpty()) {
+            logger.warn("Execution journal stopped with {} unwritten transitions", pending.size());
+        }
+    }
+
+    /**
+     * Insert a new execution record. The generated ID is needed for every later transition,
+     * so creation is always written synchronously.
+     */
+    public AgentExecution create(AgentExecution execution) {
+        // The record gets its own truncated copy; the request's metadata is left as it is
+        execution.setMetadata(truncateValues(execution.getMetadata()));
+        return executionRepository.save(execution);
+    }
+
+    /**
+     * Record the current state of an execution. Non-terminal states are written behind;
+     * terminal states are durable when this method returns, unless the write failed, in which
+     * case they stay buffered for the next flush.
+     */
+    public void record(AgentExecution execution) {
+        if (execution.getId() == null) {
+            throw new IllegalArgumentException("Execution must be created before recording transitions");
+        }
+
+        PendingTransition transition = new PendingTransition(execution);
+        pending.put(execution.getId(), transition);
+        recordedTransitions.incrementAndGet();
+
+        if (transition.status.isTerminal()) {
+            flushUntilWritten(transition);
+        } else if (pending.size() >= batchSize && flushScheduled.compareAndSet(false, true)) {
+            flusher.execute(() -> {
+                flushScheduled.set(false);
+                flushQuietly();
+            });
+        }
+    }
+
+    /**
+     * Latest in-memory state of an execution whose transitions have not been written yet
+     */
+    public Optional<AgentExecution> findPending(Long executionId) {
+        PendingTransition transition = pending.get(executionId);
+        return transition != null ? Optional.of(transition.execution) : Optional.empty();
+    }
+
+    /**
+     * Find an execution, preferring unwritten in-memory state over the database copy
+     */
+    public Optional<AgentExecution> find(Long executionId) {
+        Optional<AgentExecution> inMemory = findPending(executionId);
+        return inMemory.isPresent() ? inMemory : executionRepository.findById(executionId);
+    }
+
+    /**
+     * Get journal statistics for monitoring
+     */
+    public Map<String, Object> getStatistics() {
+        Map<String, Object> stats = new HashMap<>();
+        long recorded = recordedTransitions.get();
+        long written = writtenTransitions.get();
+        stats.put("pending", pending.size());
+        stats.put("recordedTransitions", recorded);
+        stats.put("writtenTransitions", written);
+        stats.put("coalescedTransitions", Math.max(0, recorded - written - pending.size()));
+        stats.put("flushedBatches", flushedBatches.get());
+        stats.put("failedFlushes", failedFlushes.get());
+        stats.put("droppedTransitions", droppedTransitions.get());
+        stats.put("batchSize", batchSize);
+        stats.put("flushIntervalMs", flushIntervalMs);
+        return stats;
+    }
+
+    private void flushUntilWritten(PendingTransition transition) {
+        flushLock.lock();
+        try {
+            // Another caller may have written this transition as part of its batch while we waited
+            if (pending.get(transition.executionId) == transition) {
+                flushQuietly();
+            }
+        } finally {
+            flushLock.unlock();
+        }
+    }
+
+    private void flushQuietly() {
+        try {
+            flush();
+        } catch (Exception e) {
+            // Transitions stay buffered and are retried on the next flush
+            logger.error("Failed to flush execution journal ({} pending transitions)", pending.size(), e);
+        }
+    }
+
+    private void flush() {
+        flushLock.lock();
+        try {
+            if (pending.isEmpty()) {
+                return;
+            }
+
+            List<PendingTransition> batch = new ArrayList<>(pending.values());
+            List<PendingTransition> written;
+            try {
+                write(batch);
+                written = batch;
+            } catch (RuntimeException e) {
+                failedFlushes.incrementAndGet();
+                written = writeEach(batch, e);
+            }
+
+            // Only drop transitions that were not superseded while the batch was being written
+            for (PendingTransition transition : written) {
+                pending.remove(transition.executionId, transition);
+            }
+
+            writtenTransitions.addAndGet(written.size());
+            flushedBatches.incrementAndGet();
+            logger.debug("Flushed {} execution transitions", written.size());
+
+        } finally {
+            flushLock.unlock();
+        }
+    }
+
+    private void write(List<PendingTransition> batch) {
+        List<PendingTransition> withMetadata = batch.stream()
+                .filter(t -> t.metadata != null)
+                .toList();
+
+        transactionTemplate.executeWithoutResult(status -> {
+            writeStates(batch);
+            writeMetadata(withMetadata);
+        });
+    }
+
+    /**
+     * Write a failed batch one transition at a time. A transition the database rejects is dropped,
+     * since it would fail on every retry. If the first write fails for any other reason, the database
+     * is likely unavailable, so the batch failure is rethrown and everything stays buffered.
+     * @return The transitions written
+     */
+    private List<PendingTransition> writeEach(List<PendingTransition> batch, RuntimeException batchFailure) {
+        List<PendingTransition> written = new ArrayList<>();
+        for (PendingTransition transition : batch) {
+            try {
+                write(List.of(transition));
+                written.add(transition);
+            } catch (DataIntegrityViolationException e) {
+                if (pending.remove(transition.executionId, transition)) {
+                    droppedTransitions.incrementAndGet();
+                }
+                logger.error("Dropped {} transition of execution {}: the database rejected it",
+                        transition.status, transition.executionId, e);
+            } catch (RuntimeException e) {
+                if (written.isEmpty()) {
+                    throw batchFailure;
+                }
+                logger.warn("Failed to write transition of execution {}; it stays buffered", transition.executionId, e);
+            }
+        }
+        return written;
+    }
+
+    private void writeStates(List<PendingTransition> batch) {
+        jdbcTemplate.batchUpdate(UPDATE_STATE_SQL, batch, batch.size(), (ps, t) -> {
+            ps.setString(1, t.status.name());
+            ps.setString(2, t.taskOutput);
+            setTimestamp(ps, 3, t.startTime);
+            setTimestamp(ps, 4, t.endTime);
+            if (t.executionDurationMs != null) {
+                ps.setLong(5, t.executionDurationMs);
+            } else {
+                ps.setNull(5, Types.BIGINT);
+            }
+            ps.setString(6, t.errorMessage);
+            setTimestamp(ps, 7, t.updatedAt);
+            ps.setObject(8, t.timeToFirstTokenMs, Types.BIGINT);
+            ps.setObject(9, t.interTokenLatencyMs, Types.DOUBLE);
+            ps.setObject(10, t.streamChunkCount, Types.INTEGER);
+            ps.setObject(11, t.promptTokens, Types.INTEGER);
+            ps.setObject(12, t.completionTokens, Types.INTEGER);
+            ps.setObject(13, t.totalTokens, Types.INTEGER);
+            ps.setLong(14, t.executionId);
+        });
+    }
+
+    private void writeMetadata(List<PendingTransition> batch) {
+        if (batch.isEmpty()) {
+            return;
+        }
+
+        List<Object[]> deletes = new ArrayList<>(batch.size());
+        List<Object[]> inserts = new ArrayList<>();
+        for (PendingTransition t : batch) {
+            deletes.add(new Object[]{t.executionId});
+            for (Map.Entry<String, String> entry : t.metadata.entrySet()) {
+                inserts.add(new Object[]{t.executionId, entry.getKey(), entry.getValue()});
+            }
+        }
+
+        jdbcTemplate.batchUpdate(DELETE_METADATA_SQL, deletes);
+        if (!inserts.isEmpty()) {
+            jdbcTemplate.batchUpdate(INSERT_METADATA_SQL, inserts);
+        }
+    }
+
+    private static Map<String, String> truncateValues(Map<String, String> metadata) {
+        if (metadata == null) {
+            return null;
+        }
+        Map<String, String> truncated = new HashMap<>(metadata);
+        truncated.replaceAll((key, value) -> truncate(value, AgentExecution.MAX_METADATA_VALUE_LENGTH));
+        return truncated;
+    }
+
+    private static String truncate(String value, int maxLength) {
+        return value != null && value.length() > maxLength ? value.substring(0, maxLength) : value;
+    }
+
+    private static void setTimestamp(java.sql.PreparedStatement ps, int index, LocalDateTime value) throws java.sql.SQLException {
+        if (value != null) {
+            ps.setTimestamp(index, Timestamp.valueOf(value));
+        } else {
+            ps.setNull(index, Types.TIMESTAMP);
+        }
+    }
+
+    /**
+     * Immutable snapshot of an execution's state at the time it was recorded.
+     * Metadata is only rewritten with terminal transitions, when adapters have finished adding to it.
+     */
+    private static final class PendingTransition {
+        private final AgentExecution execution;
+        private final Long executionId;
+        private final ExecutionStatus status;
+        private final String taskOutput;
+        private final LocalDateTime startTime;
+        private final LocalDateTime endTime;
+        private final Long executionDurationMs;
+        private final String errorMessage;
+        private final LocalDateTime updatedAt;
+        private final Long timeToFirstTokenMs;
+        private final Double interTokenLatencyMs;
+        private final Integer streamChunkCount;
+        private final Integer promptTokens;
+        private final Integer completionTokens;
+        private final Integer totalTokens;
+        private final Map<String, String> metadata;
+
+        private PendingTransition(AgentExecution execution) {
+            this.execution = execution;
+            this.executionId = execution.getId();
+            this.status = execution.getStatus();
+            this.taskOutput = execution.getTaskOutput();
+            this.startTime = execution.getStartTime();
+            this.endTime = execution.getEndTime();
+            this.executionDurationMs = execution.getExecutionDurationMs();
+            this.errorMessage = truncate(execution.getErrorMessage(), AgentExecution.MAX_ERROR_MESSAGE_LENGTH);
+            this.updatedAt = execution.getUpdatedAt();
+            this.timeToFirstTokenMs = execution.getTimeToFirstTokenMs();
+            this.interTokenLatencyMs = execution.getInterTokenLatencyMs();
+            this.streamChunkCount = execution.getStreamChunkCount();
+            this.promptTokens = execution.getPromptTokens();
+            this.completionTokens = execution.getCompletionTokens();
+            this.totalTokens = execution.getTotalTokens();
+            this.metadata = status.isTerminal() ? truncateValues(execution.getMetadata()) : null;
+        }
+    }
+}
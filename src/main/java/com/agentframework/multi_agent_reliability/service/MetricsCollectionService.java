@@ -1,8 +1,16 @@
 package com.agentframework.multi_agent_reliability.service;
 
+import com.agentframework.multi_agent_reliability.adapter.BatchTask;
 import com.agentframework.multi_agent_reliability.dto.MetricsResponse;
+import com.agentframework.multi_agent_reliability.execution.ExecutionBulkheads;
+import com.agentframework.multi_agent_reliability.execution.FrameworkBulkhead;
+import com.agentframework.multi_agent_reliability.execution.FrameworkCircuitBreaker;
+import com.agentframework.multi_agent_reliability.execution.HedgingPolicy;
+import com.agentframework.multi_agent_reliability.execution.ResponseCache;
+import com.agentframework.multi_agent_reliability.execution.RetryPolicy;
 import com.agentframework.multi_agent_reliability.model.AgentExecution;
 import com.agentframework.multi_agent_reliability.model.AgentFrameworkType;
+import com.agentframework.multi_agent_reliability.model.BenchmarkExecutionMode;
 import com.agentframework.multi_agent_reliability.model.ExecutionStatus;
 import com.agentframework.multi_agent_reliability.model.ReliabilityMetrics;
 import com.agentframework.multi_agent_reliability.repository.AgentExecutionRepository;
@@ -27,15 +35,21 @@ public class MetricsCollectionService {
     private final AgentExecutionRepository executionRepository;
     private final ReliabilityMetricsRepository metricsRepository;
     private final WebSocketNotificationService notificationService;
+    private final ExecutionBulkheads bulkheads;
+    private final HedgingPolicy hedgingPolicy;
     
     @Autowired
     public MetricsCollectionService(
             AgentExecutionRepository executionRepository,
             ReliabilityMetricsRepository metricsRepository,
-            WebSocketNotificationService notificationService) {
+            WebSocketNotificationService notificationService,
+            ExecutionBulkheads bulkheads,
+            HedgingPolicy hedgingPolicy) {
         this.executionRepository = executionRepository;
         this.metricsRepository = metricsRepository;
         this.notificationService = notificationService;
+        this.bulkheads = bulkheads;
+        this.hedgingPolicy = hedgingPolicy;
     }
     
     /**
@@ -50,6 +64,11 @@ public class MetricsCollectionService {
                 // Get all executions for this framework in the benchmark run
                 List<AgentExecution> executions = executionRepository.findExecutionsForReliabilityAnalysis(benchmarkRunId, frameworkType);
                 
+                // Responses served from the cache say nothing about the framework
+                executions = executions.stream()
+                        .filter(e -> e.getMetadata() == null || !"true".equals(e.getMetadata().get(ResponseCache.CACHED_KEY)))
+                        .collect(Collectors.toList());
+                
                 if (executions.isEmpty()) {
                     logger.warn("No executions found for framework {} in benchmark run {}", frameworkType, benchmarkRunId);
                     return null;
@@ -60,9 +79,13 @@ public class MetricsCollectionService {
                         .findByBenchmarkRunIdAndFrameworkType(benchmarkRunId, frameworkType)
                         .orElse(new ReliabilityMetrics(benchmarkRunId, frameworkType));
                 
+                // Record the load shape, so only metrics measured under the same one are compared
+                metrics.setExecutionMode(executionMode(executions));
+                
                 // Calculate all metrics
                 calculateBasicMetrics(metrics, executions);
                 calculatePerformanceMetrics(metrics, executions);
+                calculateTokenMetrics(metrics, executions);
                 calculateAdvancedMetrics(metrics, executions);
                 calculateQualityMetrics(metrics, executions);
                 calculateResourceMetrics(metrics, executions);
@@ -117,10 +140,20 @@ public class MetricsCollectionService {
     }
     
     /**
-     * Get metrics comparison across all frameworks
+     * Get metrics comparison across all frameworks, one entry per framework and execution mode
      */
     public List<MetricsResponse> getFrameworkComparison() {
-        List<Object[]> comparisonData = metricsRepository.getFrameworkComparisonMetrics();
+        return toComparison(metricsRepository.getFrameworkComparisonMetrics());
+    }
+    
+    /**
+     * Get metrics comparison across all frameworks for runs of one execution mode
+     */
+    public List<MetricsResponse> getFrameworkComparison(BenchmarkExecutionMode executionMode) {
+        return toComparison(metricsRepository.getFrameworkComparisonMetricsByExecutionMode(executionMode));
+    }
+    
+    private List<MetricsResponse> toComparison(List<Object[]> comparisonData) {
         List<MetricsResponse> comparison = new ArrayList<>();
         
         for (Object[] data : comparisonData) {
@@ -130,6 +163,7 @@ public class MetricsCollectionService {
             response.setAverageResponseTimeMs((Double) data[2]);
             response.setConsistencyScore((Double) data[3]);
             response.setRobustnessIndex((Double) data[4]);
+            response.setExecutionMode((BenchmarkExecutionMode) data[5]);
             response.setCalculatedAt(LocalDateTime.now());
             
             comparison.add(response);
@@ -228,26 +262,135 @@ public class MetricsCollectionService {
     }
     
     /**
-     * Calculate basic metrics (success rate, counts, etc.)
+     * Get token totals and throughput per framework, and over all frameworks, for a benchmark run
+     */
+    public Map<String, Object> getBenchmarkRunTokenUsage(String benchmarkRunId) {
+        Map<String, Object> usage = new LinkedHashMap<>();
+        long runPromptTokens = 0;
+        long runCompletionTokens = 0;
+        long runTotalTokens = 0;
+        LocalDateTime runStart = null;
+        LocalDateTime runEnd = null;
+        
+        for (Object[] data : executionRepository.getTokenUsageByBenchmarkRun(benchmarkRunId)) {
+            long promptTokens = data[2] != null ? ((Number) data[2]).longValue() : 0;
+            long completionTokens = data[3] != null ? ((Number) data[3]).longValue() : 0;
+            long totalTokens = data[4] != null ? ((Number) data[4]).longValue() : 0;
+            LocalDateTime start = (LocalDateTime) data[5];
+            LocalDateTime end = (LocalDateTime) data[6];
+            
+            Map<String, Object> framework = tokenSummary(promptTokens, completionTokens, totalTokens, start, end);
+            framework.put("executions", data[1]);
+            usage.put(((AgentFrameworkType) data[0]).name(), framework);
+            
+            runPromptTokens += promptTokens;
+            runCompletionTokens += completionTokens;
+            runTotalTokens += totalTokens;
+            runStart = start != null && (runStart == null || start.isBefore(runStart)) ? start : runStart;
+            runEnd = end != null && (runEnd == null || end.isAfter(runEnd)) ? end : runEnd;
+        }
+        
+        usage.put("total", tokenSummary(runPromptTokens, runCompletionTokens, runTotalTokens, runStart, runEnd));
+        return usage;
+    }
+    
+    private static Map<String, Object> tokenSummary(long promptTokens, long completionTokens, long totalTokens,
+                                                    LocalDateTime start, LocalDateTime end) {
+        Map<String, Object> summary = new LinkedHashMap<>();
+        summary.put("promptTokens", promptTokens);
+        summary.put("completionTokens", completionTokens);
+        summary.put("totalTokens", totalTokens);
+        summary.put("promptCompletionRatio", completionTokens > 0 ? (double) promptTokens / completionTokens : null);
+        summary.put("tokensPerSecond", tokensPerSecond(totalTokens, start, end));
+        return summary;
+    }
+    
+    private static Double tokensPerSecond(long tokens, LocalDateTime start, LocalDateTime end) {
+        if (start == null || end == null) {
+            return null;
+        }
+        long spanMs = java.time.Duration.between(start, end).toMillis();
+        return spanMs > 0 ? tokens * 1000.0 / spanMs : null;
+    }
+    
+    /**
+     * Get live bulkhead state per framework (running, queue depth, rejections)
+     */
+    public Map<AgentFrameworkType, Map<String, Object>> getBulkheadMetrics() {
+        return bulkheads.getStatistics();
+    }
+    
+    /**
+     * Get hedge counts, wins and hedge delay per framework
+     */
+    public Map<AgentFrameworkType, Map<String, Object>> getHedgingMetrics() {
+        return hedgingPolicy.getStatistics();
+    }
+    
+    /**
+     * Execution mode the executions ran under, as the benchmark recorded it; null for runs without one
+     */
+    private BenchmarkExecutionMode executionMode(List<AgentExecution> executions) {
+        for (AgentExecution execution : executions) {
+            String mode = execution.getMetadata() != null ? execution.getMetadata().get(BenchmarkService.EXECUTION_MODE_KEY) : null;
+            if (mode != null) {
+                try {
+                    return BenchmarkExecutionMode.valueOf(mode);
+                } catch (IllegalArgumentException e) {
+                    logger.warn("Unknown execution mode {} on execution {}", mode, execution.getId());
+                }
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Whether an execution's duration is a call latency. Batched executions are left out: their
+     * duration includes the time the batch spent queued at the provider.
+     */
+    private boolean hasMeasuredLatency(AgentExecution execution) {
+        return execution.getStatus() == ExecutionStatus.COMPLETED
+                && execution.getExecutionDurationMs() != null
+                && (execution.getMetadata() == null || !"true".equals(execution.getMetadata().get(BatchTask.BATCHED_KEY)));
+    }
+    
+    /**
+     * Calculate basic metrics (success rate, counts, etc.).
+     * Rejected executions never reached the provider, so they are counted on their own and are
+     * not part of totalExecutions: successful + failed + timeouts always add up to the total the
+     * rates are computed over.
      */
     private void calculateBasicMetrics(ReliabilityMetrics metrics, List<AgentExecution> executions) {
-        int total = executions.size();
         int successful = 0;
         int failed = 0;
         int timeouts = 0;
+        int circuitBreakerRejections = 0;
+        int bulkheadRejections = 0;
         
         for (AgentExecution execution : executions) {
+            Map<String, String> metadata = execution.getMetadata() != null ? execution.getMetadata() : Map.of();
             switch (execution.getStatus()) {
                 case COMPLETED -> successful++;
-                case FAILED -> failed++;
+                case FAILED -> {
+                    if ("true".equals(metadata.get(FrameworkCircuitBreaker.REJECTED_KEY))) {
+                        circuitBreakerRejections++;
+                    } else if ("true".equals(metadata.get(FrameworkBulkhead.REJECTED_KEY))) {
+                        bulkheadRejections++;
+                    } else {
+                        failed++;
+                    }
+                }
                 case TIMEOUT -> timeouts++;
             }
         }
         
+        int total = successful + failed + timeouts;
         metrics.setTotalExecutions(total);
         metrics.setSuccessfulExecutions(successful);
         metrics.setFailedExecutions(failed);
         metrics.setTimeoutExecutions(timeouts);
+        metrics.setCircuitBreakerRejections(circuitBreakerRejections);
+        metrics.setBulkheadRejections(bulkheadRejections);
         
         if (total > 0) {
             metrics.setSuccessRate((double) successful / total * 100.0);
@@ -263,7 +406,7 @@ public class MetricsCollectionService {
      */
     private void calculatePerformanceMetrics(ReliabilityMetrics metrics, List<AgentExecution> executions) {
         List<Long> responseTimes = executions.stream()
-                .filter(e -> e.getExecutionDurationMs() != null && e.getStatus() == ExecutionStatus.COMPLETED)
+                .filter(this::hasMeasuredLatency)
                 .map(AgentExecution::getExecutionDurationMs)
                 .collect(Collectors.toList());
         
@@ -276,6 +419,70 @@ public class MetricsCollectionService {
             metrics.setMinResponseTimeMs((long) stats.getMin());
             metrics.setMaxResponseTimeMs((long) stats.getMax());
         }
+        
+        // Streaming latency, from streamed executions only
+        DescriptiveStatistics ttft = new DescriptiveStatistics();
+        DescriptiveStatistics interToken = new DescriptiveStatistics();
+        for (AgentExecution execution : executions) {
+            if (execution.getStatus() != ExecutionStatus.COMPLETED) {
+                continue;
+            }
+            if (execution.getTimeToFirstTokenMs() != null) {
+                ttft.addValue(execution.getTimeToFirstTokenMs());
+            }
+            if (execution.getInterTokenLatencyMs() != null) {
+                interToken.addValue(execution.getInterTokenLatencyMs());
+            }
+        }
+        
+        if (ttft.getN() > 0) {
+            metrics.setAverageTimeToFirstTokenMs(ttft.getMean());
+            metrics.setP95TimeToFirstTokenMs(ttft.getPercentile(95));
+        }
+        if (interToken.getN() > 0) {
+            metrics.setAverageInterTokenLatencyMs(interToken.getMean());
+        }
+    }
+    
+    /**
+     * Calculate token totals and throughput from the executions' recorded usage.
+     * Output tokens per second is the generation speed of single calls; throughput is all tokens
+     * over the span the executions ran in, which is what capacity is sized by.
+     */
+    private void calculateTokenMetrics(ReliabilityMetrics metrics, List<AgentExecution> executions) {
+        long promptTokens = 0;
+        long completionTokens = 0;
+        long totalTokens = 0;
+        LocalDateTime firstStart = null;
+        LocalDateTime lastEnd = null;
+        DescriptiveStatistics outputTokensPerSecond = new DescriptiveStatistics();
+        
+        for (AgentExecution execution : executions) {
+            if (execution.getTotalTokens() == null) {
+                continue;
+            }
+            promptTokens += execution.getPromptTokens() != null ? execution.getPromptTokens() : 0;
+            completionTokens += execution.getCompletionTokens() != null ? execution.getCompletionTokens() : 0;
+            totalTokens += execution.getTotalTokens();
+            
+            if (execution.getStartTime() != null && (firstStart == null || execution.getStartTime().isBefore(firstStart))) {
+                firstStart = execution.getStartTime();
+            }
+            if (execution.getEndTime() != null && (lastEnd == null || execution.getEndTime().isAfter(lastEnd))) {
+                lastEnd = execution.getEndTime();
+            }
+            if (hasMeasuredLatency(execution) && execution.getCompletionTokens() != null
+                    && execution.getExecutionDurationMs() > 0) {
+                outputTokensPerSecond.addValue(execution.getCompletionTokens() * 1000.0 / execution.getExecutionDurationMs());
+            }
+        }
+        
+        metrics.setTotalPromptTokens(promptTokens);
+        metrics.setTotalCompletionTokens(completionTokens);
+        metrics.setTotalTokens(totalTokens);
+        metrics.setPromptCompletionRatio(completionTokens > 0 ? (double) promptTokens / completionTokens : null);
+        metrics.setAverageOutputTokensPerSecond(outputTokensPerSecond.getN() > 0 ? outputTokensPerSecond.getMean() : null);
+        metrics.setThroughputTokensPerSecond(tokensPerSecond(totalTokens, firstStart, lastEnd));
     }
     
     /**
@@ -284,7 +491,7 @@ public class MetricsCollectionService {
     private void calculateAdvancedMetrics(ReliabilityMetrics metrics, List<AgentExecution> executions) {
         // Calculate consistency score based on response time variance
         List<Long> responseTimes = executions.stream()
-                .filter(e -> e.getExecutionDurationMs() != null && e.getStatus() == ExecutionStatus.COMPLETED)
+                .filter(this::hasMeasuredLatency)
                 .map(AgentExecution::getExecutionDurationMs)
                 .collect(Collectors.toList());
         
@@ -305,7 +512,7 @@ public class MetricsCollectionService {
         
         // Calculate robustness index based on error handling and recovery
         long retriedExecutions = executions.stream()
-                .mapToLong(e -> e.getMetadata() != null && e.getMetadata().containsKey("retryCount") ? 1 : 0)
+                .mapToLong(e -> e.getMetadata() != null && e.getMetadata().containsKey(RetryPolicy.RETRY_COUNT_KEY) ? 1 : 0)
                 .sum();
         
         double retryRate = executions.size() > 0 ? (double) retriedExecutions / executions.size() * 100 : 0;
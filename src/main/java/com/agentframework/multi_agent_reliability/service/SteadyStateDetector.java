@@ -0,0 +1,57 @@
+package com.agentframework.multi_agent_reliability.service;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+
+/**
+ * Decides when a framework's latency has settled during a benchmark warmup. Keeps the latencies
+ * of the last {@code window} successful warmup executions; latency is stable once the window is
+ * full and its coefficient of variation (standard deviation over mean) is within the threshold.
+ */
+public class SteadyStateDetector {
+
+    private final int window;
+    private final double maxCoefficientOfVariationPercent;
+    private final Deque<Long> latencies = new ArrayDeque<>();
+
+    public SteadyStateDetector(int window, double maxCoefficientOfVariationPercent) {
+        if (window < 2) {
+            throw new IllegalArgumentException("Steady state window must be at least 2");
+        }
+        this.window = window;
+        this.maxCoefficientOfVariationPercent = maxCoefficientOfVariationPercent;
+    }
+
+    public synchronized void record(long latencyMs) {
+        latencies.addLast(latencyMs);
+        if (latencies.size() > window) {
+            latencies.removeFirst();
+        }
+    }
+
+    public synchronized boolean isStable() {
+        Double cv = getCoefficientOfVariationPercent();
+        return latencies.size() == window && cv != null && cv <= maxCoefficientOfVariationPercent;
+    }
+
+    /**
+     * Coefficient of variation of the latencies in the window, in percent, or null with fewer than two
+     */
+    public synchronized Double getCoefficientOfVariationPercent() {
+        if (latencies.size() < 2) {
+            return null;
+        }
+        double mean = latencies.stream().mapToLong(Long::longValue).average().orElse(0.0);
+        if (mean <= 0) {
+            return 0.0;
+        }
+        double variance = latencies.stream()
+                .mapToDouble(latency -> (latency - mean) * (latency - mean))
+                .sum() / (latencies.size() - 1);
+        return Math.sqrt(variance) / mean * 100.0;
+    }
+
+    public double getMaxCoefficientOfVariationPercent() {
+        return maxCoefficientOfVariationPercent;
+    }
+}
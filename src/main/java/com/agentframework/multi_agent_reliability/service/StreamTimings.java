@@ -0,0 +1,56 @@
+package com.agentframework.multi_agent_reliability.service;
+
+import com.agentframework.multi_agent_reliability.model.AgentExecution;
+
+/**
+ * Time-to-first-token and inter-token latency of one streamed execution.
+ * Chunks of one stream arrive one at a time, so only visibility across threads is needed.
+ */
+public class StreamTimings {
+
+    private volatile long startNanos;
+    private volatile long firstChunkNanos;
+    private volatile long lastChunkNanos;
+    private volatile int chunkCount;
+
+    /**
+     * Start timing, just before the request is sent
+     */
+    public void start() {
+        startNanos = System.nanoTime();
+    }
+
+    /**
+     * Record a received chunk
+     * @return The chunk's index
+     */
+    public int onChunk() {
+        long now = System.nanoTime();
+        if (chunkCount == 0) {
+            firstChunkNanos = now;
+        }
+        lastChunkNanos = now;
+        return chunkCount++;
+    }
+
+    public int getChunkCount() {
+        return chunkCount;
+    }
+
+    public long getElapsedMs() {
+        return (System.nanoTime() - startNanos) / 1_000_000;
+    }
+
+    /**
+     * Record the chunk count, time-to-first-token and mean inter-token latency on the execution
+     */
+    public void applyTo(AgentExecution execution) {
+        execution.setStreamChunkCount(chunkCount);
+        if (chunkCount > 0) {
+            execution.setTimeToFirstTokenMs((firstChunkNanos - startNanos) / 1_000_000);
+        }
+        if (chunkCount > 1) {
+            execution.setInterTokenLatencyMs((lastChunkNanos - firstChunkNanos) / 1_000_000.0 / (chunkCount - 1));
+        }
+    }
+}
@@ -1,4 +1,5 @@
 package com.agentframework.multi_agent_reliability.service;
+import com.agentframework.multi_agent_reliability.dto.AgentExecutionChunk;
 import com.agentframework.multi_agent_reliability.model.AgentExecution;
 import com.agentframework.multi_agent_reliability.model.BenchmarkRun;
 import com.agentframework.multi_agent_reliability.model.ReliabilityMetrics;
@@ -23,6 +24,7 @@ public class WebSocketNotificationService {
     
     // WebSocket topic constants
     private static final String EXECUTION_UPDATES = "/topic/executions";
+    private static final String EXECUTION_DELTAS = "/topic/executions/%d/deltas";
     private static final String BENCHMARK_UPDATES = "/topic/benchmarks";
     private static final String METRICS_UPDATES = "/topic/metrics";
     private static final String SYSTEM_UPDATES = "/topic/system";
@@ -63,6 +65,17 @@ public class WebSocketNotificationService {
         }
     }
     
+    /**
+     * Send a streamed completion chunk of an execution to its own delta topic
+     */
+    public void sendExecutionDelta(AgentExecutionChunk chunk) {
+        try {
+            messagingTemplate.convertAndSend(String.format(EXECUTION_DELTAS, chunk.getExecutionId()), chunk);
+        } catch (Exception e) {
+            logger.error("Failed to send execution delta for execution {}", chunk.getExecutionId(), e);
+        }
+    }
+    
     /**
      * Send benchmark run status update
      */
@@ -95,6 +108,23 @@ public class WebSocketNotificationService {
         }
     }
     
+    /**
+     * Send live progress of a benchmark run: ETA and partial per-framework metrics
+     */
+    public void sendBenchmarkProgress(String benchmarkRunId, Map<String, Object> progress) {
+        try {
+            Map<String, Object> update = new HashMap<>(progress);
+            update.put("type", "BENCHMARK_PROGRESS");
+            update.put("timestamp", LocalDateTime.now());
+            update.put("benchmarkRunId", benchmarkRunId);
+            
+            messagingTemplate.convertAndSend(BENCHMARK_UPDATES, update);
+            
+        } catch (Exception e) {
+            logger.error("Failed to send benchmark progress for run {}", benchmarkRunId, e);
+        }
+    }
+    
     /**
      * Send metrics calculation update
      */
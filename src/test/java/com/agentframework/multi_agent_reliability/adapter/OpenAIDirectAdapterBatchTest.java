@@ -0,0 +1,185 @@
+package com.agentframework.multi_agent_reliability.adapter;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.env.MockEnvironment;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.web.reactive.function.client.WebClient;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Batch submission of OpenAIDirectAdapter against a local stand-in for the OpenAI Files and Batch APIs
+ */
+class OpenAIDirectAdapterBatchTest {
+
+    private static final ObjectMapper MAPPER = new ObjectMapper();
+
+    private HttpServer server;
+    private OpenAIDirectAdapter adapter;
+
+    private final AtomicInteger uploads = new AtomicInteger();
+    private final AtomicInteger batchPolls = new AtomicInteger();
+    private final AtomicInteger chatCompletions = new AtomicInteger();
+    private final List<JsonNode> submittedLines = new ArrayList<>();
+
+    @BeforeEach
+    void setUp() throws IOException {
+        server = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+        server.createContext("/v1/files", this::files);
+        server.createContext("/v1/batches", this::batches);
+        server.createContext("/v1/chat/completions", exchange -> {
+            chatCompletions.incrementAndGet();
+            exchange.getRequestBody().readAllBytes();
+            respond(exchange, 200, completion("single answer"));
+        });
+        server.start();
+
+        String baseUrl = "http://127.0.0.1:" + server.getAddress().getPort() + "/v1";
+        adapter = new OpenAIDirectAdapter(WebClient.create(baseUrl), baseUrl, true, 20, 10_000,
+                new PromptTemplateRegistry(new MockEnvironment(), "standard"));
+        ReflectionTestUtils.setField(adapter, "apiKey", "test-key");
+    }
+
+    @AfterEach
+    void tearDown() {
+        server.stop(0);
+    }
+
+    private void files(HttpExchange exchange) throws IOException {
+        String path = exchange.getRequestURI().getPath();
+        if ("POST".equals(exchange.getRequestMethod())) {
+            uploads.incrementAndGet();
+            // The JSONL lines are the only lines of the multipart body that are JSON objects
+            String body = new String(exchange.getRequestBody().readAllBytes(), StandardCharsets.UTF_8);
+            for (String line : body.split("\r?\n")) {
+                if (line.startsWith("{")) {
+                    synchronized (submittedLines) {
+                        submittedLines.add(MAPPER.readTree(line));
+                    }
+                }
+            }
+            respond(exchange, 200, "{\"id\":\"file-input\",\"purpose\":\"batch\"}");
+        } else if (path.equals("/v1/files/file-output/content")) {
+            respond(exchange, 200, outputFile());
+        } else if (path.equals("/v1/files/file-errors/content")) {
+            respond(exchange, 200, errorFile());
+        } else {
+            respond(exchange, 404, "{}");
+        }
+    }
+
+    private void batches(HttpExchange exchange) throws IOException {
+        exchange.getRequestBody().readAllBytes();
+        if ("POST".equals(exchange.getRequestMethod())) {
+            respond(exchange, 200, "{\"id\":\"batch-1\",\"status\":\"validating\"}");
+            return;
+        }
+        // Report the batch as in progress for the first polls
+        if (batchPolls.incrementAndGet() < 3) {
+            respond(exchange, 200, "{\"id\":\"batch-1\",\"status\":\"in_progress\"}");
+        } else {
+            respond(exchange, 200, "{\"id\":\"batch-1\",\"status\":\"completed\","
+                    + "\"output_file_id\":\"file-output\",\"error_file_id\":\"file-errors\"}");
+        }
+    }
+
+    /**
+     * Answers every submitted request except "req-2", which fails, and "req-3", which is missing
+     */
+    private String outputFile() throws IOException {
+        StringBuilder jsonl = new StringBuilder();
+        synchronized (submittedLines) {
+            for (JsonNode line : submittedLines) {
+                String requestId = line.path("custom_id").asText();
+                if (requestId.equals("req-2") || requestId.equals("req-3")) {
+                    continue;
+                }
+                String prompt = line.path("body").path("messages").path(0).path("content").asText();
+                String input = prompt.substring(prompt.indexOf("Input: ") + 7, prompt.indexOf("\n", prompt.indexOf("Input: ")));
+                jsonl.append("{\"custom_id\":\"").append(requestId).append("\",\"response\":{\"status_code\":200,\"body\":")
+                        .append(completion("answer to " + input))
+                        .append("},\"error\":null}\n");
+            }
+        }
+        return jsonl.toString();
+    }
+
+    private String errorFile() {
+        return "{\"custom_id\":\"req-2\",\"response\":{\"status_code\":400,\"body\":{\"error\":{\"message\":\"bad prompt\"}}},\"error\":null}\n";
+    }
+
+    private static String completion(String content) throws IOException {
+        return MAPPER.writeValueAsString(Map.of(
+                "choices", List.of(Map.of("message", Map.of("role", "assistant", "content", content))),
+                "usage", Map.of("prompt_tokens", 10, "completion_tokens", 2, "total_tokens", 12)));
+    }
+
+    private static void respond(HttpExchange exchange, int status, String body) throws IOException {
+        byte[] bytes = body.getBytes(StandardCharsets.UTF_8);
+        exchange.getResponseHeaders().add("Content-Type", "application/json");
+        exchange.sendResponseHeaders(status, bytes.length);
+        try (OutputStream out = exchange.getResponseBody()) {
+            out.write(bytes);
+        }
+    }
+
+    private static BatchTask task(int i) {
+        return new BatchTask("req-" + i, "input-" + i, "Summarize", new HashMap<>(Map.of("model", "gpt-4o-mini")));
+    }
+
+    @Test
+    void packsTasksIntoOneSubmissionAndKeysResultsByRequestId() throws Exception {
+        List<BatchTask> tasks = List.of(task(1), task(2), task(3), task(4),
+                new BatchTask("req-5", "", "Summarize", new HashMap<>()));
+
+        Map<String, BatchResult> results = adapter.executeBatch(tasks).get(10, TimeUnit.SECONDS);
+
+        // One upload holding every valid task, polled until the batch completed
+        assertEquals(1, uploads.get());
+        assertEquals(4, submittedLines.size());
+        assertEquals("/v1/chat/completions", submittedLines.get(0).path("url").asText());
+        assertEquals("gpt-4o-mini", submittedLines.get(0).path("body").path("model").asText());
+        assertTrue(batchPolls.get() >= 3);
+        assertEquals(0, chatCompletions.get());
+
+        assertEquals(5, results.size());
+        assertTrue(results.get("req-1").isSuccess());
+        assertEquals("answer to input-1", results.get("req-1").getResult());
+        assertEquals("answer to input-4", results.get("req-4").getResult());
+        assertEquals("12", tasks.get(0).getMetadata().get("totalTokens"));
+
+        assertFalse(results.get("req-2").isSuccess());
+        assertEquals("bad prompt", results.get("req-2").getErrorMessage());
+        assertFalse(results.get("req-3").isSuccess());
+        assertTrue(results.get("req-3").getErrorMessage().contains("batch-1"));
+        assertFalse(results.get("req-5").isSuccess());
+    }
+
+    @Test
+    void singleTaskFallsBackToFanOut() throws Exception {
+        Map<String, BatchResult> results = adapter.executeBatch(List.of(task(1))).get(10, TimeUnit.SECONDS);
+
+        assertEquals(0, uploads.get());
+        assertEquals(1, chatCompletions.get());
+        assertEquals("single answer", results.get("req-1").getResult());
+    }
+}
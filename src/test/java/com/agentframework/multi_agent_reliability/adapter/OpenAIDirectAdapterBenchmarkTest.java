@@ -0,0 +1,172 @@
+package com.agentframework.multi_agent_reliability.adapter;
+
+import com.agentframework.multi_agent_reliability.config.HttpClientConfig;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.http.HttpEntity;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.mock.env.MockEnvironment;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.web.client.RestTemplate;
+import reactor.netty.resources.ConnectionProvider;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+/**
+ * Throughput and p99 latency of direct API calls against a local OpenAI-compatible stand-in,
+ * comparing the former bare RestTemplate with the pooled WebClient.
+ * Run with {@code mvn test -Dtest=OpenAIDirectAdapterBenchmarkTest -Dbenchmark=true}.
+ */
+class OpenAIDirectAdapterBenchmarkTest {
+
+    private static final Logger logger = LoggerFactory.getLogger(OpenAIDirectAdapterBenchmarkTest.class);
+
+    private static final int REQUESTS = 4000;
+    private static final int CONCURRENCY = 64;
+    private static final long SERVER_LATENCY_MS = 20;
+    private static final String RESPONSE = """
+            {"id":"chatcmpl-1","object":"chat.completion","choices":[{"index":0,
+            "message":{"role":"assistant","content":"stand-in answer"},"finish_reason":"stop"}],
+            "usage":{"prompt_tokens":12,"completion_tokens":3,"total_tokens":15}}""";
+
+    private HttpServer server;
+    private ExecutorService serverExecutor;
+    private ExecutorService clients;
+    private String baseUrl;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        assumeTrue(Boolean.getBoolean("benchmark"), "Benchmarks run only with -Dbenchmark=true");
+
+        serverExecutor = Executors.newFixedThreadPool(CONCURRENCY * 2);
+        server = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 1024);
+        server.createContext("/v1/chat/completions", this::respond);
+        server.setExecutor(serverExecutor);
+        server.start();
+        baseUrl = "http://127.0.0.1:" + server.getAddress().getPort() + "/v1";
+
+        clients = Executors.newFixedThreadPool(CONCURRENCY);
+    }
+
+    @AfterEach
+    void tearDown() {
+        if (server != null) {
+            server.stop(0);
+            serverExecutor.shutdownNow();
+            clients.shutdownNow();
+        }
+    }
+
+    private void respond(HttpExchange exchange) throws IOException {
+        exchange.getRequestBody().readAllBytes();
+        try {
+            Thread.sleep(SERVER_LATENCY_MS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        byte[] body = RESPONSE.getBytes(StandardCharsets.UTF_8);
+        exchange.getResponseHeaders().add("Content-Type", "application/json");
+        exchange.sendResponseHeaders(200, body.length);
+        try (OutputStream out = exchange.getResponseBody()) {
+            out.write(body);
+        }
+    }
+
+    @Test
+    void pooledClientBeatsBareRestTemplate() throws Exception {
+        // Before: a bare RestTemplate, as the adapter used to construct
+        RestTemplate restTemplate = new RestTemplate();
+        HttpHeaders headers = new HttpHeaders();
+        headers.setContentType(MediaType.APPLICATION_JSON);
+        headers.setBearerAuth("test-key");
+        String requestJson = "{\"model\":\"gpt-3.5-turbo\",\"messages\":[{\"role\":\"user\",\"content\":\"Hello\"}]}";
+        Result before = run("bare RestTemplate", () ->
+                restTemplate.postForEntity(baseUrl + "/chat/completions", new HttpEntity<>(requestJson, headers), String.class).getBody());
+
+        // After: the adapter on the shared pooled client
+        HttpClientConfig config = new HttpClientConfig();
+        ConnectionProvider provider = config.llmConnectionProvider(CONCURRENCY, 1000, 10000, 30000, 300000, 10000);
+        try {
+            OpenAIDirectAdapter adapter = new OpenAIDirectAdapter(
+                    config.openAIWebClient(provider, baseUrl, 5000, 10000, true, 16 * 1024 * 1024), baseUrl,
+                    false, 10000, 60000, new PromptTemplateRegistry(new MockEnvironment(), "standard"));
+            ReflectionTestUtils.setField(adapter, "apiKey", "test-key");
+            Result after = run("pooled WebClient", () ->
+                    adapter.executeTask("Hello", "Benchmark", new HashMap<>()));
+
+            logger.info(String.format("%-18s %10s %10s %10s", "client", "req/s", "p50 ms", "p99 ms"));
+            logger.info("{}", before);
+            logger.info("{}", after);
+
+            assertEquals(0, before.errors);
+            assertEquals(0, after.errors);
+        } finally {
+            provider.dispose();
+        }
+    }
+
+    private Result run(String name, Callable<String> call) throws Exception {
+        // Warm up connections and JIT before measuring
+        for (int i = 0; i < CONCURRENCY; i++) {
+            call.call();
+        }
+
+        long[] latenciesNanos = new long[REQUESTS];
+        AtomicInteger next = new AtomicInteger();
+        AtomicInteger errors = new AtomicInteger();
+        Future<?>[] workers = new Future<?>[CONCURRENCY];
+
+        long start = System.nanoTime();
+        for (int w = 0; w < CONCURRENCY; w++) {
+            workers[w] = clients.submit(() -> {
+                int i;
+                while ((i = next.getAndIncrement()) < REQUESTS) {
+                    long callStart = System.nanoTime();
+                    try {
+                        call.call();
+                    } catch (Exception e) {
+                        errors.incrementAndGet();
+                    }
+                    latenciesNanos[i] = System.nanoTime() - callStart;
+                }
+            });
+        }
+        for (Future<?> worker : workers) {
+            worker.get();
+        }
+        long elapsedNanos = System.nanoTime() - start;
+
+        Arrays.sort(latenciesNanos);
+        return new Result(name,
+                REQUESTS / (elapsedNanos / 1e9),
+                latenciesNanos[REQUESTS / 2] / 1e6,
+                latenciesNanos[(int) Math.ceil(REQUESTS * 0.99) - 1] / 1e6,
+                errors.get());
+    }
+
+    private record Result(String name, double throughput, double p50Ms, double p99Ms, int errors) {
+        @Override
+        public String toString() {
+            return String.format("%-18s %10.1f %10.1f %10.1f", name, throughput, p50Ms, p99Ms);
+        }
+    }
+}
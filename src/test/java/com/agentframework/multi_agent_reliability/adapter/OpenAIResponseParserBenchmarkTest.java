@@ -0,0 +1,175 @@
+package com.agentframework.multi_agent_reliability.adapter;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.Test;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.openjdk.jmh.runner.options.TimeValue;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+/**
+ * Time and bytes allocated per response of the streaming response parser against the former
+ * String + JsonNode tree parsing, on chat completion responses of 1 KB, 16 KB and 128 KB.
+ * Run with {@code mvn test -Dtest=OpenAIResponseParserBenchmarkTest -Dbenchmark=true};
+ * allocation is reported as {@code gc.alloc.rate.norm} (bytes per operation).
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class OpenAIResponseParserBenchmarkTest {
+
+    private static final ObjectMapper MAPPER = new ObjectMapper();
+
+    @Param({"1024", "16384", "131072"})
+    public int responseBytes;
+
+    private byte[] response;
+
+    @Setup
+    public void setUp() throws IOException {
+        response = completionResponse(responseBytes);
+    }
+
+    /**
+     * Before: the body decoded to a String, read into a tree and walked
+     */
+    @Benchmark
+    public String treeModel() throws IOException {
+        JsonNode responseJson = MAPPER.readTree(new String(response, StandardCharsets.UTF_8));
+        Map<String, String> metadata = new HashMap<>();
+        JsonNode usage = responseJson.get("usage");
+        metadata.put("promptTokens", String.valueOf(usage.get("prompt_tokens").asInt()));
+        metadata.put("completionTokens", String.valueOf(usage.get("completion_tokens").asInt()));
+        metadata.put("totalTokens", String.valueOf(usage.get("total_tokens").asInt()));
+        return responseJson.get("choices").get(0).get("message").get("content").asText();
+    }
+
+    /**
+     * After: only the needed fields read from the byte stream
+     */
+    @Benchmark
+    public String streamingParser() throws IOException {
+        OpenAIResponseParser.ParsedResponse parsed = OpenAIResponseParser.parse(new ByteArrayInputStream(response));
+        parsed.copyUsageTo(new HashMap<>());
+        return parsed.getContent();
+    }
+
+    @Test
+    void streamingParserMatchesTreeModel() throws IOException {
+        for (int size : new int[]{1024, 16384, 131072}) {
+            responseBytes = size;
+            setUp();
+            assertEquals(treeModel(), streamingParser());
+
+            Map<String, String> metadata = new HashMap<>();
+            OpenAIResponseParser.parse(new ByteArrayInputStream(response)).copyUsageTo(metadata);
+            assertEquals("42", metadata.get("promptTokens"));
+            assertEquals(String.valueOf(size / 4), metadata.get("completionTokens"));
+        }
+    }
+
+    @Test
+    void readsStreamChunks() throws IOException {
+        OpenAIResponseParser.ParsedResponse delta = OpenAIResponseParser.parse("""
+                {"id":"chatcmpl-1","object":"chat.completion.chunk","choices":[{"index":0,
+                "delta":{"content":"Hel"},"logprobs":null,"finish_reason":null}],"usage":null}""");
+        assertEquals("Hel", delta.getContent());
+        assertFalse(delta.hasUsage());
+
+        OpenAIResponseParser.ParsedResponse usage = OpenAIResponseParser.parse("""
+                {"id":"chatcmpl-1","object":"chat.completion.chunk","choices":[],
+                "usage":{"prompt_tokens":5,"completion_tokens":7,"total_tokens":12}}""");
+        Map<String, String> metadata = new HashMap<>();
+        usage.copyUsageTo(metadata);
+        assertNull(usage.getContent());
+        assertFalse(usage.hasChoice());
+        assertEquals("12", metadata.get("totalTokens"));
+    }
+
+    @Test
+    void compareAllocationAndTime() throws Exception {
+        assumeTrue(Boolean.getBoolean("benchmark"), "Benchmarks run only with -Dbenchmark=true");
+
+        Options options = new OptionsBuilder()
+                .include(OpenAIResponseParserBenchmarkTest.class.getName() + "\\.(treeModel|streamingParser)$")
+                .addProfiler(GCProfiler.class)
+                .warmupIterations(3)
+                .warmupTime(TimeValue.seconds(1))
+                .measurementIterations(5)
+                .measurementTime(TimeValue.seconds(1))
+                .forks(1)
+                .build();
+        new Runner(options).run();
+    }
+
+    /**
+     * A chat completion response shaped like a recorded gpt-4o-mini response, padded with
+     * multi-line, escaped answer text to the given size
+     */
+    private static byte[] completionResponse(int sizeBytes) throws IOException {
+        String paragraph = "The \"reliability\" score weighs completion rate, latency and cost.\n"
+                + "Retries are counted separately:\tthey hide transient failures, not systemic ones.\n";
+        StringBuilder content = new StringBuilder();
+        byte[] body;
+        do {
+            content.append(paragraph);
+            body = MAPPER.writeValueAsBytes(completion(content.toString(), sizeBytes / 4));
+        } while (body.length < sizeBytes);
+        return body;
+    }
+
+    private static Map<String, Object> completion(String content, int completionTokens) {
+        Map<String, Object> message = new LinkedHashMap<>();
+        message.put("role", "assistant");
+        message.put("content", content);
+        message.put("refusal", null);
+        message.put("annotations", List.of());
+
+        Map<String, Object> choice = new LinkedHashMap<>();
+        choice.put("index", 0);
+        choice.put("message", message);
+        choice.put("logprobs", null);
+        choice.put("finish_reason", "stop");
+
+        Map<String, Object> response = new LinkedHashMap<>();
+        response.put("id", "chatcmpl-BQ4f2hYk0vP1c9xJ3n8WqLmR7tZsA");
+        response.put("object", "chat.completion");
+        response.put("created", 1745600000);
+        response.put("model", "gpt-4o-mini-2024-07-18");
+        response.put("choices", List.of(choice));
+        response.put("usage", Map.of(
+                "prompt_tokens", 42,
+                "completion_tokens", completionTokens,
+                "total_tokens", 42 + completionTokens,
+                "prompt_tokens_details", Map.of("cached_tokens", 0, "audio_tokens", 0),
+                "completion_tokens_details", Map.of("reasoning_tokens", 0, "audio_tokens", 0,
+                        "accepted_prediction_tokens", 0, "rejected_prediction_tokens", 0)));
+        response.put("service_tier", "default");
+        response.put("system_fingerprint", "fp_0392822090");
+        return response;
+    }
+}
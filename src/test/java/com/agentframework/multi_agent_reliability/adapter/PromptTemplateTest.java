@@ -0,0 +1,48 @@
+package com.agentframework.multi_agent_reliability.adapter;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.env.MockEnvironment;
+
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class PromptTemplateTest {
+
+    @Test
+    void standardTemplateRendersOptionalSections() {
+        RenderedPrompt plain = PromptTemplateRegistry.STANDARD.render("2+2", "Add", Map.of());
+        assertEquals("Task: Add\n\nInput: 2+2\n\nPlease provide a clear and helpful response.", plain.getText());
+
+        RenderedPrompt formatted = PromptTemplateRegistry.STANDARD.render("2+2", "Add",
+                Map.of("systemPrompt", "Be terse", "outputFormat", "a number", "instructions", " "));
+        assertEquals("System Instructions: Be terse\n\nTask: Add\n\nInput: 2+2\n\nPlease format your response as: a number",
+                formatted.getText());
+        assertNotEquals(plain.getHash(), formatted.getHash());
+    }
+
+    @Test
+    void registrySelectsTemplateByMetadata() {
+        MockEnvironment environment = new MockEnvironment()
+                .withProperty("app.agent.prompt.template.qa", "Q: {{taskInput}}{{#model}} ({{model}}){{/model}}");
+        PromptTemplateRegistry registry = new PromptTemplateRegistry(environment, "minimal");
+
+        assertEquals("Task: Add\n\nInput: 2+2", registry.render("2+2", "Add", Map.of()).getText());
+
+        RenderedPrompt qa = registry.render("2+2", "Add", Map.of(PromptTemplateRegistry.TEMPLATE_KEY, "qa", "model", "m1"));
+        assertEquals("Q: 2+2 (m1)", qa.getText());
+        assertEquals("qa", qa.getTemplateName());
+
+        assertThrows(IllegalArgumentException.class,
+                () -> registry.render("2+2", "Add", Map.of(PromptTemplateRegistry.TEMPLATE_KEY, "missing")));
+    }
+
+    @Test
+    void rejectsUnbalancedSections() {
+        assertThrows(IllegalArgumentException.class, () -> PromptTemplate.compile("bad", "{{#a}}text"));
+        assertThrows(IllegalArgumentException.class, () -> PromptTemplate.compile("bad", "{{#a}}text{{/b}}"));
+        assertThrows(IllegalArgumentException.class, () -> PromptTemplate.compile("bad", "text {{a"));
+    }
+}
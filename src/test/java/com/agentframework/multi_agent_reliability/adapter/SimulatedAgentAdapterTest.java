@@ -0,0 +1,107 @@
+package com.agentframework.multi_agent_reliability.adapter;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.web.reactive.function.client.WebClientResponseException;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class SimulatedAgentAdapterTest {
+
+    private static final RenderedPrompt PROMPT = PromptTemplateRegistry.STANDARD.render("text", "summarize", Map.of());
+
+    @Test
+    void sameSeedAndPromptGiveTheSameOutputAndTokenCounts() throws Exception {
+        SimulatedAgentAdapter adapter = adapter(42, 0.0, 0.0, 0);
+        Map<String, String> first = new HashMap<>();
+        String output = execute(adapter, PROMPT, first);
+
+        // The call sequence moves on, but the output only depends on the seed and the prompt
+        Map<String, String> again = new HashMap<>();
+        assertEquals(output, execute(adapter, PROMPT, again));
+        assertEquals(first.get(TokenUsage.COMPLETION_TOKENS_KEY), again.get(TokenUsage.COMPLETION_TOKENS_KEY));
+
+        Map<String, String> replayed = new HashMap<>();
+        assertEquals(output, execute(adapter(42, 0.0, 0.0, 0), PROMPT, replayed));
+        assertEquals(first.get(TokenUsage.PROMPT_TOKENS_KEY), replayed.get(TokenUsage.PROMPT_TOKENS_KEY));
+        assertEquals(first.get(TokenUsage.COMPLETION_TOKENS_KEY), replayed.get(TokenUsage.COMPLETION_TOKENS_KEY));
+        assertEquals(first.get(TokenUsage.TOTAL_TOKENS_KEY), replayed.get(TokenUsage.TOTAL_TOKENS_KEY));
+        assertEquals(String.valueOf(output.split(" ").length), first.get(TokenUsage.COMPLETION_TOKENS_KEY));
+
+        assertNotEquals(output, execute(adapter(7, 0.0, 0.0, 0), PROMPT, new HashMap<>()));
+        assertNotEquals(output, execute(adapter, PromptTemplateRegistry.STANDARD.render("text", "translate", Map.of()),
+                new HashMap<>()));
+    }
+
+    @Test
+    void failsAtTheConfiguredErrorRateWithServerErrors() throws Exception {
+        List<Boolean> failures = failurePattern(adapter(42, 0.25, 0.0, 0), 400);
+        long failed = failures.stream().filter(Boolean::booleanValue).count();
+        assertTrue(failed > 60 && failed < 140, failed + " of 400 calls failed");
+
+        // Failures are drawn from the seed too, so a run replays identically
+        assertEquals(failures, failurePattern(adapter(42, 0.25, 0.0, 0), 400));
+
+        ExecutionException failure = assertThrows(ExecutionException.class,
+                () -> execute(adapter(42, 1.0, 0.0, 0), PROMPT, new HashMap<>()));
+        WebClientResponseException serverError = assertInstanceOf(WebClientResponseException.class, failure.getCause());
+        assertEquals(500, serverError.getStatusCode().value());
+    }
+
+    @Test
+    void rejectsCallsDuringARateLimitBurstWithRetryAfter() {
+        // Every call starts a 2s burst; the latency is long enough to tell a quick rejection apart
+        SimulatedAgentAdapter adapter = adapter(42, 0.0, 1.0, 2000, 1000);
+
+        long start = System.nanoTime();
+        ExecutionException failure = assertThrows(ExecutionException.class,
+                () -> execute(adapter, PROMPT, new HashMap<>()));
+        long elapsedMs = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+
+        WebClientResponseException rateLimited = assertInstanceOf(WebClientResponseException.class, failure.getCause());
+        assertEquals(429, rateLimited.getStatusCode().value());
+        assertEquals("2", rateLimited.getHeaders().getFirst(HttpHeaders.RETRY_AFTER));
+        assertTrue(elapsedMs < 500, "rejected after " + elapsedMs + "ms");
+    }
+
+    private static List<Boolean> failurePattern(SimulatedAgentAdapter adapter, int calls) throws Exception {
+        List<Boolean> failures = new ArrayList<>(calls);
+        for (int i = 0; i < calls; i++) {
+            try {
+                execute(adapter, PROMPT, new HashMap<>());
+                failures.add(false);
+            } catch (ExecutionException e) {
+                WebClientResponseException serverError = assertInstanceOf(WebClientResponseException.class, e.getCause());
+                assertEquals(500, serverError.getStatusCode().value());
+                failures.add(true);
+            }
+        }
+        return failures;
+    }
+
+    private static String execute(SimulatedAgentAdapter adapter, RenderedPrompt prompt, Map<String, String> metadata)
+            throws Exception {
+        return adapter.executeTaskAsync("text", "summarize", prompt, metadata).get(5, TimeUnit.SECONDS);
+    }
+
+    private static SimulatedAgentAdapter adapter(long seed, double errorRate, double burstProbability, long burstMs) {
+        return adapter(seed, errorRate, burstProbability, burstMs, 0);
+    }
+
+    private static SimulatedAgentAdapter adapter(long seed, double errorRate, double burstProbability, long burstMs,
+                                                 long latencyMs) {
+        return new SimulatedAgentAdapter(seed, SimulatedAgentAdapter.LatencyDistribution.FIXED, latencyMs, 0, 2.0, 0.3,
+                errorRate, burstProbability, burstMs, 200, 60, 4, null);
+    }
+}
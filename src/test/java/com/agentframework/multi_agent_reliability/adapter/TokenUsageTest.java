@@ -0,0 +1,70 @@
+package com.agentframework.multi_agent_reliability.adapter;
+
+import com.agentframework.multi_agent_reliability.model.AgentExecution;
+import org.junit.jupiter.api.Test;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+class TokenUsageTest {
+
+    @Test
+    void estimateDoesNotReplaceReportedUsage() {
+        Map<String, String> metadata = new HashMap<>();
+        TokenUsage.record(metadata, 120, 30, 150);
+        TokenUsage.estimate(metadata, 4000, 4000);
+
+        assertEquals("150", metadata.get(TokenUsage.TOTAL_TOKENS_KEY));
+        assertEquals(TokenUsage.REPORTED, metadata.get(TokenUsage.SOURCE_KEY));
+    }
+
+    @Test
+    void estimatesFromLengthsWhenNothingWasReported() {
+        Map<String, String> metadata = new HashMap<>();
+        TokenUsage.estimate(metadata, 400, 201);
+
+        assertEquals("100", metadata.get(TokenUsage.PROMPT_TOKENS_KEY));
+        assertEquals("51", metadata.get(TokenUsage.COMPLETION_TOKENS_KEY));
+        assertEquals("151", metadata.get(TokenUsage.TOTAL_TOKENS_KEY));
+        assertEquals(TokenUsage.ESTIMATED, metadata.get(TokenUsage.SOURCE_KEY));
+    }
+
+    @Test
+    void copiesUsageToTheExecutionColumns() {
+        AgentExecution execution = new AgentExecution();
+        Map<String, String> metadata = new HashMap<>();
+        metadata.put(TokenUsage.PROMPT_TOKENS_KEY, "80");
+        metadata.put(TokenUsage.COMPLETION_TOKENS_KEY, "20");
+        execution.setMetadata(metadata);
+
+        TokenUsage.applyTo(execution);
+
+        assertEquals(80, execution.getPromptTokens());
+        assertEquals(20, execution.getCompletionTokens());
+        assertEquals(100, execution.getTotalTokens());
+
+        execution.setMetadata(new HashMap<>(Map.of(TokenUsage.TOTAL_TOKENS_KEY, "not a number")));
+        TokenUsage.applyTo(execution);
+        assertNull(execution.getTotalTokens());
+    }
+
+    @Test
+    void clearedUsageLeavesTheColumnsEmpty() {
+        AgentExecution execution = new AgentExecution();
+        Map<String, String> metadata = new HashMap<>();
+        TokenUsage.record(metadata, 120, 30, 150);
+        metadata.put("iteration", "1");
+
+        TokenUsage.clear(metadata);
+        execution.setMetadata(metadata);
+        TokenUsage.applyTo(execution);
+
+        assertNull(execution.getPromptTokens());
+        assertNull(execution.getTotalTokens());
+        assertNull(metadata.get(TokenUsage.SOURCE_KEY));
+        assertEquals("1", metadata.get("iteration"));
+    }
+}
@@ -0,0 +1,156 @@
+package com.agentframework.multi_agent_reliability.execution;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+class AgentExecutionEngineLoadTest {
+
+    private static final int EXECUTIONS = 5000;
+    private static final long SIMULATED_LATENCY_MS = 500;
+
+    private ThreadPoolTaskExecutor platformExecutor;
+
+    @BeforeEach
+    void setUp() {
+        // Same sizing as agentExecutionTaskExecutor
+        platformExecutor = new ThreadPoolTaskExecutor();
+        platformExecutor.setCorePoolSize(5);
+        platformExecutor.setMaxPoolSize(20);
+        platformExecutor.setQueueCapacity(100);
+        platformExecutor.initialize();
+    }
+
+    @AfterEach
+    void tearDown() {
+        platformExecutor.shutdown();
+    }
+
+    @Test
+    void platformEngineRunsUpToThePoolCapacityAndRejectsBeyondIt() throws Exception {
+        // What the engine runs on without virtual threads (JDK 17), whatever mode is requested
+        AgentExecutionEngine engine = new AgentExecutionEngine("virtual", platformExecutor);
+        int capacity = 20 + 100;
+        CompletableFuture<Boolean> release = new CompletableFuture<>();
+
+        List<CompletableFuture<String>> futures = new ArrayList<>(capacity);
+        for (int i = 0; i < capacity; i++) {
+            int execution = i;
+            futures.add(engine.submit(() -> {
+                release.get(30, TimeUnit.SECONDS);
+                Thread.sleep(50);
+                return "result-" + execution;
+            }));
+        }
+        if (engine.getMode() == AgentExecutionEngine.EngineMode.PLATFORM) {
+            // Pool and queue are full: the next call is rejected rather than run on the caller
+            assertThrows(RejectedExecutionException.class, () -> engine.submit(() -> "rejected"));
+        }
+
+        // Cancel ten calls still waiting in the queue (the first core-size calls are running)
+        List<CompletableFuture<String>> cancelled = futures.subList(50, 60);
+        cancelled.forEach(future -> future.cancel(true));
+        release.complete(true);
+
+        long start = System.nanoTime();
+        for (int i = 0; i < capacity; i++) {
+            if (i < 50 || i >= 60) {
+                assertEquals("result-" + i, futures.get(i).get(30, TimeUnit.SECONDS));
+            }
+        }
+        long elapsedMs = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+        // 110 calls of 50ms on 20 threads take about 300ms; serialized they would take 5.5s
+        assertTrue(elapsedMs < 3_000, "Executions were serialized: took " + elapsedMs + "ms");
+
+        awaitIdle(engine);
+        assertEquals((long) capacity - cancelled.size(), engine.getStatistics().get("succeeded"));
+        assertEquals((long) cancelled.size(), engine.getStatistics().get("cancelled"));
+        assertEquals(0L, engine.getStatistics().get("failed"));
+        assertEquals(engine.getMode() == AgentExecutionEngine.EngineMode.PLATFORM ? 1L : 0L,
+                engine.getStatistics().get("rejected"));
+    }
+
+    @Test
+    void virtualEngineRunsThousandsOfConcurrentExecutionsWithoutStarvation() throws Exception {
+        AgentExecutionEngine engine = new AgentExecutionEngine("virtual", platformExecutor);
+        assumeTrue(engine.getMode() == AgentExecutionEngine.EngineMode.VIRTUAL, "Virtual threads require JDK 21+");
+
+        List<CompletableFuture<String>> futures = new ArrayList<>(EXECUTIONS);
+        long start = System.nanoTime();
+
+        for (int i = 0; i < EXECUTIONS; i++) {
+            int execution = i;
+            futures.add(engine.submit(() -> {
+                // Simulated blocking LLM round trip
+                Thread.sleep(SIMULATED_LATENCY_MS);
+                return "result-" + execution;
+            }));
+        }
+
+        CompletableFuture.allOf(futures.toArray(new CompletableFuture[0])).get(30, TimeUnit.SECONDS);
+        long elapsedMs = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+
+        for (int i = 0; i < EXECUTIONS; i++) {
+            assertEquals("result-" + i, futures.get(i).join());
+        }
+
+        // A 20-thread pool would need EXECUTIONS / 20 * latency = 125s; all calls must overlap instead
+        assertTrue(elapsedMs < 10_000, "Executions were serialized: took " + elapsedMs + "ms");
+        assertTrue(engine.getPeakInFlightCount() >= EXECUTIONS / 2,
+                "Peak in-flight was only " + engine.getPeakInFlightCount());
+        assertEquals(0, platformExecutor.getActiveCount());
+
+        awaitIdle(engine);
+        assertEquals((long) EXECUTIONS, engine.getStatistics().get("succeeded"));
+        assertEquals(0L, engine.getStatistics().get("cancelled"));
+    }
+
+    @Test
+    void cancellingSubmittedCallInterruptsEngineThread() throws Exception {
+        AgentExecutionEngine engine = new AgentExecutionEngine("platform", platformExecutor);
+        CompletableFuture<Boolean> started = new CompletableFuture<>();
+        CompletableFuture<Boolean> interrupted = new CompletableFuture<>();
+
+        CompletableFuture<String> future = engine.submit(() -> {
+            started.complete(true);
+            try {
+                Thread.sleep(TimeUnit.MINUTES.toMillis(1));
+                return "unreachable";
+            } catch (InterruptedException e) {
+                interrupted.complete(true);
+                throw e;
+            }
+        });
+
+        started.get(5, TimeUnit.SECONDS);
+        future.cancel(true);
+
+        assertTrue(interrupted.get(5, TimeUnit.SECONDS));
+        assertTrue(future.isCancelled());
+        awaitIdle(engine);
+        assertEquals(1L, engine.getStatistics().get("cancelled"));
+        assertEquals(0L, engine.getStatistics().get("succeeded"));
+        assertEquals(0L, engine.getStatistics().get("failed"));
+    }
+
+    private static void awaitIdle(AgentExecutionEngine engine) throws InterruptedException {
+        // In-flight counter is released just after each future completes
+        long deadline = System.currentTimeMillis() + 1000;
+        while (engine.getInFlightCount() > 0 && System.currentTimeMillis() < deadline) {
+            Thread.sleep(10);
+        }
+        assertEquals(0, engine.getInFlightCount());
+    }
+}
@@ -0,0 +1,117 @@
+package com.agentframework.multi_agent_reliability.execution;
+
+import com.agentframework.multi_agent_reliability.model.AgentExecution;
+import com.agentframework.multi_agent_reliability.model.ExecutionStatus;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class ExecutionHandleTest {
+
+    @Test
+    void completesEvenWhenTheTerminalTransitionThrows() {
+        ExecutionHandle handle = new ExecutionHandle(new AgentExecution());
+
+        assertThrows(IllegalStateException.class, () -> handle.finish(execution -> {
+            execution.setStatus(ExecutionStatus.COMPLETED);
+            throw new IllegalStateException("database unavailable");
+        }));
+
+        assertTrue(handle.getCompletion().isDone());
+        assertEquals(ExecutionStatus.COMPLETED, handle.getCompletion().join().getStatus());
+        // The first terminal transition still wins
+        assertFalse(handle.finish(execution -> execution.setStatus(ExecutionStatus.FAILED)));
+        assertEquals(ExecutionStatus.COMPLETED, handle.getExecution().getStatus());
+    }
+
+    @Test
+    void persistsOutsideTheLockBeforeSignallingCompletion() {
+        ExecutionHandle handle = new ExecutionHandle(new AgentExecution());
+
+        assertTrue(handle.finish(execution -> execution.setStatus(ExecutionStatus.CANCELLED), execution -> {
+            assertFalse(Thread.holdsLock(handle));
+            assertFalse(handle.getCompletion().isDone());
+            // The outcome can no longer change while it is being persisted
+            assertFalse(handle.update(e -> e.setStatus(ExecutionStatus.RUNNING)));
+        }));
+
+        assertEquals(ExecutionStatus.CANCELLED, handle.getCompletion().join().getStatus());
+    }
+
+    @Test
+    void abortsTheAdapterCallEvenWhenTheEngineTaskIsTrackedAfterIt() {
+        ExecutionHandle handle = new ExecutionHandle(new AgentExecution());
+        CompletableFuture<String> call = new CompletableFuture<>();
+
+        // The engine task started the call before the future submitting it was returned
+        handle.setCurrentCall(call);
+        handle.setEngineCall(CompletableFuture.completedFuture(null));
+        handle.setQueuedCall(new CompletableFuture<>());
+
+        handle.abortCurrentCall();
+        assertTrue(call.isCancelled());
+    }
+
+    @Test
+    void abortsACallStartedAfterTheAbort() {
+        ExecutionHandle handle = new ExecutionHandle(new AgentExecution());
+        CompletableFuture<Void> engineTask = new CompletableFuture<>();
+        handle.setEngineCall(engineTask);
+
+        handle.abortCurrentCall();
+        assertTrue(engineTask.isCancelled());
+
+        CompletableFuture<String> call = new CompletableFuture<>();
+        handle.setCurrentCall(call);
+        assertTrue(call.isCancelled());
+    }
+
+    @Test
+    void anExpiredDeadlineTimesOutTheExecutionAndCancelsItsCall() throws Exception {
+        DeadlineScheduler deadlineScheduler = new DeadlineScheduler(10, 64, Runnable::run);
+        try {
+            AgentExecution running = new AgentExecution();
+            running.markAsStarted();
+            ExecutionHandle handle = new ExecutionHandle(running);
+            CompletableFuture<String> call = new CompletableFuture<>();
+            handle.setCurrentCall(call);
+
+            handle.setDeadline(deadlineScheduler.schedule(50, () -> handle.abort(
+                    execution -> execution.markAsTimedOut("Execution exceeded its timeout of 50 ms"), execution -> { })));
+
+            AgentExecution expired = handle.getCompletion().get(5, TimeUnit.SECONDS);
+            assertEquals(ExecutionStatus.TIMEOUT, expired.getStatus());
+            assertTrue(call.isCancelled());
+
+            // The call's late completion can't replace the timeout
+            assertFalse(handle.finish(execution -> execution.markAsCompleted("late result")));
+            assertEquals(ExecutionStatus.TIMEOUT, handle.getExecution().getStatus());
+            assertEquals("Execution exceeded its timeout of 50 ms", handle.getExecution().getErrorMessage());
+        } finally {
+            deadlineScheduler.stop();
+        }
+    }
+
+    @Test
+    void finishingInTimeCancelsTheDeadline() {
+        DeadlineScheduler deadlineScheduler = new DeadlineScheduler(10, 64, Runnable::run);
+        try {
+            ExecutionHandle handle = new ExecutionHandle(new AgentExecution());
+            handle.setDeadline(deadlineScheduler.schedule(60_000, () -> handle.abort(
+                    execution -> execution.markAsTimedOut("too late"), execution -> { })));
+
+            assertTrue(handle.finish(execution -> execution.markAsCompleted("done")));
+
+            assertEquals(1L, deadlineScheduler.getStatistics().get("cancelled"));
+            assertEquals(ExecutionStatus.COMPLETED, handle.getExecution().getStatus());
+        } finally {
+            deadlineScheduler.stop();
+        }
+    }
+}
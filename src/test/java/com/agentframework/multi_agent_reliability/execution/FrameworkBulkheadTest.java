@@ -0,0 +1,99 @@
+package com.agentframework.multi_agent_reliability.execution;
+
+import com.agentframework.multi_agent_reliability.model.AgentExecution;
+import com.agentframework.multi_agent_reliability.model.AgentFrameworkType;
+import com.agentframework.multi_agent_reliability.model.ExecutionStatus;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class FrameworkBulkheadTest {
+
+    @Test
+    void drainsALongQueueOfSynchronouslyCompletingCallsWithoutRecursing() {
+        int queued = 100_000;
+        FrameworkBulkhead bulkhead = new FrameworkBulkhead(AgentFrameworkType.SIMULATED, 1, queued);
+
+        CompletableFuture<String> running = new CompletableFuture<>();
+        bulkhead.submit(() -> running);
+        List<CompletableFuture<String>> results = new ArrayList<>(queued);
+        for (int i = 0; i < queued; i++) {
+            String value = "call-" + i;
+            // Like executions that already timed out while queued
+            results.add(bulkhead.submit(() -> CompletableFuture.completedFuture(value)));
+        }
+        assertEquals(queued, bulkhead.getQueueDepth());
+
+        running.complete("first");
+
+        assertTrue(results.stream().allMatch(CompletableFuture::isDone));
+        assertEquals("call-" + (queued - 1), results.get(queued - 1).join());
+        assertEquals(0, bulkhead.getQueueDepth());
+        assertEquals(0, bulkhead.getRunning());
+    }
+
+    @Test
+    void passesFailuresThroughAndRejectsBeyondTheQueue() {
+        FrameworkBulkhead bulkhead = new FrameworkBulkhead(AgentFrameworkType.SIMULATED, 1, 1);
+
+        CompletableFuture<String> running = new CompletableFuture<>();
+        bulkhead.submit(() -> running);
+        CompletableFuture<String> failing = bulkhead.submit(() -> {
+            throw new IllegalStateException("adapter unavailable");
+        });
+        assertThrows(RejectedExecutionException.class, () -> bulkhead.submit(() -> CompletableFuture.completedFuture("late")));
+
+        running.complete("first");
+
+        assertTrue(failing.isCompletedExceptionally());
+        assertEquals(0, bulkhead.getRunning());
+        assertEquals(1L, bulkhead.getStatistics().get("rejected"));
+    }
+
+    @Test
+    void cancellationRemovesAQueuedExecutionAndAbortsARunningOne() {
+        FrameworkBulkhead bulkhead = new FrameworkBulkhead(AgentFrameworkType.SIMULATED, 1, 4);
+
+        // A running execution whose call reports its interruption as a failure, as adapters do
+        ExecutionHandle running = new ExecutionHandle(new AgentExecution());
+        CompletableFuture<String> call = new CompletableFuture<>();
+        running.setQueuedCall(bulkhead.submit(() -> {
+            running.update(AgentExecution::markAsStarted);
+            running.setCurrentCall(call);
+            call.whenComplete((value, error) -> running.finish(execution -> execution.markAsFailed("interrupted")));
+            return running.getCompletion();
+        }));
+
+        ExecutionHandle queued = new ExecutionHandle(new AgentExecution());
+        AtomicBoolean queuedStarted = new AtomicBoolean();
+        queued.setQueuedCall(bulkhead.submit(() -> {
+            queuedStarted.set(true);
+            return queued.getCompletion();
+        }));
+        assertEquals(1, bulkhead.getQueueDepth());
+
+        assertTrue(queued.abort(AgentExecution::markAsCancelled, execution -> { }));
+        assertEquals(0, bulkhead.getQueueDepth());
+        assertEquals(1L, bulkhead.getStatistics().get("cancelledWhileQueued"));
+
+        assertTrue(running.abort(AgentExecution::markAsCancelled, execution -> { }));
+        assertTrue(call.isCancelled());
+        assertEquals(0, bulkhead.getRunning());
+        assertFalse(queuedStarted.get());
+
+        // Neither the interrupted call nor a second cancellation changes the outcome
+        assertEquals(ExecutionStatus.CANCELLED, running.getExecution().getStatus());
+        assertEquals(ExecutionStatus.CANCELLED, queued.getExecution().getStatus());
+        assertFalse(running.abort(execution -> execution.markAsTimedOut("too late"), execution -> { }));
+        assertEquals(ExecutionStatus.CANCELLED, running.getExecution().getStatus());
+    }
+}
@@ -0,0 +1,142 @@
+package com.agentframework.multi_agent_reliability.execution;
+
+import com.agentframework.multi_agent_reliability.model.AgentFrameworkType;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.TimeoutException;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class FrameworkCircuitBreakerTest {
+
+    private final List<FrameworkCircuitBreaker.State> transitions = new ArrayList<>();
+
+    private FrameworkCircuitBreaker breaker(long openDurationMs) {
+        return new FrameworkCircuitBreaker(AgentFrameworkType.SIMULATED, 10, 4, 50.0, 100.0, 60000, openDurationMs, 2,
+                error -> error instanceof TimeoutException,
+                (breaker, from, to, reason) -> transitions.add(to));
+    }
+
+    @Test
+    void opensOnFailureRateAndRejectsWithoutCalling() {
+        FrameworkCircuitBreaker breaker = breaker(60000);
+        succeed(breaker);
+        succeed(breaker);
+        fail(breaker);
+        assertEquals(FrameworkCircuitBreaker.State.CLOSED, breaker.getState());
+        fail(breaker);
+        assertEquals(FrameworkCircuitBreaker.State.OPEN, breaker.getState());
+
+        boolean[] called = {false};
+        CompletableFuture<String> rejected = breaker.execute(new HashMap<>(), () -> {
+            called[0] = true;
+            return CompletableFuture.completedFuture("never");
+        });
+        CompletionException error = assertThrows(CompletionException.class, rejected::join);
+        assertInstanceOf(CircuitBreakerOpenException.class, error.getCause());
+        assertFalse(called[0]);
+        assertEquals(1L, breaker.getStatistics().get("rejected"));
+    }
+
+    @Test
+    void ignoresErrorsOutsideTheFailurePredicate() {
+        FrameworkCircuitBreaker breaker = breaker(60000);
+        for (int i = 0; i < 6; i++) {
+            breaker.execute(new HashMap<>(), () -> CompletableFuture.failedFuture(new IllegalArgumentException("bad request")));
+        }
+        assertEquals(FrameworkCircuitBreaker.State.CLOSED, breaker.getState());
+        assertEquals(0, breaker.getStatistics().get("windowCalls"));
+    }
+
+    @Test
+    void closesAgainAfterSuccessfulProbes() throws InterruptedException {
+        FrameworkCircuitBreaker breaker = breaker(50);
+        for (int i = 0; i < 4; i++) {
+            fail(breaker);
+        }
+        assertEquals(FrameworkCircuitBreaker.State.OPEN, breaker.getState());
+
+        Thread.sleep(80);
+        CompletableFuture<String> probe = new CompletableFuture<>();
+        breaker.execute(new HashMap<>(), () -> probe);
+        assertEquals(FrameworkCircuitBreaker.State.HALF_OPEN, breaker.getState());
+        // Only the configured number of probes is let through
+        CompletableFuture<String> secondProbe = new CompletableFuture<>();
+        breaker.execute(new HashMap<>(), () -> secondProbe);
+        assertThrows(CompletionException.class, () -> breaker.execute(new HashMap<>(), () -> CompletableFuture.completedFuture("x")).join());
+
+        probe.complete("ok");
+        secondProbe.complete("ok");
+        assertEquals(FrameworkCircuitBreaker.State.CLOSED, breaker.getState());
+        assertEquals(List.of(FrameworkCircuitBreaker.State.OPEN, FrameworkCircuitBreaker.State.HALF_OPEN,
+                FrameworkCircuitBreaker.State.CLOSED), transitions);
+    }
+
+    @Test
+    void ignoresOutcomesOfCallsAdmittedBeforeTheLastTransition() throws InterruptedException {
+        FrameworkCircuitBreaker breaker = breaker(50);
+        CompletableFuture<String> lateSuccess = new CompletableFuture<>();
+        CompletableFuture<String> lateFailure = new CompletableFuture<>();
+        breaker.execute(new HashMap<>(), () -> lateSuccess);
+        breaker.execute(new HashMap<>(), () -> lateFailure);
+        for (int i = 0; i < 4; i++) {
+            fail(breaker);
+        }
+        assertEquals(FrameworkCircuitBreaker.State.OPEN, breaker.getState());
+
+        Thread.sleep(80);
+        CompletableFuture<String> probe = new CompletableFuture<>();
+        breaker.execute(new HashMap<>(), () -> probe);
+        assertEquals(FrameworkCircuitBreaker.State.HALF_OPEN, breaker.getState());
+
+        // Admitted while CLOSED, so it isn't one of the probes
+        lateSuccess.complete("ok");
+        CompletableFuture<String> secondProbe = new CompletableFuture<>();
+        breaker.execute(new HashMap<>(), () -> secondProbe);
+        secondProbe.complete("ok");
+        assertEquals(FrameworkCircuitBreaker.State.HALF_OPEN, breaker.getState());
+
+        probe.complete("ok");
+        assertEquals(FrameworkCircuitBreaker.State.CLOSED, breaker.getState());
+
+        // Nor does it count in the new window
+        lateFailure.completeExceptionally(new TimeoutException("provider timeout"));
+        assertEquals(0, breaker.getStatistics().get("windowCalls"));
+    }
+
+    @Test
+    void reportsWhetherItRejectsCallsWithoutTakingAProbe() throws InterruptedException {
+        FrameworkCircuitBreaker breaker = breaker(50);
+        assertFalse(breaker.isRejectingCalls());
+        for (int i = 0; i < 4; i++) {
+            fail(breaker);
+        }
+        assertTrue(breaker.isRejectingCalls());
+        assertEquals(0L, breaker.getStatistics().get("rejected"));
+
+        Thread.sleep(80);
+        assertFalse(breaker.isRejectingCalls());
+        // Both probes are still available
+        breaker.execute(new HashMap<>(), () -> new CompletableFuture<String>());
+        breaker.execute(new HashMap<>(), () -> new CompletableFuture<String>());
+        assertEquals(FrameworkCircuitBreaker.State.HALF_OPEN, breaker.getState());
+        assertEquals(0L, breaker.getStatistics().get("rejected"));
+    }
+
+    private static void succeed(FrameworkCircuitBreaker breaker) {
+        breaker.execute(new HashMap<>(), () -> CompletableFuture.completedFuture("ok")).join();
+    }
+
+    private static void fail(FrameworkCircuitBreaker breaker) {
+        breaker.execute(new HashMap<>(), () -> CompletableFuture.failedFuture(new TimeoutException("provider timeout")));
+    }
+}
@@ -0,0 +1,96 @@
+package com.agentframework.multi_agent_reliability.execution;
+
+import com.agentframework.multi_agent_reliability.model.AgentFrameworkType;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.reactive.function.client.WebClientResponseException;
+
+import java.nio.charset.StandardCharsets;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class FrameworkRateLimiterTest {
+
+    private DeadlineScheduler deadlineScheduler;
+
+    @BeforeEach
+    void setUp() {
+        deadlineScheduler = new DeadlineScheduler(10, 64, Runnable::run);
+    }
+
+    @AfterEach
+    void tearDown() {
+        deadlineScheduler.stop();
+    }
+
+    @Test
+    void delaysCallsBeyondTheTokenQuotaInsteadOfFailingThem() throws Exception {
+        // 6000 tokens per minute refill 100 tokens per second
+        FrameworkRateLimiter limiter = new FrameworkRateLimiter(AgentFrameworkType.SIMULATED, 0, 6000, 1000, deadlineScheduler);
+
+        assertEquals("first", limiter.execute(6000, new HashMap<>(), () -> CompletableFuture.completedFuture("first")).join());
+
+        Map<String, String> metadata = new HashMap<>();
+        long start = System.nanoTime();
+        String second = limiter.execute(50, metadata, () -> CompletableFuture.completedFuture("second")).get(5, TimeUnit.SECONDS);
+        long waitedMs = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+
+        assertEquals("second", second);
+        assertTrue(waitedMs >= 400, "waited " + waitedMs + "ms");
+        assertTrue(Long.parseLong(metadata.get(FrameworkRateLimiter.RATE_LIMIT_WAIT_KEY)) > 0);
+    }
+
+    @Test
+    void correctsTheEstimateFromReportedUsage() {
+        FrameworkRateLimiter limiter = new FrameworkRateLimiter(AgentFrameworkType.SIMULATED, 0, 1000, 1000, deadlineScheduler);
+
+        Map<String, String> metadata = new HashMap<>();
+        limiter.execute(800, metadata, () -> {
+            metadata.put("totalTokens", "100");
+            return CompletableFuture.completedFuture("done");
+        }).join();
+
+        long availableTokens = (Long) limiter.getStatistics().get("availableTokens");
+        assertTrue(availableTokens >= 900, "available " + availableTokens);
+        assertEquals(100L, limiter.getStatistics().get("reportedTokens"));
+    }
+
+    @Test
+    void pausesForRetryAfterAndReturnsReservationsOfCancelledCalls() {
+        FrameworkRateLimiter limiter = new FrameworkRateLimiter(AgentFrameworkType.SIMULATED, 60, 0, 1000, deadlineScheduler);
+
+        CompletableFuture<String> rejected = limiter.execute(10, new HashMap<>(),
+                () -> CompletableFuture.failedFuture(rateLimited("3")));
+        assertTrue(rejected.isCompletedExceptionally());
+        assertEquals(1L, limiter.getStatistics().get("rateLimitedResponses"));
+        assertTrue((Long) limiter.getStatistics().get("pausedForMs") > 2000);
+
+        CompletableFuture<String> waiting = limiter.execute(10, new HashMap<>(), () -> CompletableFuture.completedFuture("late"));
+        assertFalse(waiting.isDone());
+        waiting.cancel(true);
+        assertTrue(waiting.isCancelled());
+    }
+
+    @Test
+    void parsesRetryAfterHeaders() {
+        assertEquals(3000, FrameworkRateLimiter.retryAfterMs(new Exception("wrapped", rateLimited("3"))));
+        assertEquals(-1, FrameworkRateLimiter.retryAfterMs(new IllegalStateException("no response")));
+        assertTrue(FrameworkRateLimiter.isRateLimited(new Exception("wrapped", rateLimited("1"))));
+    }
+
+    private static WebClientResponseException rateLimited(String retryAfter) {
+        HttpHeaders headers = new HttpHeaders();
+        headers.set(HttpHeaders.RETRY_AFTER, retryAfter);
+        return WebClientResponseException.create(HttpStatus.TOO_MANY_REQUESTS.value(), "Too Many Requests", headers,
+                new byte[0], StandardCharsets.UTF_8);
+    }
+}
@@ -0,0 +1,159 @@
+package com.agentframework.multi_agent_reliability.execution;
+
+import com.agentframework.multi_agent_reliability.model.AgentFrameworkType;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.BooleanSupplier;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class HedgingPolicyTest {
+
+    private static final int MIN_SAMPLES = 5;
+
+    private DeadlineScheduler deadlineScheduler;
+
+    @BeforeEach
+    void setUp() {
+        deadlineScheduler = new DeadlineScheduler(10, 64, Runnable::run);
+    }
+
+    @AfterEach
+    void tearDown() {
+        deadlineScheduler.stop();
+    }
+
+    @Test
+    void hedgesACallOnceItOutlastsTheP95LatencyAndTheFirstSuccessWins() throws Exception {
+        HedgingPolicy policy = new HedgingPolicy(true, MIN_SAMPLES, 100, 0.05, 10, deadlineScheduler);
+        warmUp(policy, 100);
+
+        List<CompletableFuture<String>> calls = new CopyOnWriteArrayList<>();
+        Map<String, String> metadata = new HashMap<>();
+        CompletableFuture<String> result = policy.execute(AgentFrameworkType.SIMULATED, metadata, attemptMetadata -> {
+            CompletableFuture<String> call = new CompletableFuture<>();
+            calls.add(call);
+            return call;
+        });
+
+        Thread.sleep(40);
+        assertEquals(1, calls.size());
+        awaitTrue(() -> calls.size() == 2);
+
+        calls.get(1).complete("hedge");
+
+        assertEquals("hedge", result.get(5, TimeUnit.SECONDS));
+        assertTrue(calls.get(0).isCancelled());
+        assertEquals("true", metadata.get(HedgingPolicy.HEDGED_KEY));
+        assertEquals("true", metadata.get(HedgingPolicy.HEDGE_WON_KEY));
+        Map<String, Object> stats = policy.getStatistics().get(AgentFrameworkType.SIMULATED);
+        assertEquals(1L, stats.get("hedged"));
+        assertEquals(1L, stats.get("hedgeWins"));
+    }
+
+    @Test
+    void cancelsTheHedgeWhenThePrimaryWins() throws Exception {
+        HedgingPolicy policy = new HedgingPolicy(true, MIN_SAMPLES, 100, 0.05, 10, deadlineScheduler);
+        warmUp(policy, 0);
+
+        List<CompletableFuture<String>> calls = new CopyOnWriteArrayList<>();
+        Map<String, String> metadata = new HashMap<>();
+        CompletableFuture<String> result = policy.execute(AgentFrameworkType.SIMULATED, metadata, attemptMetadata -> {
+            CompletableFuture<String> call = new CompletableFuture<>();
+            calls.add(call);
+            return call;
+        });
+        awaitTrue(() -> calls.size() == 2);
+
+        calls.get(0).complete("primary");
+
+        assertEquals("primary", result.get(5, TimeUnit.SECONDS));
+        assertTrue(calls.get(1).isCancelled());
+        assertEquals("true", metadata.get(HedgingPolicy.HEDGED_KEY));
+        assertFalse(metadata.containsKey(HedgingPolicy.HEDGE_WON_KEY));
+        assertEquals(0L, policy.getStatistics().get(AgentFrameworkType.SIMULATED).get("hedgeWins"));
+    }
+
+    @Test
+    void doesNotCountOrChargeAHedgeStartedAfterTheRaceWasDecided() throws Exception {
+        // A single hedge token, never refilled
+        HedgingPolicy policy = new HedgingPolicy(true, MIN_SAMPLES, 100, 0.0, 1, deadlineScheduler);
+        warmUp(policy, 0);
+
+        CompletableFuture<String> primary = new CompletableFuture<>();
+        CompletableFuture<String> lateHedge = new CompletableFuture<>();
+        AtomicInteger attempts = new AtomicInteger();
+        CompletableFuture<String> result = policy.execute(AgentFrameworkType.SIMULATED, new HashMap<>(), attemptMetadata -> {
+            if (attempts.incrementAndGet() == 1) {
+                return primary;
+            }
+            // The primary answers while the hedge is being started
+            primary.complete("primary");
+            return lateHedge;
+        });
+
+        assertEquals("primary", result.get(5, TimeUnit.SECONDS));
+        awaitTrue(lateHedge::isCancelled);
+        assertEquals(0L, policy.getStatistics().get(AgentFrameworkType.SIMULATED).get("hedged"));
+
+        // The token wasn't spent, so the next slow call can still be hedged
+        List<CompletableFuture<String>> calls = new CopyOnWriteArrayList<>();
+        policy.execute(AgentFrameworkType.SIMULATED, new HashMap<>(), attemptMetadata -> {
+            CompletableFuture<String> call = new CompletableFuture<>();
+            calls.add(call);
+            return call;
+        });
+        awaitTrue(() -> calls.size() == 2);
+        assertEquals(1L, policy.getStatistics().get(AgentFrameworkType.SIMULATED).get("hedged"));
+    }
+
+    @Test
+    void skipsTheHedgeWithoutBudget() throws Exception {
+        HedgingPolicy policy = new HedgingPolicy(true, MIN_SAMPLES, 100, 0.0, 0, deadlineScheduler);
+        warmUp(policy, 0);
+
+        List<CompletableFuture<String>> calls = new CopyOnWriteArrayList<>();
+        CompletableFuture<String> result = policy.execute(AgentFrameworkType.SIMULATED, new HashMap<>(), attemptMetadata -> {
+            CompletableFuture<String> call = new CompletableFuture<>();
+            calls.add(call);
+            return call;
+        });
+        awaitTrue(() -> Long.valueOf(1).equals(policy.getStatistics().get(AgentFrameworkType.SIMULATED).get("budgetDenials")));
+
+        calls.get(0).complete("primary");
+
+        assertEquals("primary", result.get(5, TimeUnit.SECONDS));
+        assertEquals(1, calls.size());
+        assertEquals(0L, policy.getStatistics().get(AgentFrameworkType.SIMULATED).get("hedged"));
+    }
+
+    /**
+     * Record enough successful calls of the given latency for hedging to start
+     */
+    private static void warmUp(HedgingPolicy policy, long latencyMs) throws Exception {
+        for (int i = 0; i < MIN_SAMPLES; i++) {
+            policy.execute(AgentFrameworkType.SIMULATED, new HashMap<>(), metadata -> latencyMs > 0
+                    ? CompletableFuture.supplyAsync(() -> "warmup", CompletableFuture.delayedExecutor(latencyMs, TimeUnit.MILLISECONDS))
+                    : CompletableFuture.completedFuture("warmup")).get(5, TimeUnit.SECONDS);
+        }
+    }
+
+    private static void awaitTrue(BooleanSupplier condition) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (!condition.getAsBoolean()) {
+            assertTrue(System.nanoTime() < deadline, "condition not met within 5s");
+            Thread.sleep(5);
+        }
+    }
+}
@@ -0,0 +1,97 @@
+package com.agentframework.multi_agent_reliability.execution;
+
+import com.agentframework.multi_agent_reliability.dto.AgentExecutionRequest;
+import com.agentframework.multi_agent_reliability.model.AgentExecution;
+import com.agentframework.multi_agent_reliability.model.AgentFrameworkType;
+import org.junit.jupiter.api.Test;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class RequestCoalescerTest {
+
+    @Test
+    void followersOfACancelledLeaderStartAFreshFlight() {
+        RequestCoalescer coalescer = new RequestCoalescer(true);
+        ExecutionHandle leader = new ExecutionHandle(new AgentExecution());
+        ExecutionHandle first = new ExecutionHandle(new AgentExecution());
+        ExecutionHandle second = new ExecutionHandle(new AgentExecution());
+
+        assertNull(coalescer.joinOrLead("key", leader));
+        assertSame(leader, coalescer.joinOrLead("key", first));
+        assertSame(leader, coalescer.joinOrLead("key", second));
+
+        // Followers re-join from the leader's completion, as the orchestration does when a leader is
+        // cancelled. Dependents run before the coalescer's own cleanup of the leader.
+        AtomicReference<ExecutionHandle> firstRejoined = new AtomicReference<>();
+        AtomicReference<ExecutionHandle> secondRejoined = new AtomicReference<>();
+        AtomicInteger rejoins = new AtomicInteger();
+        leader.getCompletion().thenAccept(execution -> {
+            rejoins.incrementAndGet();
+            firstRejoined.set(coalescer.joinOrLead("key", first));
+        });
+        leader.getCompletion().thenAccept(execution -> {
+            rejoins.incrementAndGet();
+            secondRejoined.set(coalescer.joinOrLead("key", second));
+        });
+        assertTrue(leader.finish(AgentExecution::markAsCancelled));
+
+        // One follower leads the new flight and the other follows it, instead of both following the cancelled leader
+        assertEquals(2, rejoins.get());
+        ExecutionHandle newLeader = firstRejoined.get() == null ? first : second;
+        ExecutionHandle newFollowerLeader = firstRejoined.get() == null ? secondRejoined.get() : firstRejoined.get();
+        assertSame(newLeader, newFollowerLeader);
+        assertFalse(newLeader.isFinished());
+
+        assertEquals(2L, coalescer.getStatistics().get("led"));
+        assertEquals(3L, coalescer.getStatistics().get("coalesced"));
+        assertEquals(1, coalescer.getStatistics().get("inFlight"));
+
+        newLeader.finish(e -> e.markAsCompleted("done"));
+        assertEquals(0, coalescer.getStatistics().get("inFlight"));
+    }
+
+    @Test
+    void keysIgnoreWhitespaceAndMetadataOrderButNotFramework() {
+        RequestCoalescer coalescer = new RequestCoalescer(true);
+        Map<String, String> metadata = new LinkedHashMap<>();
+        metadata.put("temperature", "0");
+        metadata.put("model", "gpt-4o-mini");
+        Map<String, String> reordered = new LinkedHashMap<>();
+        reordered.put("model", "gpt-4o-mini");
+        reordered.put("temperature", "0");
+
+        String key = coalescer.keyFor(request(AgentFrameworkType.OPENAI_DIRECT, "Summarize", " text ", metadata));
+        assertEquals(key, coalescer.keyFor(request(AgentFrameworkType.OPENAI_DIRECT, "Summarize ", "text", reordered)));
+        assertNotEquals(key, coalescer.keyFor(request(AgentFrameworkType.SPRING_AI, "Summarize", "text", metadata)));
+    }
+
+    @Test
+    void neverCoalescesBenchmarkIterations() {
+        AgentExecutionRequest request = request(AgentFrameworkType.OPENAI_DIRECT, "Summarize", "text", null);
+        assertTrue(new RequestCoalescer(true).appliesTo(request));
+        assertFalse(new RequestCoalescer(false).appliesTo(request));
+
+        request.setBenchmarkRunId("run-1");
+        assertFalse(new RequestCoalescer(true).appliesTo(request));
+    }
+
+    private static AgentExecutionRequest request(AgentFrameworkType frameworkType, String description, String input,
+                                                 Map<String, String> metadata) {
+        AgentExecutionRequest request = new AgentExecutionRequest();
+        request.setFrameworkType(frameworkType);
+        request.setTaskDescription(description);
+        request.setTaskInput(input);
+        request.setMetadata(metadata);
+        return request;
+    }
+}
@@ -0,0 +1,105 @@
+package com.agentframework.multi_agent_reliability.execution;
+
+import com.agentframework.multi_agent_reliability.adapter.AgentAdapter;
+import com.agentframework.multi_agent_reliability.adapter.RenderedPrompt;
+import com.agentframework.multi_agent_reliability.dto.AgentExecutionRequest;
+import com.agentframework.multi_agent_reliability.model.AgentFrameworkType;
+import org.junit.jupiter.api.Test;
+
+import java.lang.reflect.Proxy;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class ResponseCacheTest {
+
+    private final ResponseCache cache = new ResponseCache(true, 100, 60);
+    private final AgentAdapter simulated = adapter(AgentFrameworkType.SIMULATED);
+    private final RenderedPrompt prompt = new RenderedPrompt("standard", "Task: summarize\nInput: text");
+
+    @Test
+    void cachesOnlyPromptsRunAtTemperatureZero() {
+        assertTrue(cache.keyFor(simulated, request(), metadata("0"), prompt).isPresent());
+        assertTrue(cache.keyFor(simulated, request(), metadata("0.0"), prompt).isPresent());
+
+        assertEquals(Optional.empty(), cache.keyFor(simulated, request(), metadata("0.7"), prompt));
+        assertEquals(Optional.empty(), cache.keyFor(simulated, request(), metadata("zero"), prompt));
+        assertEquals(Optional.empty(), cache.keyFor(simulated, request(), new HashMap<>(), prompt));
+    }
+
+    @Test
+    void keysOnFrameworkModelPromptAndGenerationParameters() {
+        String key = cache.keyFor(simulated, request(), metadata("0"), prompt).orElseThrow();
+
+        assertEquals(key, cache.keyFor(simulated, request(), metadata("0"), prompt).orElseThrow());
+        // Metadata that doesn't change the generation doesn't change the key
+        Map<String, String> tagged = metadata("0");
+        tagged.put("requestedBy", "dashboard");
+        assertEquals(key, cache.keyFor(simulated, request(), tagged, prompt).orElseThrow());
+
+        Map<String, String> shorter = metadata("0");
+        shorter.put("maxTokens", "50");
+        assertNotEquals(key, cache.keyFor(simulated, request(), shorter, prompt).orElseThrow());
+        Map<String, String> otherModel = metadata("0");
+        otherModel.put("model", "gpt-4o");
+        assertNotEquals(key, cache.keyFor(simulated, request(), otherModel, prompt).orElseThrow());
+        assertNotEquals(key, cache.keyFor(simulated, request(), metadata("0"),
+                new RenderedPrompt("standard", "Task: translate\nInput: text")).orElseThrow());
+        assertNotEquals(key, cache.keyFor(adapter(AgentFrameworkType.OPENAI_DIRECT), request(), metadata("0"), prompt).orElseThrow());
+    }
+
+    @Test
+    void skipsRequestsThatBypassTheCacheAndBenchmarkRuns() {
+        AgentExecutionRequest bypassing = request();
+        bypassing.setBypassCache(true);
+        assertEquals(Optional.empty(), cache.keyFor(simulated, bypassing, metadata("0"), prompt));
+
+        AgentExecutionRequest benchmarked = request();
+        benchmarked.setBenchmarkRunId("run-1");
+        assertEquals(Optional.empty(), cache.keyFor(simulated, benchmarked, metadata("0"), prompt));
+
+        ResponseCache disabled = new ResponseCache(false, 100, 60);
+        assertEquals(Optional.empty(), disabled.keyFor(simulated, request(), metadata("0"), prompt));
+    }
+
+    @Test
+    void returnsStoredResponses() {
+        String key = cache.keyFor(simulated, request(), metadata("0"), prompt).orElseThrow();
+        assertEquals(Optional.empty(), cache.get(key));
+
+        cache.put(key, "summary");
+
+        assertEquals(Optional.of("summary"), cache.get(key));
+        assertEquals(1L, cache.getStatistics().get("hits"));
+        assertEquals(1L, cache.getStatistics().get("misses"));
+    }
+
+    private static AgentExecutionRequest request() {
+        AgentExecutionRequest request = new AgentExecutionRequest();
+        request.setFrameworkType(AgentFrameworkType.SIMULATED);
+        request.setTaskDescription("summarize");
+        request.setTaskInput("text");
+        return request;
+    }
+
+    private static Map<String, String> metadata(String temperature) {
+        Map<String, String> metadata = new HashMap<>();
+        metadata.put("model", "simulated");
+        metadata.put("temperature", temperature);
+        return metadata;
+    }
+
+    private static AgentAdapter adapter(AgentFrameworkType frameworkType) {
+        return (AgentAdapter) Proxy.newProxyInstance(AgentAdapter.class.getClassLoader(),
+                new Class<?>[]{AgentAdapter.class}, (proxy, method, args) -> {
+                    if (method.getName().equals("getFrameworkType")) {
+                        return frameworkType;
+                    }
+                    throw new UnsupportedOperationException(method.getName());
+                });
+    }
+}
@@ -0,0 +1,152 @@
+package com.agentframework.multi_agent_reliability.execution;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.web.reactive.function.client.WebClientResponseException;
+
+import java.net.ConnectException;
+import java.net.SocketTimeoutException;
+import java.nio.charset.StandardCharsets;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class RetryPolicyTest {
+
+    private DeadlineScheduler deadlineScheduler;
+
+    @BeforeEach
+    void setUp() {
+        deadlineScheduler = new DeadlineScheduler(10, 64, Runnable::run);
+    }
+
+    @AfterEach
+    void tearDown() {
+        deadlineScheduler.stop();
+    }
+
+    @Test
+    void retriesOnlyTransientErrors() {
+        RetryPolicy policy = new RetryPolicy(1, 5, 0.2, 20, deadlineScheduler);
+
+        assertTrue(policy.isRetryable(httpError(429, new HttpHeaders())));
+        assertTrue(policy.isRetryable(httpError(500, new HttpHeaders())));
+        assertTrue(policy.isRetryable(httpError(503, new HttpHeaders())));
+        assertTrue(policy.isRetryable(new SocketTimeoutException("Read timed out")));
+        assertTrue(policy.isRetryable(new TimeoutException()));
+        assertTrue(policy.isRetryable(new ConnectException("Connection refused")));
+        // Adapters wrap the client exceptions
+        assertTrue(policy.isRetryable(new RuntimeException("Execution failed", httpError(502, new HttpHeaders()))));
+
+        assertFalse(policy.isRetryable(httpError(400, new HttpHeaders())));
+        assertFalse(policy.isRetryable(httpError(401, new HttpHeaders())));
+        assertFalse(policy.isRetryable(new IllegalArgumentException("Invalid task input or description")));
+    }
+
+    @Test
+    void retriesUntilAnAttemptSucceedsAndRecordsEveryAttempt() throws Exception {
+        RetryPolicy policy = new RetryPolicy(1, 5, 0.2, 20, deadlineScheduler);
+        AtomicInteger attempts = new AtomicInteger();
+        Map<String, String> metadata = new HashMap<>();
+
+        String result = policy.execute(() -> attempts.incrementAndGet() < 3
+                ? CompletableFuture.failedFuture(httpError(503, new HttpHeaders()))
+                : CompletableFuture.completedFuture("done"), 3, metadata).get(5, TimeUnit.SECONDS);
+
+        assertEquals("done", result);
+        assertEquals(3, attempts.get());
+        assertEquals("2", metadata.get(RetryPolicy.RETRY_COUNT_KEY));
+        assertEquals(3, metadata.get(RetryPolicy.ATTEMPT_LATENCIES_KEY).split(",").length);
+        assertEquals(2L, policy.getStatistics().get("retries"));
+    }
+
+    @Test
+    void failsAtOnceOnANonRetryableError() {
+        RetryPolicy policy = new RetryPolicy(1, 5, 0.2, 20, deadlineScheduler);
+        AtomicInteger attempts = new AtomicInteger();
+        Map<String, String> metadata = new HashMap<>();
+        WebClientResponseException badRequest = httpError(400, new HttpHeaders());
+
+        CompletableFuture<String> call = policy.execute(() -> {
+            attempts.incrementAndGet();
+            return CompletableFuture.failedFuture(badRequest);
+        }, 3, metadata);
+
+        ExecutionException failure = assertThrows(ExecutionException.class, () -> call.get(5, TimeUnit.SECONDS));
+        assertSame(badRequest, failure.getCause());
+        assertEquals(1, attempts.get());
+        assertFalse(metadata.containsKey(RetryPolicy.RETRY_COUNT_KEY));
+        assertEquals(1, metadata.get(RetryPolicy.ATTEMPT_LATENCIES_KEY).split(",").length);
+        assertEquals(1L, policy.getStatistics().get("nonRetryableFailures"));
+    }
+
+    @Test
+    void givesUpAfterMaxRetries() {
+        RetryPolicy policy = new RetryPolicy(1, 5, 0.2, 20, deadlineScheduler);
+        AtomicInteger attempts = new AtomicInteger();
+        Map<String, String> metadata = new HashMap<>();
+
+        CompletableFuture<String> call = policy.execute(() -> {
+            attempts.incrementAndGet();
+            return CompletableFuture.failedFuture(httpError(500, new HttpHeaders()));
+        }, 2, metadata);
+
+        assertThrows(ExecutionException.class, () -> call.get(5, TimeUnit.SECONDS));
+        assertEquals(3, attempts.get());
+        assertEquals("2", metadata.get(RetryPolicy.RETRY_COUNT_KEY));
+        assertEquals(3, metadata.get(RetryPolicy.ATTEMPT_LATENCIES_KEY).split(",").length);
+    }
+
+    @Test
+    void stopsRetryingOnceTheBudgetIsExhausted() {
+        // One retry token and no refill from first attempts
+        RetryPolicy policy = new RetryPolicy(1, 5, 0.0, 1, deadlineScheduler);
+        AtomicInteger attempts = new AtomicInteger();
+        Map<String, String> metadata = new HashMap<>();
+
+        CompletableFuture<String> call = policy.execute(() -> {
+            attempts.incrementAndGet();
+            return CompletableFuture.failedFuture(httpError(503, new HttpHeaders()));
+        }, 5, metadata);
+
+        assertThrows(ExecutionException.class, () -> call.get(5, TimeUnit.SECONDS));
+        assertEquals(2, attempts.get());
+        assertEquals("true", metadata.get(RetryPolicy.RETRY_BUDGET_EXHAUSTED_KEY));
+        assertEquals("1", metadata.get(RetryPolicy.RETRY_COUNT_KEY));
+        assertEquals(1L, policy.getStatistics().get("budgetDenials"));
+    }
+
+    @Test
+    void waitsAtLeastAsLongAsRetryAfterAsks() throws Exception {
+        RetryPolicy policy = new RetryPolicy(1, 5, 0.2, 20, deadlineScheduler);
+        HttpHeaders headers = new HttpHeaders();
+        headers.set("retry-after-ms", "300");
+        AtomicInteger attempts = new AtomicInteger();
+
+        long start = System.nanoTime();
+        policy.execute(() -> attempts.incrementAndGet() == 1
+                ? CompletableFuture.failedFuture(httpError(429, headers))
+                : CompletableFuture.completedFuture("done"), 1, new HashMap<>()).get(5, TimeUnit.SECONDS);
+        long waitedMs = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+
+        assertEquals(2, attempts.get());
+        assertTrue(waitedMs >= 290, "waited " + waitedMs + "ms");
+    }
+
+    private static WebClientResponseException httpError(int status, HttpHeaders headers) {
+        return WebClientResponseException.create(status, "Error " + status, headers,
+                "{}".getBytes(StandardCharsets.UTF_8), StandardCharsets.UTF_8);
+    }
+}
@@ -0,0 +1,48 @@
+package com.agentframework.multi_agent_reliability.service;
+
+import com.agentframework.multi_agent_reliability.model.AgentFrameworkType;
+import com.agentframework.multi_agent_reliability.model.ExecutionStatus;
+import org.junit.jupiter.api.Test;
+
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class BenchmarkProgressTest {
+
+    @Test
+    void tracksOutcomesPerFrameworkInCompletionOrder() {
+        BenchmarkProgress progress = new BenchmarkProgress();
+        progress.setExpected(4);
+        assertNull(progress.getEtaMs());
+
+        progress.record(AgentFrameworkType.SIMULATED, ExecutionStatus.COMPLETED, 100L);
+        progress.record(AgentFrameworkType.OPENAI_DIRECT, ExecutionStatus.TIMEOUT, null);
+        assertEquals(3, progress.record(AgentFrameworkType.SIMULATED, ExecutionStatus.COMPLETED, 300L));
+
+        Map<String, Object> simulated = progress.getFrameworkProgress().get(AgentFrameworkType.SIMULATED);
+        assertEquals(2L, simulated.get("completed"));
+        assertEquals(200.0, simulated.get("averageResponseTimeMs"));
+        assertEquals(100.0, simulated.get("successRate"));
+        assertEquals(1L, progress.getFrameworkProgress().get(AgentFrameworkType.OPENAI_DIRECT).get("timedOut"));
+        assertNotNull(progress.getEtaMs());
+
+        progress.record(AgentFrameworkType.OPENAI_DIRECT, ExecutionStatus.FAILED, 50L);
+        assertEquals(0L, progress.getEtaMs());
+        assertEquals(100.0, progress.toMap().get("progress"));
+    }
+
+    @Test
+    void measuresElapsedTimeFromTheStartOfMeasurement() throws InterruptedException {
+        BenchmarkProgress progress = new BenchmarkProgress();
+        // e.g. warmup
+        Thread.sleep(200);
+        assertTrue(progress.getElapsedMs() >= 200);
+
+        progress.startClock();
+        assertTrue(progress.getElapsedMs() < 200);
+    }
+}
@@ -0,0 +1,211 @@
+package com.agentframework.multi_agent_reliability.service;
+
+import com.agentframework.multi_agent_reliability.dto.AgentExecutionRequest;
+import com.agentframework.multi_agent_reliability.dto.AgentExecutionResponse;
+import com.agentframework.multi_agent_reliability.dto.BenchmarkRequest;
+import com.agentframework.multi_agent_reliability.model.AgentFrameworkType;
+import com.agentframework.multi_agent_reliability.model.BenchmarkExecutionMode;
+import com.agentframework.multi_agent_reliability.model.BenchmarkRun;
+import com.agentframework.multi_agent_reliability.model.BenchmarkRun.BenchmarkRunStatus;
+import com.agentframework.multi_agent_reliability.model.BenchmarkTask;
+import com.agentframework.multi_agent_reliability.model.ExecutionStatus;
+import com.agentframework.multi_agent_reliability.model.ReliabilityMetrics;
+import com.agentframework.multi_agent_reliability.repository.AgentExecutionRepository;
+import com.agentframework.multi_agent_reliability.repository.BenchmarkRunRepository;
+import com.agentframework.multi_agent_reliability.repository.BenchmarkTaskRepository;
+import org.junit.jupiter.api.Test;
+
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.Proxy;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class BenchmarkServiceTest {
+
+    private final StubOrchestrationService orchestration = new StubOrchestrationService();
+    // Runs everything on the calling thread, so each completion starts the next execution before returning
+    private final BenchmarkService benchmarkService = new BenchmarkService(
+            taskRepository(), executionRepository(), orchestration, new NoMetricsService(),
+            new NoNotificationService(), new BenchmarkRunRegistry(runRepository()), Runnable::run);
+
+    @Test
+    void keepsAtMostTheWindowInFlightPerFramework() throws Exception {
+        BenchmarkRequest request = request(BenchmarkExecutionMode.WINDOWED, 5,
+                AgentFrameworkType.OPENAI_DIRECT, AgentFrameworkType.SPRING_AI);
+        request.setConcurrency(2);
+
+        CompletableFuture<BenchmarkRun> run = benchmarkService.executeBenchmark(request);
+        assertEquals(4, orchestration.started.size());
+
+        orchestration.completeAll();
+
+        assertEquals(10, orchestration.started.size());
+        assertEquals(2, orchestration.maxInFlight.get(AgentFrameworkType.OPENAI_DIRECT));
+        assertEquals(2, orchestration.maxInFlight.get(AgentFrameworkType.SPRING_AI));
+        BenchmarkRun finished = run.get(5, TimeUnit.SECONDS);
+        assertEquals(BenchmarkRunStatus.COMPLETED, finished.getStatus());
+        assertEquals(10, finished.getTotalExecutions());
+    }
+
+    @Test
+    void interleavesFrameworksRoundRobinThroughOneWindow() throws Exception {
+        BenchmarkRequest request = request(BenchmarkExecutionMode.INTERLEAVED, 3,
+                AgentFrameworkType.OPENAI_DIRECT, AgentFrameworkType.SPRING_AI);
+
+        CompletableFuture<BenchmarkRun> run = benchmarkService.executeBenchmark(request);
+        orchestration.completeAll();
+
+        List<String> order = orchestration.started.stream()
+                .map(execution -> execution.request().getFrameworkType() + "#" + execution.request().getMetadata().get("iteration"))
+                .collect(Collectors.toList());
+        assertEquals(List.of("OPENAI_DIRECT#1", "SPRING_AI#1", "OPENAI_DIRECT#2", "SPRING_AI#2",
+                "OPENAI_DIRECT#3", "SPRING_AI#3"), order);
+        assertEquals(1, orchestration.maxInFlight.values().stream().mapToInt(Integer::intValue).max().orElse(0));
+        assertEquals(BenchmarkRunStatus.COMPLETED, run.get(5, TimeUnit.SECONDS).getStatus());
+    }
+
+    @Test
+    void skipsQueuedExecutionsOnceTheRunIsCancelled() throws Exception {
+        BenchmarkRequest request = request(BenchmarkExecutionMode.SEQUENTIAL, 5, AgentFrameworkType.OPENAI_DIRECT);
+
+        CompletableFuture<BenchmarkRun> run = benchmarkService.executeBenchmark(request);
+        assertEquals(1, orchestration.started.size());
+        String runId = orchestration.started.get(0).request().getBenchmarkRunId();
+
+        assertTrue(benchmarkService.cancelBenchmark(runId));
+        orchestration.completeAll();
+
+        assertEquals(1, orchestration.started.size());
+        BenchmarkRun finished = run.get(5, TimeUnit.SECONDS);
+        assertEquals(BenchmarkRunStatus.CANCELLED, finished.getStatus());
+        assertEquals(1, finished.getTotalExecutions());
+    }
+
+    private static BenchmarkRequest request(BenchmarkExecutionMode mode, int iterations, AgentFrameworkType... frameworkTypes) {
+        BenchmarkRequest request = new BenchmarkRequest("lanes", 1L, List.of(frameworkTypes));
+        request.setExecutionMode(mode);
+        request.setIterations(iterations);
+        return request;
+    }
+
+    private static BenchmarkTaskRepository taskRepository() {
+        BenchmarkTask task = new BenchmarkTask("lanes", "summarize", "text", BenchmarkTask.TaskComplexity.SIMPLE);
+        task.setId(1L);
+        return repository(BenchmarkTaskRepository.class, (proxy, method, args) -> {
+            if (method.getName().equals("findById")) {
+                return Optional.of(task);
+            }
+            throw new UnsupportedOperationException(method.getName());
+        });
+    }
+
+    private static AgentExecutionRepository executionRepository() {
+        return repository(AgentExecutionRepository.class, (proxy, method, args) -> {
+            if (method.getName().equals("getExecutionStatsByBenchmarkRun")) {
+                return List.of();
+            }
+            throw new UnsupportedOperationException(method.getName());
+        });
+    }
+
+    private static BenchmarkRunRepository runRepository() {
+        return repository(BenchmarkRunRepository.class, (proxy, method, args) -> {
+            if (method.getName().equals("save")) {
+                return args[0];
+            }
+            throw new UnsupportedOperationException(method.getName());
+        });
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <T> T repository(Class<T> type, InvocationHandler handler) {
+        return (T) Proxy.newProxyInstance(type.getClassLoader(), new Class<?>[]{type}, handler);
+    }
+
+    private record StartedExecution(AgentExecutionRequest request, CompletableFuture<AgentExecutionResponse> execution) {
+    }
+
+    /**
+     * Starts nothing: each execution stays running until the test completes it
+     */
+    private static final class StubOrchestrationService extends AgentOrchestrationService {
+        private final List<StartedExecution> started = new CopyOnWriteArrayList<>();
+        private final Map<AgentFrameworkType, AtomicInteger> inFlight = new ConcurrentHashMap<>();
+        private final Map<AgentFrameworkType, Integer> maxInFlight = new ConcurrentHashMap<>();
+
+        private StubOrchestrationService() {
+            super(null, null, null, null, null, null, null, null, null, null, null, null, null, null, 0, List.of());
+        }
+
+        @Override
+        public CompletableFuture<AgentExecutionResponse> executeTaskAsync(AgentExecutionRequest request) {
+            int running = inFlight.computeIfAbsent(request.getFrameworkType(), type -> new AtomicInteger()).incrementAndGet();
+            maxInFlight.merge(request.getFrameworkType(), running, Math::max);
+            CompletableFuture<AgentExecutionResponse> execution = new CompletableFuture<>();
+            started.add(new StartedExecution(request, execution));
+            return execution;
+        }
+
+        /**
+         * Complete every execution in start order, including those started by earlier completions
+         */
+        private void completeAll() {
+            for (int i = 0; i < started.size(); i++) {
+                StartedExecution current = started.get(i);
+                inFlight.get(current.request().getFrameworkType()).decrementAndGet();
+                AgentExecutionResponse response = new AgentExecutionResponse((long) i, current.request().getFrameworkType(),
+                        ExecutionStatus.COMPLETED);
+                response.setExecutionDurationMs(100L);
+                current.execution().complete(response);
+            }
+        }
+
+        @Override
+        public int cancelBenchmarkExecutions(String benchmarkRunId) {
+            return 0;
+        }
+
+        @Override
+        public void releaseBenchmarkRun(String benchmarkRunId) {
+        }
+    }
+
+    private static final class NoMetricsService extends MetricsCollectionService {
+        private NoMetricsService() {
+            super(null, null, null, null, null);
+        }
+
+        @Override
+        public CompletableFuture<ReliabilityMetrics> calculateFrameworkMetrics(String benchmarkRunId, AgentFrameworkType frameworkType) {
+            return CompletableFuture.completedFuture(null);
+        }
+    }
+
+    private static final class NoNotificationService extends WebSocketNotificationService {
+        private NoNotificationService() {
+            super(null);
+        }
+
+        @Override
+        public void sendBenchmarkUpdate(BenchmarkRun benchmarkRun) {
+        }
+
+        @Override
+        public void sendBenchmarkProgress(String benchmarkRunId, Map<String, Object> progress) {
+        }
+
+        @Override
+        public void sendProgressUpdate(String operationId, String operationType, int currentStep, int totalSteps, String currentTask) {
+        }
+    }
+}
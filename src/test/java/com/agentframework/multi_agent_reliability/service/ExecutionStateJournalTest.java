@@ -0,0 +1,183 @@
+package com.agentframework.multi_agent_reliability.service;
+
+import com.agentframework.multi_agent_reliability.model.AgentExecution;
+import com.agentframework.multi_agent_reliability.repository.AgentExecutionRepository;
+import org.junit.jupiter.api.Test;
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.ParameterizedPreparedStatementSetter;
+import org.springframework.transaction.support.TransactionCallback;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.lang.reflect.Proxy;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class ExecutionStateJournalTest {
+
+    private final FakeDatabase database = new FakeDatabase();
+    private final ExecutionStateJournal journal = new ExecutionStateJournal(
+            repository(), database, new FakeTransactionTemplate(database), 60_000, 100);
+
+    @Test
+    void dropsARowTheDatabaseRejectsAndWritesTheRest() {
+        database.rejectedIds.add(2L);
+
+        journal.record(running(1L));
+        journal.record(running(2L));
+        AgentExecution failed = running(3L);
+        failed.markAsFailed("x".repeat(5000));
+        failed.setMetadata(Map.of("systemPrompt", "y".repeat(5000)));
+        journal.record(failed);
+
+        assertEquals(Set.of(1L, 3L), database.committedStates.keySet());
+        assertEquals(AgentExecution.MAX_ERROR_MESSAGE_LENGTH, database.committedStates.get(3L).length());
+        assertEquals(AgentExecution.MAX_METADATA_VALUE_LENGTH, database.committedMetadata.get(3L).get("systemPrompt").length());
+
+        Map<String, Object> stats = journal.getStatistics();
+        assertEquals(0, stats.get("pending"));
+        assertEquals(1L, stats.get("droppedTransitions"));
+        assertEquals(2L, stats.get("writtenTransitions"));
+    }
+
+    @Test
+    void keepsEverythingBufferedWhileTheDatabaseIsUnavailable() {
+        database.available = false;
+
+        journal.record(running(1L));
+        AgentExecution completed = running(2L);
+        completed.markAsCompleted("done");
+        journal.record(completed);
+
+        assertEquals(2, journal.getStatistics().get("pending"));
+        assertEquals(0L, journal.getStatistics().get("droppedTransitions"));
+
+        database.available = true;
+        AgentExecution cancelled = running(3L);
+        cancelled.markAsCancelled();
+        journal.record(cancelled);
+
+        assertEquals(Set.of(1L, 2L, 3L), database.committedStates.keySet());
+        assertEquals(0, journal.getStatistics().get("pending"));
+    }
+
+    private static AgentExecution running(Long id) {
+        AgentExecution execution = new AgentExecution();
+        execution.setId(id);
+        execution.markAsStarted();
+        return execution;
+    }
+
+    private static AgentExecutionRepository repository() {
+        return (AgentExecutionRepository) Proxy.newProxyInstance(AgentExecutionRepository.class.getClassLoader(),
+                new Class<?>[]{AgentExecutionRepository.class}, (proxy, method, args) -> {
+                    throw new UnsupportedOperationException(method.getName());
+                });
+    }
+
+    /**
+     * Records written state and metadata per execution, committing them only with their transaction
+     */
+    private static final class FakeDatabase extends JdbcTemplate {
+        private final Set<Long> rejectedIds = new HashSet<>();
+        private boolean available = true;
+
+        private final Map<Long, String> stagedStates = new HashMap<>();
+        private final Map<Long, Map<String, String>> stagedMetadata = new HashMap<>();
+        private final Map<Long, String> committedStates = new HashMap<>();
+        private final Map<Long, Map<String, String>> committedMetadata = new HashMap<>();
+
+        @Override
+        public <T> int[][] batchUpdate(String sql, Collection<T> batchArgs, int batchSize,
+                                       ParameterizedPreparedStatementSetter<T> setter) {
+            checkAvailable();
+            for (T argument : batchArgs) {
+                Map<Integer, Object> parameters = new HashMap<>();
+                try {
+                    setter.setValues(statement(parameters), argument);
+                } catch (SQLException e) {
+                    throw new IllegalStateException(e);
+                }
+                Long id = (Long) parameters.get(14);
+                if (rejectedIds.contains(id)) {
+                    throw new DataIntegrityViolationException("Value too long for execution " + id);
+                }
+                String errorMessage = (String) parameters.get(6);
+                stagedStates.put(id, errorMessage != null ? errorMessage : "");
+            }
+            return new int[0][];
+        }
+
+        @Override
+        public int[] batchUpdate(String sql, List<Object[]> batchArgs) {
+            checkAvailable();
+            for (Object[] row : batchArgs) {
+                Long id = (Long) row[0];
+                Map<String, String> metadata = stagedMetadata.computeIfAbsent(id, key -> new HashMap<>());
+                if (sql.startsWith("DELETE")) {
+                    metadata.clear();
+                } else {
+                    metadata.put((String) row[1], (String) row[2]);
+                }
+            }
+            return new int[batchArgs.size()];
+        }
+
+        private void checkAvailable() {
+            if (!available) {
+                throw new DataAccessResourceFailureException("Connection refused");
+            }
+        }
+
+        private void commit() {
+            committedStates.putAll(stagedStates);
+            committedMetadata.putAll(stagedMetadata);
+            rollback();
+        }
+
+        private void rollback() {
+            stagedStates.clear();
+            stagedMetadata.clear();
+        }
+
+        private static PreparedStatement statement(Map<Integer, Object> parameters) {
+            return (PreparedStatement) Proxy.newProxyInstance(PreparedStatement.class.getClassLoader(),
+                    new Class<?>[]{PreparedStatement.class}, (proxy, method, args) -> {
+                        if (method.getName().startsWith("set") && args != null && args.length >= 2) {
+                            parameters.put((Integer) args[0], method.getName().equals("setNull") ? null : args[1]);
+                        }
+                        return null;
+                    });
+        }
+    }
+
+    private static final class FakeTransactionTemplate extends TransactionTemplate {
+        private final FakeDatabase database;
+
+        private FakeTransactionTemplate(FakeDatabase database) {
+            this.database = database;
+        }
+
+        @Override
+        public <T> T execute(TransactionCallback<T> action) {
+            try {
+                T result = action.doInTransaction(null);
+                database.commit();
+                return result;
+            } catch (RuntimeException e) {
+                database.rollback();
+                throw e;
+            }
+        }
+    }
+}
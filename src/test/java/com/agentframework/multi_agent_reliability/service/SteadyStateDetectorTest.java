@@ -0,0 +1,38 @@
+package com.agentframework.multi_agent_reliability.service;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class SteadyStateDetectorTest {
+
+    @Test
+    void isNotStableUntilTheWindowIsFull() {
+        SteadyStateDetector detector = new SteadyStateDetector(3, 10.0);
+        assertNull(detector.getCoefficientOfVariationPercent());
+        detector.record(100);
+        detector.record(100);
+        assertFalse(detector.isStable());
+        detector.record(100);
+        assertTrue(detector.isStable());
+        assertEquals(0.0, detector.getCoefficientOfVariationPercent(), 1e-9);
+    }
+
+    @Test
+    void becomesStableOnceColdStartLatenciesLeaveTheWindow() {
+        SteadyStateDetector detector = new SteadyStateDetector(3, 10.0);
+        detector.record(2400);
+        detector.record(900);
+        detector.record(210);
+        assertFalse(detector.isStable());
+
+        detector.record(200);
+        assertFalse(detector.isStable());
+        detector.record(190);
+        assertTrue(detector.isStable());
+        assertEquals(5.0, detector.getCoefficientOfVariationPercent(), 1e-9);
+    }
+}
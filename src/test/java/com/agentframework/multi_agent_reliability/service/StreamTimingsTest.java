@@ -0,0 +1,52 @@
+package com.agentframework.multi_agent_reliability.service;
+
+import com.agentframework.multi_agent_reliability.model.AgentExecution;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class StreamTimingsTest {
+
+    @Test
+    void recordsTimeToFirstTokenAndInterTokenLatency() throws InterruptedException {
+        StreamTimings timings = new StreamTimings();
+        timings.start();
+
+        Thread.sleep(50);
+        assertEquals(0, timings.onChunk());
+        Thread.sleep(20);
+        assertEquals(1, timings.onChunk());
+        Thread.sleep(20);
+        assertEquals(2, timings.onChunk());
+
+        AgentExecution execution = new AgentExecution();
+        timings.applyTo(execution);
+
+        assertEquals(3, execution.getStreamChunkCount());
+        assertTrue(execution.getTimeToFirstTokenMs() >= 50, "TTFT " + execution.getTimeToFirstTokenMs());
+        // Two gaps of at least 20 ms between three chunks
+        assertTrue(execution.getInterTokenLatencyMs() >= 20, "inter-token " + execution.getInterTokenLatencyMs());
+        assertTrue(execution.getInterTokenLatencyMs() < execution.getTimeToFirstTokenMs());
+    }
+
+    @Test
+    void leavesLatenciesUnsetWithoutEnoughChunks() {
+        StreamTimings empty = new StreamTimings();
+        empty.start();
+        AgentExecution noChunks = new AgentExecution();
+        empty.applyTo(noChunks);
+        assertEquals(0, noChunks.getStreamChunkCount());
+        assertNull(noChunks.getTimeToFirstTokenMs());
+        assertNull(noChunks.getInterTokenLatencyMs());
+
+        StreamTimings single = new StreamTimings();
+        single.start();
+        single.onChunk();
+        AgentExecution oneChunk = new AgentExecution();
+        single.applyTo(oneChunk);
+        assertTrue(oneChunk.getTimeToFirstTokenMs() >= 0);
+        assertNull(oneChunk.getInterTokenLatencyMs());
+    }
+}